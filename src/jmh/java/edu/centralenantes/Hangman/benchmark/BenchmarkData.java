@@ -0,0 +1,59 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Génération de données déterministes pour les benchmarks.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class BenchmarkData {
+
+    /** Graine commune : les jeux de données sont identiques d'une exécution à l'autre. */
+    static final long SEED = 20260118L;
+
+    /** Ordre de proposition utilisé pour jouer une partie complète. */
+    static final String GUESS_ORDER = "EASIRNTOLUDCMPGBVHFQYXJKWZ";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Génère un mot aléatoire en majuscules.
+     * @param random générateur
+     * @param length longueur du mot
+     * @return le mot
+     */
+    static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('A' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Écrit un dictionnaire de mots aléatoires (4 à 12 lettres) dans un fichier temporaire.
+     * @param size nombre de mots
+     * @return le chemin du fichier créé
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    static Path writeDictionary(int size) throws IOException {
+        Path file = Files.createTempFile("hangman-bench-", ".txt");
+        file.toFile().deleteOnExit();
+        Random random = new Random(SEED);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < size; i++) {
+                writer.write(randomWord(random, 4 + random.nextInt(9)));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+}
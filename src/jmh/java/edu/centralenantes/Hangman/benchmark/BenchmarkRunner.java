@@ -0,0 +1,37 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point d'entrée du JAR de benchmarks.
+ *
+ * Accepte les mêmes options que la ligne de commande JMH et active
+ * systématiquement le profileur GC, afin que chaque mesure de débit soit
+ * accompagnée du taux d'allocation (gc.alloc.rate.norm).
+ *
+ * Exemple : java -jar target/benchmarks.jar GameState -p wordLength=8
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @param args options JMH
+     * @throws Exception si les options sont invalides ou si l'exécution échoue
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,97 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.data.DictionaryCompiler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de {@link Dictionary} : chargement du fichier texte ou compilé
+ * ({@link DictionaryCompiler}) et tirage aléatoire.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DictionaryBenchmark {
+
+    @Param({"300", "50000", "5000000"})
+    private int dictionarySize;
+
+    private Path file;
+    private Path compiled;
+    private Dictionary loaded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = BenchmarkData.writeDictionary(dictionarySize);
+        compiled = Files.createTempFile("hangman-bench-", ".bin");
+        compiled.toFile().deleteOnExit();
+        DictionaryCompiler.compile(file, compiled, true, true);
+        loaded = new Dictionary();
+        loaded.loadFromFile(file.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(compiled);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Dictionary loadFromFile() throws IOException {
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        return dictionary;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Dictionary loadCompiled() throws IOException {
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(compiled.toString());
+        return dictionary;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String getRandomWord() {
+        return loaded.getRandomWord();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String getRandomWordByLength() {
+        return loaded.getRandomWord(6, 8);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String getRandomWordByDifficulty() {
+        return loaded.getRandomWord(Dictionary.Difficulty.HARD);
+    }
+}
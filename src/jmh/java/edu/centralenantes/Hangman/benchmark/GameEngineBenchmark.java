@@ -0,0 +1,74 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.engine.GameEngine;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de {@link GameEngine} : proposition isolée et partie complète,
+ * lettre par lettre ou en un seul lot.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+
+    @Param({"4", "8", "16", "32", "64"})
+    private int wordLength;
+
+    private final GameEngine engine = new GameEngine();
+    private String secret;
+
+    @Setup
+    public void setUp() {
+        secret = BenchmarkData.randomWord(new Random(BenchmarkData.SEED), wordLength);
+    }
+
+    /**
+     * Démarre une partie puis propose une lettre correcte.
+     */
+    @Benchmark
+    public boolean startAndGuessLetter() {
+        engine.startNewGame(secret, 6);
+        return engine.guessLetter(secret.charAt(0));
+    }
+
+    /**
+     * Joue une partie complète dans un ordre de fréquence fixe.
+     */
+    @Benchmark
+    public boolean fullPlayout() {
+        engine.startNewGame(secret, 6);
+        for (int i = 0; !engine.isGameOver(); i++) {
+            engine.guessLetter(BenchmarkData.GUESS_ORDER.charAt(i));
+        }
+        return engine.hasWon();
+    }
+
+    /**
+     * Joue la même partie en proposant toutes les lettres en un seul lot.
+     */
+    @Benchmark
+    public boolean fullPlayoutBatch() {
+        engine.startNewGame(secret, 6);
+        engine.guessLetters(BenchmarkData.GUESS_ORDER);
+        return engine.hasWon();
+    }
+}
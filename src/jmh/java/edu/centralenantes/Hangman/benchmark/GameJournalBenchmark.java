@@ -0,0 +1,117 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.engine.GameSessionManager;
+import edu.centralenantes.Hangman.journal.GameJournal;
+import edu.centralenantes.Hangman.model.GameState;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de {@link GameJournal} : coût d'un ajout et relecture
+ * complète d'un journal.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GameJournalBenchmark {
+
+    /** Journal rempli de parties jouées jusqu'au bout, relu en entier. */
+    @State(Scope.Benchmark)
+    public static class Filled {
+
+        @Param({"1000000", "10000000"})
+        int events;
+
+        Path directory;
+        GameJournal journal;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-bench");
+            // Un seul segment : pas de compactage pendant le remplissage
+            journal = GameJournal.open(directory, events + 64, 10);
+            GameSessionManager sessions = new GameSessionManager(journal);
+            Random random = new Random(BenchmarkData.SEED);
+            while (journal.getAppendedCount() < events - 32) {
+                long id = sessions.startNewGame(BenchmarkData.randomWord(random, 4 + random.nextInt(8)), 6);
+                GameState state = sessions.getState(id);
+                for (int i = 0; state.getStatus() == GameState.Status.IN_PROGRESS; i++) {
+                    state = sessions.guessLetter(id, BenchmarkData.GUESS_ORDER.charAt(i)).getState();
+                }
+                sessions.endSession(id);
+            }
+            journal.sync();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            deleteDirectory(directory);
+        }
+    }
+
+    /** Journal vide qui reçoit les ajouts. */
+    @State(Scope.Benchmark)
+    public static class Empty {
+
+        Path directory;
+        GameJournal journal;
+        long sessionId;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-bench");
+            journal = GameJournal.open(directory);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            deleteDirectory(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<Long, GameState> replay(Filled filled) throws IOException {
+        return filled.journal.replay();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void appendGuess(Empty empty) {
+        empty.journal.onGuess(++empty.sessionId, 'E');
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
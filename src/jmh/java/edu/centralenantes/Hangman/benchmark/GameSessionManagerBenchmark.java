@@ -0,0 +1,80 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.engine.GameSessionManager;
+import edu.centralenantes.Hangman.engine.GuessResult;
+import edu.centralenantes.Hangman.model.GameState;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link GameSessionManager} : propositions concurrentes sur
+ * un grand nombre de sessions.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class GameSessionManagerBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int sessions;
+
+    private final GameSessionManager manager = new GameSessionManager();
+    private long firstId;
+    private String secret;
+
+    @Setup
+    public void setUp() {
+        secret = BenchmarkData.randomWord(new Random(BenchmarkData.SEED), 8);
+        firstId = manager.startNewGame(secret, 6);
+        for (int i = 1; i < sessions; i++) {
+            manager.startNewGame(secret, 6);
+        }
+    }
+
+    /** Générateur propre à chaque thread. */
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    /**
+     * Propose une lettre dans une session tirée au hasard, et relance la
+     * partie quand elle est terminée.
+     */
+    @Benchmark
+    public GuessResult guessLetter(ThreadRandom local) {
+        long id = firstId + local.random.nextInt(sessions);
+        char letter = (char) ('A' + local.random.nextInt(26));
+        try {
+            return manager.guessLetter(id, letter);
+        } catch (IllegalStateException e) {
+            manager.startNewGame(id, secret, 6);
+            return null;
+        }
+    }
+
+    @Benchmark
+    public GameState getState(ThreadRandom local) {
+        return manager.getState(firstId + local.random.nextInt(sessions));
+    }
+}
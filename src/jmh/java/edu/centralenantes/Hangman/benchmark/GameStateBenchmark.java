@@ -0,0 +1,117 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.MutableGameState;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de {@link GameState} : proposition de lettre et mot masqué,
+ * et partie complète sous forme immuable ou modifiable ({@link MutableGameState}).
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateBenchmark {
+
+    @Param({"4", "8", "16", "32", "64"})
+    private int wordLength;
+
+    private GameState initial;
+    private GameState halfRevealed;
+    private MutableGameState mutable;
+    private char hit;
+    private char miss;
+
+    @Setup
+    public void setUp() {
+        String secret = BenchmarkData.randomWord(new Random(BenchmarkData.SEED), wordLength);
+        initial = new GameState(secret, 6);
+        hit = secret.charAt(0);
+        miss = 'A';
+        while (secret.indexOf(miss) >= 0 && miss < 'Z') {
+            miss++;
+        }
+
+        halfRevealed = initial;
+        for (int i = 0; i < secret.length() / 2; i++) {
+            if (halfRevealed.getStatus() == GameState.Status.IN_PROGRESS) {
+                halfRevealed = halfRevealed.proposeLettre(secret.charAt(i));
+            }
+        }
+        halfRevealed.getMaskedWord();
+        mutable = new MutableGameState(secret, 6);
+    }
+
+    @Benchmark
+    public GameState proposeLettreHit() {
+        return initial.proposeLettre(hit);
+    }
+
+    @Benchmark
+    public GameState proposeLettreMiss() {
+        return initial.proposeLettre(miss);
+    }
+
+    @Benchmark
+    public String getMaskedWord() {
+        return halfRevealed.getMaskedWord();
+    }
+
+    /**
+     * Mot masqué après une lettre fausse : reprend celui de l'état précédent.
+     */
+    @Benchmark
+    public String proposeMissThenMask() {
+        return halfRevealed.proposeLettre(miss).getMaskedWord();
+    }
+
+    /**
+     * Mot masqué après une lettre juste : reconstruit une seule fois.
+     */
+    @Benchmark
+    public String proposeHitThenMask() {
+        return initial.proposeLettre(hit).getMaskedWord();
+    }
+
+    /**
+     * Partie complète, une instance par proposition.
+     */
+    @Benchmark
+    public GameState.Status fullPlayoutImmutable() {
+        GameState state = new GameState(initial.getSecretWord(), 6);
+        for (int i = 0; state.getStatus() == GameState.Status.IN_PROGRESS; i++) {
+            state = state.proposeLettre(BenchmarkData.GUESS_ORDER.charAt(i));
+        }
+        return state.getStatus();
+    }
+
+    /**
+     * Même partie, rejouée dans une instance réinitialisée.
+     */
+    @Benchmark
+    public GameState.Status fullPlayoutMutable() {
+        mutable.reset(initial.getSecretWord(), 6);
+        for (int i = 0; mutable.getStatus() == GameState.Status.IN_PROGRESS; i++) {
+            mutable.proposeLettre(BenchmarkData.GUESS_ORDER.charAt(i));
+        }
+        return mutable.getStatus();
+    }
+}
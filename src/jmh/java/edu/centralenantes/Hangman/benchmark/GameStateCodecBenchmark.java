@@ -0,0 +1,132 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.codec.GameStateCodec;
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.model.GameState;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de {@link GameStateCodec} face à la sérialisation Java, sur
+ * un lot de {@value #STATES} parties à des stades variés.
+ *
+ * Taille d'un état : 24 octets (INLINE), 12 octets (INDEXED) ; la taille
+ * obtenue par sérialisation Java est affichée au démarrage.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GameStateCodecBenchmark {
+
+    private static final int STATES = 10_000;
+
+    private Path file;
+    private List<GameState> states;
+    private GameStateCodec inline;
+    private GameStateCodec indexed;
+    private ByteBuffer inlineBytes;
+    private ByteBuffer indexedBytes;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = BenchmarkData.writeDictionary(50_000);
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        inline = GameStateCodec.inline();
+        indexed = GameStateCodec.indexed(dictionary);
+
+        Random random = new Random(BenchmarkData.SEED);
+        states = new ArrayList<>(STATES);
+        for (int i = 0; i < STATES; i++) {
+            GameState state = new GameState(dictionary.getWord(random.nextInt(dictionary.getWordCount())), 6);
+            for (int guesses = random.nextInt(8); guesses > 0 && state.getStatus() == GameState.Status.IN_PROGRESS; guesses--) {
+                state = state.proposeLettre((char) ('A' + random.nextInt(26)));
+            }
+            states.add(state);
+        }
+
+        inlineBytes = ByteBuffer.allocateDirect(STATES * inline.getRecordSize());
+        indexedBytes = ByteBuffer.allocateDirect(STATES * indexed.getRecordSize());
+        inline.encodeAll(states, inlineBytes);
+        indexed.encodeAll(states, indexedBytes);
+        serialized = serialize();
+        System.out.printf("%nOctets par état : INLINE %d, INDEXED %d, sérialisation Java %.1f%n",
+                inline.getRecordSize(), indexed.getRecordSize(), (double) serialized.length / STATES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeInline() {
+        inline.encodeAll(states, inlineBytes.clear());
+        return inlineBytes;
+    }
+
+    @Benchmark
+    public List<GameState> decodeInline() {
+        return inline.decodeAll(inlineBytes.flip());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeIndexed() {
+        indexed.encodeAll(states, indexedBytes.clear());
+        return indexedBytes;
+    }
+
+    @Benchmark
+    public List<GameState> decodeIndexed() {
+        return indexed.decodeAll(indexedBytes.flip());
+    }
+
+    @Benchmark
+    public byte[] encodeJavaSerialization() throws IOException {
+        return serialize();
+    }
+
+    @Benchmark
+    public Object decodeJavaSerialization() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    private byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(STATES * 64);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(states.toArray(new GameState[0]));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.ui.HangmanDrawer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de {@link HangmanDrawer} : construction (une par partie) et rendu.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HangmanDrawerBenchmark {
+
+    @Param({"6", "7", "10"})
+    private int maxErrors;
+
+    private HangmanDrawer drawer;
+    private int errorCount;
+
+    @Setup
+    public void setUp() {
+        drawer = new HangmanDrawer(maxErrors);
+    }
+
+    @Benchmark
+    public HangmanDrawer create() {
+        return new HangmanDrawer(maxErrors);
+    }
+
+    @Benchmark
+    public String draw() {
+        errorCount = errorCount == maxErrors ? 0 : errorCount + 1;
+        return drawer.draw(errorCount);
+    }
+}
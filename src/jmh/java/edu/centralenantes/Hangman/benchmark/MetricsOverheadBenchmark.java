@@ -0,0 +1,57 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.engine.GameEngine;
+import edu.centralenantes.Hangman.metrics.HangmanMetrics;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Coût des métriques sur le chemin d'une proposition : mêmes parties
+ * complètes que {@link GameEngineBenchmark}, métriques actives ou non.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class MetricsOverheadBenchmark {
+
+    @Param({"true", "false"})
+    private boolean metrics;
+
+    private GameEngine engine;
+    private String secret;
+
+    @Setup
+    public void setUp() {
+        engine = new GameEngine(new HangmanMetrics(metrics));
+        secret = BenchmarkData.randomWord(new Random(BenchmarkData.SEED), 8);
+    }
+
+    /**
+     * Joue une partie complète dans un ordre de fréquence fixe.
+     */
+    @Benchmark
+    public boolean fullPlayout() {
+        engine.startNewGame(secret, 6);
+        for (int i = 0; !engine.isGameOver(); i++) {
+            engine.guessLetter(BenchmarkData.GUESS_ORDER.charAt(i));
+        }
+        return engine.hasWon();
+    }
+}
@@ -0,0 +1,115 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.engine.HangmanSolver;
+import edu.centralenantes.Hangman.engine.OpeningBook;
+import edu.centralenantes.Hangman.model.GameState;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks du cache des premiers coups ({@link OpeningBook}) avec la
+ * stratégie ENTROPY, sur un dictionnaire de mots aléatoires : sans cache,
+ * mémoire seule, ou mémoire et table précalculée.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpeningBookBenchmark {
+
+    /** Nombre de parties jouées par un solveur neuf dans {@link #coldStart}. */
+    private static final int COLD_GAMES = 50;
+
+    @Param({"NONE", "MEMORY", "TABLE"})
+    private String book;
+
+    @Param({"100000"})
+    private int dictionarySize;
+
+    private Dictionary dictionary;
+    private Path table;
+    private HangmanSolver solver;
+    private GameState[] games;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dictionary = new Dictionary();
+        dictionary.loadFromFile(BenchmarkData.writeDictionary(dictionarySize).toString());
+        if (book.equals("TABLE")) {
+            table = Files.createTempFile("hangman-book-", ".bin");
+            table.toFile().deleteOnExit();
+            OpeningBook.build(new HangmanSolver(dictionary, HangmanSolver.Strategy.ENTROPY),
+                              OpeningBook.DEFAULT_DEPTH, table);
+        }
+        solver = newSolver();
+        games = new GameState[dictionary.getWordCount()];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = new GameState(dictionary.getWord(i), 6);
+        }
+    }
+
+    /** Solveur neuf, cache vide et table non lue, avant chaque mesure de démarrage à froid. */
+    @State(Scope.Thread)
+    public static class Cold {
+        private HangmanSolver solver;
+
+        @Setup(Level.Invocation)
+        public void setUp(OpeningBookBenchmark benchmark) {
+            solver = benchmark.newSolver();
+        }
+    }
+
+    private HangmanSolver newSolver() {
+        OpeningBook openingBook = book.equals("NONE")
+                ? null
+                : new OpeningBook(OpeningBook.DEFAULT_CAPACITY, OpeningBook.DEFAULT_DEPTH, table);
+        return new HangmanSolver(dictionary, HangmanSolver.Strategy.ENTROPY, openingBook);
+    }
+
+    /**
+     * Régime établi : parties résolues par seconde, mots pris à tour de rôle.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public GameState solveGame() {
+        GameState game = games[next];
+        next = next + 1 == games.length ? 0 : next + 1;
+        return solver.solve(game);
+    }
+
+    /**
+     * Démarrage à froid : les {@value #COLD_GAMES} premières parties d'un solveur neuf.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int coldStart(Cold cold) {
+        int wins = 0;
+        for (int i = 0; i < COLD_GAMES; i++) {
+            if (cold.solver.solve(games[i]).getStatus() == GameState.Status.WON) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+}
@@ -0,0 +1,103 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.codec.GameStateCodec;
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.engine.GuessResult;
+import edu.centralenantes.Hangman.engine.SlabSessionStore;
+import edu.centralenantes.Hangman.model.GameState;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de {@link SlabSessionStore} peuplé de millions de sessions
+ * inactives : une proposition sur une session tirée au hasard.
+ *
+ * La mémoire occupée (tas après GC, hors tas) est affichée au démarrage.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+public class SlabSessionStoreBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int sessions;
+
+    @Param({"INLINE", "INDEXED"})
+    private GameStateCodec.Layout layout;
+
+    private Path file;
+    private Dictionary dictionary;
+    private SlabSessionStore store;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = BenchmarkData.writeDictionary(50_000);
+        dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        GameStateCodec codec = layout == GameStateCodec.Layout.INLINE
+                ? GameStateCodec.inline()
+                : GameStateCodec.indexed(dictionary);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        store = new SlabSessionStore(codec);
+        random = new SplittableRandom(BenchmarkData.SEED);
+        for (int i = 0; i < sessions; i++) {
+            store.startNewGame(randomWord(), 6);
+        }
+        System.gc();
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("%n%d sessions : tas %+.1f Mo, hors tas %.1f Mo%n", sessions,
+                (heapAfter - heapBefore) / 1e6, store.getOffHeapBytes() / 1e6);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public GuessResult guessLetter() {
+        int handle = random.nextInt(sessions);
+        GameState state = store.getState(handle);
+        if (state.getStatus() != GameState.Status.IN_PROGRESS) {
+            store.restartGame(handle, randomWord(), 6);
+        }
+        return store.guessLetter(handle, BenchmarkData.GUESS_ORDER.charAt(random.nextInt(26)));
+    }
+
+    @Benchmark
+    public GameState getState() {
+        return store.getState(random.nextInt(sessions));
+    }
+
+    private String randomWord() {
+        return dictionary.getWord(random.nextInt(dictionary.getWordCount()));
+    }
+}
@@ -0,0 +1,94 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.engine.HangmanSolver;
+import edu.centralenantes.Hangman.model.GameState;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark du solveur : parties résolues par seconde, par stratégie, sur
+ * le dictionnaire fourni (propriété système hangman.dictionary, par défaut
+ * dictionnaire.txt) ou sur un dictionnaire de mots aléatoires.
+ *
+ * Les compteurs auxiliaires donnent les victoires et les décisions (lettres
+ * proposées) par seconde : taux de victoire = wins / solveGame.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+
+    @Param({"FREQUENCY", "ENTROPY"})
+    private HangmanSolver.Strategy strategy;
+
+    /** Nombre de mots aléatoires générés, 0 pour le dictionnaire fourni. */
+    @Param({"0", "100000"})
+    private int generatedWords;
+
+    private HangmanSolver solver;
+    private GameState[] games;
+    private int next;
+
+    /** Victoires et décisions, rapportées par seconde. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long wins;
+        public long decisions;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wins = 0;
+            decisions = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        String path = generatedWords > 0
+                ? BenchmarkData.writeDictionary(generatedWords).toString()
+                : System.getProperty("hangman.dictionary", "dictionnaire.txt");
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(path);
+        solver = new HangmanSolver(dictionary, strategy);
+        games = new GameState[dictionary.getWordCount()];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = new GameState(dictionary.getWord(i), 6);
+        }
+    }
+
+    /**
+     * Résout une partie complète (mots du dictionnaire pris à tour de rôle).
+     */
+    @Benchmark
+    public GameState solveGame(Outcomes outcomes) {
+        GameState game = games[next];
+        next = next + 1 == games.length ? 0 : next + 1;
+        GameState result = solver.solve(game);
+        if (result.getStatus() == GameState.Status.WON) {
+            outcomes.wins++;
+        }
+        outcomes.decisions += Integer.bitCount(result.getProposedMask());
+        return result;
+    }
+}
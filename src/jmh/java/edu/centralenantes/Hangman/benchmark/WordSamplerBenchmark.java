@@ -0,0 +1,74 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.data.WordSampler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tirage d'un mot dans un gros fichier : chargement complet puis tirage,
+ * réservoir en une lecture, ou saut à un octet au hasard.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WordSamplerBenchmark {
+
+    @Param({"1000000"})
+    private int words;
+
+    private Path file;
+    private WordSampler sampler;
+    private final Random random = new Random(BenchmarkData.SEED);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = BenchmarkData.writeDictionary(words);
+        sampler = WordSampler.open(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String loadThenPick() throws IOException {
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        return dictionary.getRandomWord();
+    }
+
+    @Benchmark
+    public List<String> reservoir100() throws IOException {
+        return WordSampler.sample(file, 100, random);
+    }
+
+    @Benchmark
+    public String randomOffset() {
+        return sampler.randomWord(random);
+    }
+}
@@ -0,0 +1,92 @@
+package edu.centralenantes.Hangman.benchmark;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.data.DictionarySnapshot;
+import edu.centralenantes.Hangman.data.WordSelector;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tirage d'un mot par plusieurs threads sur un même dictionnaire : un
+ * {@link Random} partagé (l'ancien comportement), des flux par thread, ou
+ * le sac mélangé.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(4)
+public class WordSelectorBenchmark {
+
+    @Param({"shared", "streams", "shuffle"})
+    private String selection;
+
+    private Path file;
+    private Dictionary dictionary;
+
+    /** Tirage avec un générateur partagé par tous les threads. */
+    private static final class SharedRandom implements WordSelector {
+        private final Random random = new Random(BenchmarkData.SEED);
+
+        @Override
+        public int nextIndex(DictionarySnapshot snapshot) {
+            return random.nextInt(snapshot.getWordCount());
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = BenchmarkData.writeDictionary(50_000);
+        WordSelector selector;
+        switch (selection) {
+            case "shared":
+                selector = new SharedRandom();
+                break;
+            case "streams":
+                selector = WordSelector.random(BenchmarkData.SEED);
+                break;
+            default:
+                selector = WordSelector.shuffleBag(BenchmarkData.SEED);
+                break;
+        }
+        dictionary = new Dictionary(selector);
+        dictionary.loadFromFile(file.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String getRandomWord() {
+        return dictionary.getRandomWord();
+    }
+}
@@ -6,11 +6,21 @@ package edu.centralenantes.Hangman;
 
 
 import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.data.DictionaryWatcher;
+import edu.centralenantes.Hangman.data.WordSelector;
 import edu.centralenantes.Hangman.engine.GameEngine;
-import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.engine.GuessResult;
+import edu.centralenantes.Hangman.engine.HangmanSolver;
+import edu.centralenantes.Hangman.engine.OpeningBook;
+import edu.centralenantes.Hangman.metrics.HangmanMetrics;
+import edu.centralenantes.Hangman.server.HangmanServer;
+import edu.centralenantes.Hangman.simulation.BatchSimulator;
+import edu.centralenantes.Hangman.simulation.SimulationReport;
 import edu.centralenantes.Hangman.ui.ConsoleUI;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Classe principale du jeu du pendu.
@@ -22,10 +32,28 @@ public class HangmanGame {
     
     private static final String DEFAULT_DICTIONARY = "dictionnaire.txt";
     
+    private static final String USAGE =
+            "Usage : HangmanGame [--simulate N [--threads T] [--seed S] [--errors E] [--dictionary FICHIER]\n"
+          + "                               [--strategy frequency|entropy] [--book TABLE]]\n"
+          + "        HangmanGame --server PORT [--dictionary FICHIER] [--metrics SECONDES]\n"
+          + "                    [--selection random|shuffle] [--seed S]";
+    
     /**
      * @param args the command line arguments
      */
     public static void main(String[] args) {
+        if (HangmanMetrics.global().isEnabled()) {
+            HangmanMetrics.global().registerMBean();
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            runServer(args);
+            return;
+        }
+        if (args.length > 0) {
+            runSimulation(args);
+            return;
+        }
+        
         GameEngine engine = new GameEngine();
         ConsoleUI ui = new ConsoleUI(engine);
         Scanner scanner = new Scanner(System.in);
@@ -33,6 +61,8 @@ public class HangmanGame {
         ui.displayTitle();
         
         boolean playAgain = true;
+        // Chargé à la première partie à un joueur, puis réutilisé
+        Dictionary dictionary = null;
         
         while (playAgain) {
             try {
@@ -47,7 +77,10 @@ public class HangmanGame {
                 
                 if (mode == 1) {
                     // Mode 1 joueur : mot depuis le dictionnaire
-                    secretWord = loadWordFromDictionary();
+                    if (dictionary == null) {
+                        dictionary = loadDictionary();
+                    }
+                    secretWord = dictionary.getRandomWord();
                 } else {
                     // Mode 2 joueurs : mot saisi manuellement
                     secretWord = ui.askForSecretWord();
@@ -74,6 +107,164 @@ public class HangmanGame {
         scanner.close();
     }
     
+    /**
+     * Mode simulation : joue N parties avec le solveur, sans interaction,
+     * puis affiche le bilan agrégé.
+     * @param args --simulate N [--threads T] [--seed S] [--errors E] [--dictionary FICHIER]
+     *             [--strategy frequency|entropy] [--book TABLE]
+     */
+    private static void runSimulation(String[] args) {
+        long games = -1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int maxErrors = 6;
+        String dictionaryPath = DEFAULT_DICTIONARY;
+        HangmanSolver.Strategy strategy = HangmanSolver.Strategy.FREQUENCY;
+        Path bookPath = null;
+        
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Valeur manquante pour " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--simulate":
+                        games = Long.parseLong(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--errors":
+                        maxErrors = Integer.parseInt(value);
+                        break;
+                    case "--dictionary":
+                        dictionaryPath = value;
+                        break;
+                    case "--strategy":
+                        if (!value.equals("frequency") && !value.equals("entropy")) {
+                            throw new IllegalArgumentException("Stratégie inconnue : " + value);
+                        }
+                        strategy = value.equals("entropy")
+                                ? HangmanSolver.Strategy.ENTROPY
+                                : HangmanSolver.Strategy.FREQUENCY;
+                        break;
+                    case "--book":
+                        bookPath = Path.of(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Option inconnue : " + option);
+                }
+            }
+            if (games < 0) {
+                throw new IllegalArgumentException("Option --simulate N obligatoire");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠ " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        
+        try {
+            Dictionary dictionary = new Dictionary();
+            dictionary.loadFromFile(dictionaryPath);
+            // Premiers coups mémorisés d'une partie à l'autre, lus dans la table si fournie
+            OpeningBook book = new OpeningBook(OpeningBook.DEFAULT_CAPACITY, OpeningBook.DEFAULT_DEPTH, bookPath);
+            BatchSimulator simulator =
+                    new BatchSimulator(dictionary, new HangmanSolver(dictionary, strategy, book), maxErrors);
+            System.out.println("Simulation de " + games + " parties (graine " + seed + ")...");
+            SimulationReport report = simulator.run(games, threads, seed);
+            System.out.print(report);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erreur : " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Mode serveur : sert des parties en TCP (protocole NEW, GUESS, STATE,
+     * QUIT) jusqu'à l'arrêt du processus, en affichant les métriques à
+     * intervalle régulier si demandé. Le dictionnaire est rechargé quand
+     * son fichier change, sans interrompre les parties.
+     * @param args --server PORT [--dictionary FICHIER] [--metrics SECONDES]
+     *             [--selection random|shuffle] [--seed S]
+     */
+    private static void runServer(String[] args) {
+        int port = -1;
+        long metricsPeriod = 0;
+        String dictionaryPath = DEFAULT_DICTIONARY;
+        boolean shuffle = false;
+        long seed = System.nanoTime();
+        
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Valeur manquante pour " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--server":
+                        port = Integer.parseInt(value);
+                        break;
+                    case "--dictionary":
+                        dictionaryPath = value;
+                        break;
+                    case "--metrics":
+                        metricsPeriod = Long.parseLong(value);
+                        break;
+                    case "--selection":
+                        if (!value.equals("random") && !value.equals("shuffle")) {
+                            throw new IllegalArgumentException("Tirage inconnu : " + value);
+                        }
+                        shuffle = value.equals("shuffle");
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Option inconnue : " + option);
+                }
+            }
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Port invalide : " + port);
+            }
+            if (metricsPeriod < 0) {
+                throw new IllegalArgumentException("Période invalide : " + metricsPeriod);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠ " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        
+        try {
+            Dictionary dictionary = new Dictionary(shuffle ? WordSelector.shuffleBag(seed)
+                                                           : WordSelector.random(seed));
+            dictionary.loadFromFile(dictionaryPath);
+            DictionaryWatcher watcher = new DictionaryWatcher(dictionary, Path.of(dictionaryPath));
+            HangmanServer server = new HangmanServer(dictionary);
+            server.start(port);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                watcher.close();
+            }));
+            System.out.println("Serveur du pendu à l'écoute sur le port " + server.getPort());
+            if (metricsPeriod > 0) {
+                HangmanMetrics.global().startReporter(System.out, metricsPeriod, TimeUnit.SECONDS);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erreur : " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
     /**
      * Demande au joueur de choisir le mode de jeu.
      * @param scanner
@@ -99,17 +290,18 @@ public class HangmanGame {
     }
     
     /**
-     * Charge un mot depuis le dictionnaire.
+     * Charge le dictionnaire par défaut.
      * @return
      * @throws IOException 
      */
-    private static String loadWordFromDictionary() throws IOException {
-        Dictionary dictionary = new Dictionary();
+    private static Dictionary loadDictionary() throws IOException {
+        // Sac mélangé : pas deux fois le même mot avant d'avoir vu tous les autres
+        Dictionary dictionary = new Dictionary(WordSelector.shuffleBag(System.nanoTime()));
         
         try {
             dictionary.loadFromFile(DEFAULT_DICTIONARY);
             System.out.println("✓ Dictionnaire chargé avec succès !");
-            return dictionary.getRandomWord();
+            return dictionary;
         } catch (IOException e) {
             System.err.println("⚠ Erreur lors du chargement du dictionnaire : " + e.getMessage());
             System.err.println("Assurez-vous que le fichier '" + DEFAULT_DICTIONARY + 
@@ -129,12 +321,9 @@ public class HangmanGame {
             
             char letter = ui.askForLetter();
             
-            GameState stateBefore = engine.getCurrentState();
-            boolean wasAlreadyProposed = stateBefore.isLetterProposed(letter);
-            
-            boolean isCorrect = engine.guessLetter(letter);
+            GuessResult result = engine.guess(letter);
             
-            ui.displayGuessResult(letter, isCorrect, wasAlreadyProposed);
+            ui.displayGuessResult(letter, result.isCorrect(), result.isAlreadyProposed());
         }
         
         ui.displayEndGame();
@@ -0,0 +1,293 @@
+package edu.centralenantes.Hangman.codec;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.data.DictionarySnapshot;
+import edu.centralenantes.Hangman.model.GameState;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Codage binaire à largeur fixe des instantanés de {@link GameState}.
+ *
+ * Deux formats :
+ * <pre>
+ * INLINE (24 octets)                 INDEXED (12 octets)
+ * 0     longueur du mot (1-25)       0-3   indice du mot dans le dictionnaire
+ * 1     maxErrors (1-255)            4-7   lettres proposées (masque 26 bits)
+ * 2     erreurs restantes            8     maxErrors (1-255)
+ * 3     statut                       9     erreurs restantes
+ * 4-7   lettres proposées            10    statut
+ * 8-23  mot, 5 bits par lettre       11    réservé (0)
+ * </pre>
+ * Au format INLINE, une lettre accentuée prend 13 bits ({@link PackedLetters}) :
+ * un mot accentué doit tenir dans les 16 octets du mot.
+ * Les entiers sont en petit-boutiste, quel que soit l'ordre du tampon.
+ * Le décodage passe par {@link GameState#restore} : un instantané
+ * incohérent (statut ou erreurs restantes faux) est refusé.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class GameStateCodec {
+
+    /** Formats de codage. */
+    public enum Layout {
+        /** Mot secret inclus dans l'enregistrement. */
+        INLINE(24),
+        /** Mot secret désigné par son indice dans un {@link Dictionary}. */
+        INDEXED(12);
+
+        private final int recordSize;
+
+        Layout(int recordSize) {
+            this.recordSize = recordSize;
+        }
+
+        /**
+         * @return la taille d'un enregistrement, en octets
+         */
+        public int getRecordSize() {
+            return recordSize;
+        }
+    }
+
+    /** Longueur maximale d'un mot au format INLINE. */
+    public static final int MAX_INLINE_LENGTH = 25;
+
+    private static final int MAX_ERRORS = 255;
+    private static final int INLINE_WORD_OFFSET = 8;
+    private static final GameState.Status[] STATUSES = GameState.Status.values();
+
+    private final Layout layout;
+    private final DictionarySnapshot dictionary;
+
+    private GameStateCodec(Layout layout, DictionarySnapshot dictionary) {
+        this.layout = layout;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * @return un codec au format INLINE
+     */
+    public static GameStateCodec inline() {
+        return new GameStateCodec(Layout.INLINE, null);
+    }
+
+    /**
+     * Les indices se réfèrent au contenu du dictionnaire au moment de
+     * l'appel : un rechargement ultérieur ne les invalide pas.
+     *
+     * @param dictionary le dictionnaire des mots secrets, le même au codage et au décodage
+     * @return un codec au format INDEXED
+     */
+    public static GameStateCodec indexed(Dictionary dictionary) {
+        return new GameStateCodec(Layout.INDEXED, dictionary.snapshot());
+    }
+
+    /**
+     * @return le format de ce codec
+     */
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @return la taille d'un enregistrement, en octets
+     */
+    public int getRecordSize() {
+        return layout.recordSize;
+    }
+
+    /**
+     * Écrit un état à la position du tampon, puis avance la position.
+     *
+     * @param state l'état à coder
+     * @param target le tampon de destination
+     * @throws IllegalArgumentException si l'état ne tient pas dans le format
+     * @throws BufferOverflowException si le tampon est trop petit
+     */
+    public void encode(GameState state, ByteBuffer target) {
+        int position = target.position();
+        checkRoom(target, 1);
+        write(state, target, position);
+        target.position(position + layout.recordSize);
+    }
+
+    /**
+     * Écrit un état à un indice du tampon, sans toucher à sa position
+     * (plusieurs threads peuvent ainsi écrire dans des zones distinctes).
+     *
+     * @param state l'état à coder
+     * @param target le tampon de destination
+     * @param offset l'indice du premier octet de l'enregistrement
+     * @throws IllegalArgumentException si l'état ne tient pas dans le format
+     * @throws IndexOutOfBoundsException si l'enregistrement dépasse le tampon
+     */
+    public void encode(GameState state, ByteBuffer target, int offset) {
+        checkIndex(target, offset);
+        write(state, target, offset);
+    }
+
+    /**
+     * Écrit une suite d'états à la position du tampon. Rien n'est écrit si
+     * le tampon est trop petit.
+     *
+     * @param states les états à coder
+     * @param target le tampon de destination
+     * @throws IllegalArgumentException si un état ne tient pas dans le format
+     * @throws BufferOverflowException si le tampon est trop petit
+     */
+    public void encodeAll(Collection<GameState> states, ByteBuffer target) {
+        checkRoom(target, states.size());
+        int position = target.position();
+        for (GameState state : states) {
+            write(state, target, position);
+            position += layout.recordSize;
+        }
+        target.position(position);
+    }
+
+    /**
+     * Lit un état à la position du tampon, puis avance la position.
+     *
+     * @param source le tampon source
+     * @return l'état décodé
+     * @throws IllegalArgumentException si l'enregistrement est invalide
+     * @throws BufferUnderflowException si le tampon est trop court
+     */
+    public GameState decode(ByteBuffer source) {
+        if (source.remaining() < layout.recordSize) {
+            throw new BufferUnderflowException();
+        }
+        int position = source.position();
+        GameState state = read(source, position);
+        source.position(position + layout.recordSize);
+        return state;
+    }
+
+    /**
+     * Lit un état à un indice du tampon, sans toucher à sa position.
+     *
+     * @param source le tampon source
+     * @param offset l'indice du premier octet de l'enregistrement
+     * @return l'état décodé
+     * @throws IllegalArgumentException si l'enregistrement est invalide
+     * @throws IndexOutOfBoundsException si l'enregistrement dépasse le tampon
+     */
+    public GameState decode(ByteBuffer source, int offset) {
+        checkIndex(source, offset);
+        return read(source, offset);
+    }
+
+    /**
+     * Lit tous les états restants du tampon.
+     *
+     * @param source le tampon source, de taille multiple de {@link #getRecordSize()}
+     * @return les états décodés, dans l'ordre
+     * @throws IllegalArgumentException si un enregistrement est invalide ou incomplet
+     */
+    public List<GameState> decodeAll(ByteBuffer source) {
+        if (source.remaining() % layout.recordSize != 0) {
+            throw new IllegalArgumentException("Enregistrement incomplet en fin de tampon");
+        }
+        int count = source.remaining() / layout.recordSize;
+        List<GameState> states = new ArrayList<>(count);
+        int position = source.position();
+        for (int i = 0; i < count; i++) {
+            states.add(read(source, position));
+            position += layout.recordSize;
+        }
+        source.position(position);
+        return states;
+    }
+
+    private void checkIndex(ByteBuffer buffer, int offset) {
+        if (offset < 0 || offset > buffer.limit() - layout.recordSize) {
+            throw new IndexOutOfBoundsException("Enregistrement hors du tampon : " + offset);
+        }
+    }
+
+    private void checkRoom(ByteBuffer target, int count) {
+        if (target.remaining() / layout.recordSize < count) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    private void write(GameState state, ByteBuffer target, int offset) {
+        if (state.getMaxErrors() > MAX_ERRORS) {
+            throw new IllegalArgumentException("Nombre d'erreurs trop grand pour le codage : "
+                                               + state.getMaxErrors());
+        }
+        String secret = state.getSecretWord();
+        if (layout == Layout.INLINE) {
+            if (secret.length() > MAX_INLINE_LENGTH
+                    || PackedLetters.packedSize(secret) > layout.recordSize - INLINE_WORD_OFFSET) {
+                throw new IllegalArgumentException("Mot trop long pour le codage : " + secret);
+            }
+            target.put(offset, (byte) secret.length());
+            target.put(offset + 1, (byte) state.getMaxErrors());
+            target.put(offset + 2, (byte) state.getRemainingErrors());
+            target.put(offset + 3, (byte) state.getStatus().ordinal());
+            putIntLE(target, offset + 4, state.getProposedMask());
+            int written = PackedLetters.pack(secret, target, offset + INLINE_WORD_OFFSET);
+            for (int i = INLINE_WORD_OFFSET + written; i < layout.recordSize; i++) {
+                target.put(offset + i, (byte) 0);
+            }
+        } else {
+            int index = dictionary.indexOf(secret);
+            if (index < 0) {
+                throw new IllegalArgumentException("Mot absent du dictionnaire : " + secret);
+            }
+            putIntLE(target, offset, index);
+            putIntLE(target, offset + 4, state.getProposedMask());
+            target.put(offset + 8, (byte) state.getMaxErrors());
+            target.put(offset + 9, (byte) state.getRemainingErrors());
+            target.put(offset + 10, (byte) state.getStatus().ordinal());
+            target.put(offset + 11, (byte) 0);
+        }
+    }
+
+    private GameState read(ByteBuffer source, int offset) {
+        String secret;
+        int header;
+        if (layout == Layout.INLINE) {
+            int length = source.get(offset) & 0xFF;
+            if (length == 0 || length > MAX_INLINE_LENGTH) {
+                throw new IllegalArgumentException("Longueur de mot invalide : " + length);
+            }
+            secret = PackedLetters.unpack(source, offset + INLINE_WORD_OFFSET, length);
+            header = offset + 1;
+        } else {
+            int index = getIntLE(source, offset);
+            if (index < 0 || index >= dictionary.getWordCount()) {
+                throw new IllegalArgumentException("Indice de mot invalide : " + index);
+            }
+            secret = dictionary.getWord(index);
+            header = offset + 8;
+        }
+        int proposed = getIntLE(source, offset + 4);
+        int maxErrors = source.get(header) & 0xFF;
+        int remaining = source.get(header + 1) & 0xFF;
+        int status = source.get(header + 2) & 0xFF;
+
+        GameState state = GameState.restore(secret, maxErrors, proposed, remaining);
+        if (status >= STATUSES.length || STATUSES[status] != state.getStatus()) {
+            throw new IllegalArgumentException("Statut incohérent : " + status);
+        }
+        return state;
+    }
+
+    private static void putIntLE(ByteBuffer buffer, int index, int value) {
+        buffer.putInt(index, buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value));
+    }
+
+    private static int getIntLE(ByteBuffer buffer, int index) {
+        int value = buffer.getInt(index);
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value);
+    }
+}
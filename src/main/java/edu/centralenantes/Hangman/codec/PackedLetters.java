@@ -0,0 +1,156 @@
+package edu.centralenantes.Hangman.codec;
+
+import edu.centralenantes.Hangman.model.LetterFolding;
+import java.nio.ByteBuffer;
+
+/**
+ * Codage compact d'un mot sur 5 bits par lettre (A = 0 ... Z = 25),
+ * bits de poids faible en premier.
+ *
+ * Une lettre accentuée (U+00C0..U+017F, voir {@link LetterFolding}) est
+ * codée par le code d'échappement 31 suivi de 8 bits (caractère - U+00C0),
+ * soit 13 bits : un mot accentué prend un peu plus de place qu'un mot A-Z
+ * de même longueur ({@link #packedSize(CharSequence)}).
+ *
+ * Les lectures et écritures sont absolues : la position du tampon ne
+ * change pas.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class PackedLetters {
+
+    /** Nombre de bits occupés par une lettre. */
+    public static final int BITS_PER_LETTER = 5;
+
+    /** Nombre de bits occupés par une lettre accentuée (échappement compris). */
+    public static final int BITS_PER_ACCENTED_LETTER = BITS_PER_LETTER + 8;
+
+    private static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+    private static final int ESCAPE = LETTER_MASK;
+    private static final int FIRST_ACCENTED = 0xC0;
+    private static final int LAST_ACCENTED = 0x17F;
+
+    private PackedLetters() {
+    }
+
+    /**
+     * @param letters le nombre de lettres
+     * @return le nombre d'octets nécessaires pour coder autant de lettres A-Z
+     */
+    public static int packedSize(int letters) {
+        return (letters * BITS_PER_LETTER + 7) / 8;
+    }
+
+    /**
+     * @param word le mot (lettres A-Z ou accentuées, insensible à la casse)
+     * @return le nombre d'octets nécessaires pour le coder
+     * @throws IllegalArgumentException si le mot contient un caractère non codable
+     */
+    public static int packedSize(CharSequence word) {
+        int bits = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = LetterFolding.toUpperCase(word.charAt(i));
+            if (isAsciiLetter(c)) {
+                bits += BITS_PER_LETTER;
+            } else {
+                accentedCode(c);
+                bits += BITS_PER_ACCENTED_LETTER;
+            }
+        }
+        return (bits + 7) / 8;
+    }
+
+    /**
+     * Écrit un mot à partir d'un indice du tampon.
+     *
+     * @param word le mot (lettres A-Z ou accentuées, insensible à la casse)
+     * @param target le tampon de destination
+     * @param offset l'indice du premier octet écrit
+     * @return le nombre d'octets écrits
+     * @throws IllegalArgumentException si le mot contient un caractère non codable
+     */
+    public static int pack(CharSequence word, ByteBuffer target, int offset) {
+        long bits = 0;
+        int count = 0;
+        int position = offset;
+        for (int i = 0; i < word.length(); i++) {
+            char c = LetterFolding.toUpperCase(word.charAt(i));
+            if (isAsciiLetter(c)) {
+                bits |= (long) (c - 'A') << count;
+                count += BITS_PER_LETTER;
+            } else {
+                bits |= (long) (ESCAPE | accentedCode(c) << BITS_PER_LETTER) << count;
+                count += BITS_PER_ACCENTED_LETTER;
+            }
+            while (count >= 8) {
+                target.put(position++, (byte) bits);
+                bits >>>= 8;
+                count -= 8;
+            }
+        }
+        if (count > 0) {
+            target.put(position++, (byte) bits);
+        }
+        return position - offset;
+    }
+
+    /**
+     * Relit un mot écrit par {@link #pack}.
+     *
+     * @param source le tampon source
+     * @param offset l'indice du premier octet
+     * @param length le nombre de lettres
+     * @return le mot en majuscules
+     * @throws IllegalArgumentException si un code ne correspond à aucune lettre
+     */
+    public static String unpack(ByteBuffer source, int offset, int length) {
+        char[] letters = new char[length];
+        long bits = 0;
+        int count = 0;
+        int position = offset;
+        for (int i = 0; i < length; i++) {
+            if (count < BITS_PER_LETTER) {
+                bits |= (long) (source.get(position++) & 0xFF) << count;
+                count += 8;
+            }
+            int code = (int) (bits & LETTER_MASK);
+            bits >>>= BITS_PER_LETTER;
+            count -= BITS_PER_LETTER;
+            if (code == ESCAPE) {
+                if (count < 8) {
+                    bits |= (long) (source.get(position++) & 0xFF) << count;
+                    count += 8;
+                }
+                char c = (char) (FIRST_ACCENTED + (bits & 0xFF));
+                bits >>>= 8;
+                count -= 8;
+                if (c > LAST_ACCENTED || LetterFolding.letterMask(c) == 0) {
+                    throw new IllegalArgumentException("Code de lettre invalide : " + (int) c);
+                }
+                letters[i] = c;
+            } else if (code < 26) {
+                letters[i] = (char) ('A' + code);
+            } else {
+                throw new IllegalArgumentException("Code de lettre invalide : " + code);
+            }
+        }
+        return new String(letters);
+    }
+
+    private static boolean isAsciiLetter(char upper) {
+        return upper >= 'A' && upper <= 'Z';
+    }
+
+    /**
+     * @param upper un caractère en majuscule
+     * @return son code sur 8 bits, s'il s'agit d'une lettre accentuée
+     * @throws IllegalArgumentException sinon
+     */
+    private static int accentedCode(char upper) {
+        if (upper < FIRST_ACCENTED || upper > LAST_ACCENTED || LetterFolding.letterMask(upper) == 0) {
+            throw new IllegalArgumentException("Caractère invalide : " + upper);
+        }
+        return upper - FIRST_ACCENTED;
+    }
+}
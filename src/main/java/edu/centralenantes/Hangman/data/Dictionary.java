@@ -8,82 +8,144 @@ package edu.centralenantes.Hangman.data;
  *
  * @author dodi
  */
-import java.io.BufferedReader;
-import java.io.FileReader;
+import edu.centralenantes.Hangman.metrics.HangmanMetrics;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
 
 /**
  * Gère le chargement et la sélection de mots depuis un fichier externe.
  * 
+ * Les mots sont conservés dans une arène compacte (un seul tampon d'octets
+ * et une table d'offsets) et ne deviennent des chaînes qu'au tirage.
+ * 
+ * Le contenu est publié sous forme d'un {@link DictionarySnapshot} immuable,
+ * remplacé d'un bloc à chaque chargement : un dictionnaire peut être
+ * rechargé pendant qu'il est lu (voir {@link DictionaryWatcher}).
+ * 
  * @author MEDEV 2026
  * @version 1.0
  */
 public class Dictionary {
     
-    private final List<String> validWords;
-    private final Random random;
+    /**
+     * Niveaux de difficulté, définis par le nombre de lettres distinctes du mot.
+     * Plus un mot a de lettres distinctes, plus une proposition a de chances
+     * d'être juste : les mots aux lettres peu variées sont les plus difficiles.
+     */
+    public enum Difficulty {
+        EASY(7, Integer.MAX_VALUE),
+        MEDIUM(5, 6),
+        HARD(1, 4);
+        
+        private final int minDistinctLetters;
+        private final int maxDistinctLetters;
+        
+        Difficulty(int minDistinctLetters, int maxDistinctLetters) {
+            this.minDistinctLetters = minDistinctLetters;
+            this.maxDistinctLetters = maxDistinctLetters;
+        }
+        
+        /**
+         * @return le nombre minimal de lettres distinctes (inclus)
+         */
+        public int getMinDistinctLetters() {
+            return minDistinctLetters;
+        }
+        
+        /**
+         * @return le nombre maximal de lettres distinctes (inclus)
+         */
+        public int getMaxDistinctLetters() {
+            return maxDistinctLetters;
+        }
+    }
+    
+    private volatile DictionarySnapshot snapshot;
+    private final WordSelector selector;
     
     /**
-     * Constructeur par défaut.
+     * Constructeur par défaut : tirage avec remise, un flux aléatoire par
+     * thread, graine aléatoire.
      */
     public Dictionary() {
-        this.validWords = new ArrayList<>();
-        this.random = new Random();
+        this(WordSelector.random(new SplittableRandom().nextLong()));
     }
     
     /**
-     * Charge les mots depuis un fichier texte.
+     * @param selector la stratégie de tirage des mots aléatoires
+     */
+    public Dictionary(WordSelector selector) {
+        this.snapshot = DictionarySnapshot.EMPTY;
+        this.selector = selector;
+    }
+    
+    /**
+     * Charge les mots depuis un fichier texte (UTF-8).
      * Un mot par ligne. Les mots invalides sont ignorés.
+     * Les mots sont indexés par longueur et par nombre de lettres distinctes.
+     * 
+     * Un dictionnaire compilé par {@link DictionaryCompiler} est reconnu à
+     * sa signature et projeté en mémoire tel quel, sans analyser les mots.
+     * Il ne doit pas être modifié sur place pendant qu'il est ouvert : le
+     * compilateur le remplace par renommage.
+     * 
+     * Le nouvel instantané est entièrement construit avant de remplacer
+     * l'ancien d'un seul coup : les lectures concurrentes ne sont jamais
+     * bloquées et voient soit l'ancien contenu, soit le nouveau. En cas
+     * d'échec, l'ancien contenu est conservé.
      * 
      * @param filePath chemin vers le fichier dictionnaire
      * @throws IOException si le fichier est introuvable ou illisible
      * @throws IllegalStateException si le fichier est vide ou ne contient aucun mot valide
      */
     public void loadFromFile(String filePath) throws IOException {
-        validWords.clear();
+        long start = System.nanoTime();
+        Path path = Path.of(filePath);
+        DictionarySnapshot loaded = DictionaryFile.isCompiled(path)
+                ? DictionaryFile.open(path) : loadText(path);
         
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            int lineNumber = 0;
-            
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                String trimmedLine = line.trim();
-                
-                // Ignorer les lignes vides
-                if (trimmedLine.isEmpty()) {
-                    continue;
-                }
-                
-                // Valider le mot (uniquement des lettres)
-                if (isValidWord(trimmedLine)) {
-                    validWords.add(trimmedLine.toUpperCase());
-                } else {
-                    System.err.println("Ligne " + lineNumber + " ignorée (mot invalide) : " + trimmedLine);
-                }
-            }
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("Le dictionnaire ne contient aucun mot valide");
         }
         
-        if (validWords.isEmpty()) {
-            throw new IllegalStateException("Le dictionnaire ne contient aucun mot valide");
+        synchronized (this) {
+            // Seuls les chargements concurrents se synchronisent, pour numéroter les versions
+            snapshot = loaded.withVersion(snapshot.getVersion() + 1);
         }
         
-        System.out.println("Dictionnaire chargé : " + validWords.size() + " mots valides");
+        HangmanMetrics.global().dictionaryLoaded(loaded.getWordCount(), System.nanoTime() - start);
+        System.out.println("Dictionnaire chargé : " + loaded.getWordCount() + " mots valides");
     }
     
     /**
-     * Vérifie si un mot est valide (uniquement des lettres).
-     * @param word
+     * Analyse un fichier texte.
+     * @param path
      * @return
+     * @throws IOException 
      */
-    private boolean isValidWord(String word) {
-        if (word == null || word.isEmpty()) {
-            return false;
+    private static DictionarySnapshot loadText(Path path) throws IOException {
+        DictionaryLoader.Result result = DictionaryLoader.load(path);
+        long rejectedLineCount = result.getRejectedCount();
+        
+        if (rejectedLineCount > 0) {
+            System.err.println(rejectedLineCount + " ligne(s) ignorée(s) (mot invalide), dont "
+                               + String.join(", ", result.getRejectedSamples()));
         }
-        return word.matches("[a-zA-ZÀ-ÿ]+");
+        
+        WordIndex index = WordIndex.build(result.getLengths(), result.getDistinctLetters());
+        return new DictionarySnapshot(result.getWords(), index, null, rejectedLineCount, 0);
+    }
+    
+    /**
+     * Retourne le contenu courant du dictionnaire. Une suite de lectures qui
+     * doit rester cohérente malgré un rechargement (indices, comptes) passe
+     * par un même instantané.
+     * 
+     * @return l'instantané courant, jamais null
+     */
+    public DictionarySnapshot snapshot() {
+        return snapshot;
     }
     
     /**
@@ -93,12 +155,71 @@ public class Dictionary {
      * @throws IllegalStateException si le dictionnaire est vide
      */
     public String getRandomWord() {
-        if (validWords.isEmpty()) {
-            throw new IllegalStateException("Le dictionnaire est vide. Chargez d'abord un fichier.");
-        }
-        
-        int index = random.nextInt(validWords.size());
-        return validWords.get(index);
+        return snapshot.getRandomWord(selector);
+    }
+    
+    /**
+     * Sélectionne un mot aléatoire dont la longueur est dans un intervalle.
+     * Le tirage est uniforme parmi ces mots, en temps constant.
+     * 
+     * @param minLength longueur minimale (incluse)
+     * @param maxLength longueur maximale (incluse)
+     * @return un mot aléatoire de longueur comprise entre minLength et maxLength
+     * @throws IllegalArgumentException si minLength &gt; maxLength
+     * @throws IllegalStateException si aucun mot n'a une telle longueur
+     */
+    public String getRandomWord(int minLength, int maxLength) {
+        return snapshot.getRandomWord(selector, minLength, maxLength);
+    }
+    
+    /**
+     * Sélectionne un mot aléatoire dont le nombre de lettres distinctes est
+     * dans un intervalle. Le tirage est uniforme parmi ces mots, en temps constant.
+     * 
+     * @param minDistinct nombre minimal de lettres distinctes (inclus)
+     * @param maxDistinct nombre maximal de lettres distinctes (inclus)
+     * @return un mot aléatoire
+     * @throws IllegalArgumentException si minDistinct &gt; maxDistinct
+     * @throws IllegalStateException si aucun mot ne correspond
+     */
+    public String getRandomWordByDistinctLetters(int minDistinct, int maxDistinct) {
+        return snapshot.getRandomWordByDistinctLetters(selector, minDistinct, maxDistinct);
+    }
+    
+    /**
+     * Sélectionne un mot aléatoire d'un niveau de difficulté donné.
+     * 
+     * @param difficulty le niveau de difficulté
+     * @return un mot aléatoire de ce niveau
+     * @throws IllegalStateException si aucun mot ne correspond
+     */
+    public String getRandomWord(Difficulty difficulty) {
+        return getRandomWordByDistinctLetters(difficulty.getMinDistinctLetters(),
+                                              difficulty.getMaxDistinctLetters());
+    }
+    
+    /**
+     * Retourne le mot d'indice donné, dans l'ordre du fichier
+     * (triés, pour un dictionnaire compilé).
+     * 
+     * @param index l'indice du mot (0 &lt;= index &lt; getWordCount())
+     * @return le mot, en majuscules
+     * @throws IndexOutOfBoundsException si l'indice est invalide
+     */
+    public String getWord(int index) {
+        return snapshot.getWord(index);
+    }
+    
+    /**
+     * Retourne l'indice d'un mot, inverse de {@link #getWord(int)}.
+     * La table de recherche est construite au premier appel,
+     * sauf pour un dictionnaire compilé, trié : recherche dichotomique.
+     * 
+     * @param word le mot (insensible à la casse)
+     * @return l'indice de sa première occurrence, ou -1 s'il est absent
+     */
+    public int indexOf(String word) {
+        return snapshot.indexOf(word);
     }
     
     /**
@@ -106,7 +227,15 @@ public class Dictionary {
      * @return
      */
     public int getWordCount() {
-        return validWords.size();
+        return snapshot.getWordCount();
+    }
+    
+    /**
+     * Retourne le nombre de lignes non vides rejetées au dernier chargement.
+     * @return
+     */
+    public long getRejectedLineCount() {
+        return snapshot.getRejectedLineCount();
     }
     
     /**
@@ -114,6 +243,6 @@ public class Dictionary {
      * @return
      */
     public boolean isEmpty() {
-        return validWords.isEmpty();
+        return snapshot.isEmpty();
     }
-}
\ No newline at end of file
+}
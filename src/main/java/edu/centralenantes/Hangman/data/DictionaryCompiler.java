@@ -0,0 +1,176 @@
+package edu.centralenantes.Hangman.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Compile un dictionnaire texte en fichier binaire ({@link DictionaryFile})
+ * que {@link Dictionary#loadFromFile} ouvre en quelques millisecondes, sans
+ * analyser les mots.
+ *
+ * Les lignes sont validées comme au chargement d'un fichier texte, puis
+ * les mots sont triés et dédoublonnés. L'index par longueur et par nombre
+ * de lettres distinctes et la table des fréquences des lettres sont
+ * précalculés, sauf si l'on y renonce pour réduire le fichier.
+ *
+ * Usage : {@code DictionaryCompiler SOURCE CIBLE [--no-index] [--no-letters]}
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class DictionaryCompiler {
+
+    private static final String USAGE =
+            "Usage : DictionaryCompiler SOURCE CIBLE [--no-index] [--no-letters]";
+
+    /**
+     * Bilan d'une compilation.
+     */
+    public static final class Report {
+
+        private final int wordCount;
+        private final int duplicateCount;
+        private final long rejectedCount;
+        private final long fileSize;
+
+        private Report(int wordCount, int duplicateCount, long rejectedCount, long fileSize) {
+            this.wordCount = wordCount;
+            this.duplicateCount = duplicateCount;
+            this.rejectedCount = rejectedCount;
+            this.fileSize = fileSize;
+        }
+
+        /**
+         * @return le nombre de mots distincts écrits
+         */
+        public int getWordCount() {
+            return wordCount;
+        }
+
+        /**
+         * @return le nombre de doublons retirés
+         */
+        public int getDuplicateCount() {
+            return duplicateCount;
+        }
+
+        /**
+         * @return le nombre de lignes non vides rejetées (mot invalide)
+         */
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * @return la taille du fichier compilé, en octets
+         */
+        public long getFileSize() {
+            return fileSize;
+        }
+
+        @Override
+        public String toString() {
+            return wordCount + " mots (" + duplicateCount + " doublon(s), " + rejectedCount
+                   + " ligne(s) rejetée(s)), " + fileSize + " octets";
+        }
+    }
+
+    private DictionaryCompiler() {
+    }
+
+    /**
+     * Compile un dictionnaire texte. La cible est remplacée par renommage :
+     * un serveur qui la surveille ne lit jamais un fichier incomplet.
+     *
+     * @param source le dictionnaire texte (UTF-8, un mot par ligne)
+     * @param target le fichier compilé à écrire
+     * @param withIndex true pour inclure l'index par longueur et lettres distinctes
+     * @param withLetters true pour inclure les fréquences des lettres
+     * @return le bilan
+     * @throws IOException si la source est illisible ou la cible impossible à écrire
+     * @throws IllegalStateException si la source ne contient aucun mot valide
+     */
+    public static Report compile(Path source, Path target, boolean withIndex, boolean withLetters)
+            throws IOException {
+        DictionaryLoader.Result result = DictionaryLoader.load(source);
+        WordArena loaded = result.getWords();
+        if (loaded.size() == 0) {
+            throw new IllegalStateException("Le dictionnaire ne contient aucun mot valide");
+        }
+
+        // Pour des caractères <= U+00FF, l'ordre des chaînes est celui des octets UTF-8
+        String[] words = new String[loaded.size()];
+        int bytes = 0;
+        for (int i = 0; i < words.length; i++) {
+            words[i] = loaded.getWord(i);
+            bytes += loaded.byteLength(i);
+        }
+        Arrays.parallelSort(words);
+
+        byte[] blob = new byte[bytes];
+        int[] offsets = new int[words.length + 1];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            if (i > 0 && words[i].equals(words[i - 1])) {
+                continue;
+            }
+            byte[] word = words[i].getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(word, 0, blob, offsets[count], word.length);
+            offsets[count + 1] = offsets[count] + word.length;
+            count++;
+        }
+
+        WordArena sorted = new WordArena(ByteBuffer.wrap(blob), IntBuffer.wrap(offsets), count, true);
+        DictionaryFile.write(target, blob, offsets, count,
+                             withIndex ? WordIndex.build(sorted) : null,
+                             withLetters ? LetterTable.build(sorted) : null,
+                             result.getRejectedCount());
+        return new Report(count, words.length - count, result.getRejectedCount(), Files.size(target));
+    }
+
+    /**
+     * @param args SOURCE CIBLE [--no-index] [--no-letters]
+     */
+    public static void main(String[] args) {
+        Path source = null;
+        Path target = null;
+        boolean withIndex = true;
+        boolean withLetters = true;
+        for (String arg : args) {
+            if (arg.equals("--no-index")) {
+                withIndex = false;
+            } else if (arg.equals("--no-letters")) {
+                withLetters = false;
+            } else if (arg.startsWith("--") || target != null) {
+                System.err.println("⚠ Argument inconnu : " + arg);
+                System.err.println(USAGE);
+                System.exit(2);
+                return;
+            } else if (source == null) {
+                source = Path.of(arg);
+            } else {
+                target = Path.of(arg);
+            }
+        }
+        if (target == null) {
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            Report report = compile(source, target, withIndex, withLetters);
+            System.out.println("Dictionnaire compilé : " + report + " en "
+                               + (System.nanoTime() - start) / 1_000_000 + " ms -> " + target);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erreur : " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
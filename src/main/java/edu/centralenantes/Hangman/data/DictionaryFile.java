@@ -0,0 +1,257 @@
+package edu.centralenantes.Hangman.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Format binaire d'un dictionnaire compilé par {@link DictionaryCompiler}.
+ *
+ * Le fichier (entiers gros-boutistes) contient, dans l'ordre :
+ * <ul>
+ * <li>un en-tête de {@value #HEADER_SIZE} octets : signature, version,
+ * sections présentes, nombre de mots, taille des mots concaténés, bornes
+ * des index et nombre de lignes rejetées à la compilation ;</li>
+ * <li>la table des {@code n + 1} offsets de début de mot ;</li>
+ * <li>les mots concaténés (UTF-8, en majuscules, triés, sans doublon),
+ * complétés à un multiple de 4 octets ;</li>
+ * <li>en option, l'index par longueur et par nombre de lettres distinctes
+ * (voir {@link WordIndex}) ;</li>
+ * <li>en option, les fréquences des lettres par longueur (voir {@link LetterTable}).</li>
+ * </ul>
+ *
+ * À l'ouverture, chaque section est projetée en mémoire et utilisée telle
+ * quelle : aucun mot n'est analysé, seul l'en-tête est vérifié.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class DictionaryFile {
+
+    /** Signature : 0x89 n'est jamais le premier octet d'un fichier texte UTF-8. */
+    static final int MAGIC = 0x89484443;
+
+    /**
+     * Version du format. La version 2 compte les lettres distinctes et les
+     * fréquences avec les accents repliés sur leurs lettres de base.
+     */
+    static final int VERSION = 2;
+
+    /** Taille de l'en-tête, en octets. */
+    static final int HEADER_SIZE = 64;
+
+    /** Section présente : index par longueur et par lettres distinctes. */
+    static final int FLAG_INDEX = 1;
+
+    /** Section présente : fréquences des lettres. */
+    static final int FLAG_LETTERS = 2;
+
+    /** Taille du tampon d'écriture. */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private DictionaryFile() {
+    }
+
+    /**
+     * @param path un fichier dictionnaire
+     * @return true s'il commence par la signature d'un dictionnaire compilé
+     * @throws IOException si le fichier est introuvable ou illisible
+     */
+    static boolean isCompiled(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.size() >= Integer.BYTES
+                   && channel.map(FileChannel.MapMode.READ_ONLY, 0, Integer.BYTES).getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Ouvre un dictionnaire compilé en projetant ses sections en mémoire.
+     * Les sections absentes sont recalculées à la demande.
+     *
+     * @param path le fichier compilé
+     * @return l'instantané (version 0)
+     * @throws IOException si le fichier est illisible, tronqué ou d'une autre version
+     */
+    static DictionarySnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw corrupted("en-tête tronqué");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw corrupted("signature absente");
+            }
+            int version = header.getInt(4);
+            if (version != VERSION) {
+                throw new IOException("Version de dictionnaire compilé non prise en charge : " + version);
+            }
+            int flags = header.getInt(8);
+            int count = header.getInt(12);
+            int blobLength = header.getInt(16);
+            int maxLength = header.getInt(20);
+            int maxDistinct = header.getInt(24);
+            int letterMaxLength = header.getInt(28);
+            long rejected = header.getLong(32);
+            if ((flags & ~(FLAG_INDEX | FLAG_LETTERS)) != 0 || count < 0 || blobLength < 0
+                    || maxLength < 0 || maxDistinct < 0 || letterMaxLength < 0) {
+                throw corrupted("en-tête invalide");
+            }
+
+            long position = HEADER_SIZE;
+            IntBuffer offsets = mapInts(channel, position, count + 1L);
+            position += (count + 1L) * Integer.BYTES;
+            ByteBuffer blob = map(channel, position, blobLength);
+            position += align(blobLength);
+
+            WordIndex index = null;
+            if ((flags & FLAG_INDEX) != 0) {
+                IntBuffer byLength = mapInts(channel, position, count);
+                position += (long) count * Integer.BYTES;
+                IntBuffer lengthStart = mapInts(channel, position, maxLength + 2L);
+                position += (maxLength + 2L) * Integer.BYTES;
+                IntBuffer byDistinct = mapInts(channel, position, count);
+                position += (long) count * Integer.BYTES;
+                IntBuffer distinctStart = mapInts(channel, position, maxDistinct + 2L);
+                position += (maxDistinct + 2L) * Integer.BYTES;
+                if (lengthStart.get(maxLength + 1) != count || distinctStart.get(maxDistinct + 1) != count) {
+                    throw corrupted("index incohérent");
+                }
+                index = new WordIndex(byLength, lengthStart, byDistinct, distinctStart);
+            }
+            LetterTable letters = null;
+            if ((flags & FLAG_LETTERS) != 0) {
+                long entries = (letterMaxLength + 1L) * LetterTable.LETTERS;
+                letters = new LetterTable(mapInts(channel, position, entries));
+                position += entries * Integer.BYTES;
+            }
+            if (position != fileSize || offsets.get(0) != 0 || offsets.get(count) != blobLength) {
+                throw corrupted("taille ou offsets incohérents");
+            }
+
+            // Les projections restent valides après la fermeture du canal
+            WordArena words = new WordArena(blob, offsets, count, true);
+            return new DictionarySnapshot(words, index != null ? index : WordIndex.build(words),
+                                          letters, rejected, 0);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE || position + size > channel.size()) {
+            throw corrupted("section hors du fichier à l'octet " + position);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+
+    private static IntBuffer mapInts(FileChannel channel, long position, long count) throws IOException {
+        return map(channel, position, count * Integer.BYTES).asIntBuffer();
+    }
+
+    private static IOException corrupted(String detail) {
+        return new IOException("Dictionnaire compilé corrompu : " + detail);
+    }
+
+    private static long align(long size) {
+        return (size + Integer.BYTES - 1) & -Integer.BYTES;
+    }
+
+    /**
+     * Écrit un dictionnaire compilé. Le fichier est écrit à côté de la cible
+     * puis renommé : un lecteur (ou un {@link DictionaryWatcher}) ne voit
+     * jamais un fichier à moitié écrit.
+     *
+     * @param target le fichier à écrire (remplacé s'il existe)
+     * @param blob les mots concaténés, triés et sans doublon
+     * @param offsets les {@code count + 1} offsets de début de mot
+     * @param count le nombre de mots
+     * @param index l'index à inclure, ou null
+     * @param letters les fréquences à inclure, ou null
+     * @param rejected le nombre de lignes rejetées à la compilation
+     * @throws IOException si l'écriture échoue
+     */
+    static void write(Path target, byte[] blob, int[] offsets, int count, WordIndex index,
+                      LetterTable letters, long rejected) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING,
+                                                        StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+                int flags = (index != null ? FLAG_INDEX : 0) | (letters != null ? FLAG_LETTERS : 0);
+                buffer.putInt(MAGIC)
+                      .putInt(VERSION)
+                      .putInt(flags)
+                      .putInt(count)
+                      .putInt(offsets[count])
+                      .putInt(index != null ? index.lengthStart().limit() - 2 : 0)
+                      .putInt(index != null ? index.distinctStart().limit() - 2 : 0)
+                      .putInt(letters != null ? letters.maxLength() : 0)
+                      .putLong(rejected);
+                buffer.position(HEADER_SIZE);
+
+                writeInts(channel, buffer, IntBuffer.wrap(offsets, 0, count + 1));
+                writeBytes(channel, buffer, blob, offsets[count]);
+                while (buffer.position() % Integer.BYTES != 0) {
+                    buffer.put((byte) 0);
+                }
+                if (index != null) {
+                    writeInts(channel, buffer, index.byLength());
+                    writeInts(channel, buffer, index.lengthStart());
+                    writeInts(channel, buffer, index.byDistinct());
+                    writeInts(channel, buffer, index.distinctStart());
+                }
+                if (letters != null) {
+                    writeInts(channel, buffer, letters.counts());
+                }
+                flush(channel, buffer);
+                channel.force(false);
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, IntBuffer values) throws IOException {
+        while (values.hasRemaining()) {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush(channel, buffer);
+            }
+            IntBuffer view = buffer.asIntBuffer();
+            int n = Math.min(view.remaining(), values.remaining());
+            int limit = values.limit();
+            values.limit(values.position() + n);
+            view.put(values);
+            values.limit(limit);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+        }
+    }
+
+    private static void writeBytes(FileChannel channel, ByteBuffer buffer, byte[] bytes, int length)
+            throws IOException {
+        int written = 0;
+        while (written < length) {
+            if (!buffer.hasRemaining()) {
+                flush(channel, buffer);
+            }
+            int n = Math.min(buffer.remaining(), length - written);
+            buffer.put(bytes, written, n);
+            written += n;
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,483 @@
+package edu.centralenantes.Hangman.data;
+
+import edu.centralenantes.Hangman.model.LetterFolding;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Chargeur de dictionnaire au niveau octet.
+ *
+ * Le fichier (UTF-8, un mot par ligne) est projeté en mémoire par
+ * {@link FileChannel#map} puis découpé en tranches alignées sur les fins de
+ * ligne. Les tranches sont analysées en parallèle sur le pool fork-join
+ * commun : chaque ligne est nettoyée, validée (classe de caractères écrite à
+ * la main, sans expression régulière) et mise en majuscules en une seule
+ * passe. Les résultats sont ensuite fusionnés dans l'ordre du fichier.
+ * Un mot est valide s'il ne contient que des lettres a-z, A-Z ou des
+ * lettres de Latin-1 et Latin étendu A qui se replient sur des lettres de
+ * base ({@link LetterFolding}) : le repli est fait ici, une fois par mot.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class DictionaryLoader {
+
+    /** Taille maximale d'une fenêtre de projection. */
+    private static final int WINDOW_SIZE = 1 << 30;
+
+    /** En dessous de cette taille, la fenêtre est analysée sur le thread appelant. */
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /** Nombre maximal de lignes rejetées citées dans le rapport. */
+    static final int MAX_REJECTED_SAMPLES = 5;
+
+    /** Taille maximale d'un tableau Java. */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Résultat d'un chargement : les mots valides et le bilan des lignes rejetées.
+     */
+    static final class Result {
+
+        private final WordArena words;
+        private final int[] lengths;
+        private final int[] distinctLetters;
+        private final long rejectedCount;
+        private final List<String> rejectedSamples;
+
+        private Result(WordArena words, int[] lengths, int[] distinctLetters,
+                       long rejectedCount, List<String> rejectedSamples) {
+            this.words = words;
+            this.lengths = lengths;
+            this.distinctLetters = distinctLetters;
+            this.rejectedCount = rejectedCount;
+            this.rejectedSamples = Collections.unmodifiableList(rejectedSamples);
+        }
+
+        /**
+         * @return les mots valides, dans l'ordre du fichier
+         */
+        WordArena getWords() {
+            return words;
+        }
+
+        /**
+         * @return la longueur (en caractères) de chaque mot
+         */
+        int[] getLengths() {
+            return lengths;
+        }
+
+        /**
+         * @return le nombre de lettres distinctes de chaque mot
+         */
+        int[] getDistinctLetters() {
+            return distinctLetters;
+        }
+
+        /**
+         * @return le nombre de lignes non vides rejetées
+         */
+        long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * @return les premières lignes rejetées, sous la forme "ligne N : contenu"
+         */
+        List<String> getRejectedSamples() {
+            return rejectedSamples;
+        }
+    }
+
+    /**
+     * Analyse d'une tranche : mots valides et lignes rejetées, numérotées
+     * relativement au début de la tranche.
+     */
+    private static final class Chunk implements Callable<Chunk> {
+
+        private final ByteBuffer buffer;
+        private final int from;
+        private final int to;
+        private final boolean last;
+
+        private byte[] words;
+        private int wordsLength;
+        private int[] offsets = new int[256];
+        private int[] lengths = new int[256];
+        private int[] distinct = new int[256];
+        private int count;
+        private long lines;
+        private long rejected;
+        private final long[] rejectedLines = new long[MAX_REJECTED_SAMPLES];
+        private final List<String> rejectedTexts = new ArrayList<>();
+        private int consumed;
+
+        Chunk(ByteBuffer buffer, int from, int to, boolean last) {
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.last = last;
+            this.words = new byte[Math.max(16, to - from)];
+        }
+
+        @Override
+        public Chunk call() {
+            int lineStart = from;
+            int i = from;
+            while (i < to) {
+                byte b = buffer.get(i);
+                if (b != '\n' && b != '\r') {
+                    i++;
+                    continue;
+                }
+                int next = i + 1;
+                if (b == '\r') {
+                    if (next == to && !last) {
+                        // "\r\n" peut être coupé entre deux fenêtres
+                        break;
+                    }
+                    if (next < to && buffer.get(next) == '\n') {
+                        next++;
+                    }
+                }
+                addLine(lineStart, i);
+                lineStart = next;
+                i = next;
+            }
+            if (last && lineStart < to) {
+                addLine(lineStart, to);
+                lineStart = to;
+            }
+            consumed = lineStart - from;
+            return this;
+        }
+
+        private void addLine(int start, int end) {
+            lines++;
+
+            start = trimStart(buffer, start, end);
+            end = trimEnd(buffer, start, end);
+            if (start == end) {
+                return;
+            }
+
+            int out = wordsLength;
+            int i = start;
+            int length = 0;
+            // Lettres de base vues (bit 0 = 'A'), accents repliés
+            int letters = 0;
+            while (i < end) {
+                int b = buffer.get(i) & 0xFF;
+                if (b >= 'a' && b <= 'z') {
+                    b -= 0x20;
+                    words[out++] = (byte) b;
+                    letters |= 1 << (b - 'A');
+                    i++;
+                } else if (b >= 'A' && b <= 'Z') {
+                    words[out++] = (byte) b;
+                    letters |= 1 << (b - 'A');
+                    i++;
+                } else {
+                    int c = accentedLetterAt(buffer, i, end);
+                    if (c < 0) {
+                        reject(start, end);
+                        return;
+                    }
+                    out = putLetter(words, out, LetterFolding.toUpperCase((char) c));
+                    letters |= LetterFolding.letterMask((char) c);
+                    i += 2;
+                }
+                length++;
+            }
+
+            wordsLength = out;
+            if (count + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                lengths = Arrays.copyOf(lengths, offsets.length);
+                distinct = Arrays.copyOf(distinct, offsets.length);
+            }
+            lengths[count] = length;
+            distinct[count] = Integer.bitCount(letters);
+            offsets[++count] = wordsLength;
+        }
+
+        private void reject(int start, int end) {
+            rejected++;
+            if (rejectedTexts.size() < MAX_REJECTED_SAMPLES) {
+                byte[] line = new byte[end - start];
+                buffer.get(start, line);
+                rejectedLines[rejectedTexts.size()] = lines;
+                rejectedTexts.add(new String(line, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private byte[] words = new byte[0];
+    private int wordsLength;
+    private int[] offsets = new int[1];
+    private int[] lengths = new int[0];
+    private int[] distinct = new int[0];
+    private int count;
+    private long lines;
+    private long rejected;
+    private final List<String> rejectedSamples = new ArrayList<>();
+
+    private DictionaryLoader() {
+    }
+
+    /**
+     * Charge un fichier dictionnaire.
+     *
+     * @param path le chemin du fichier
+     * @return les mots valides, dans l'ordre du fichier, et le bilan des rejets
+     * @throws IOException si le fichier est introuvable ou illisible
+     */
+    static Result load(Path path) throws IOException {
+        DictionaryLoader loader = new DictionaryLoader();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int windowSize = (int) Math.min(WINDOW_SIZE, size - position);
+                MappedByteBuffer window =
+                        channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                boolean last = position + windowSize == size;
+                int consumed = loader.parseWindow(window, windowSize, last);
+                if (consumed == 0) {
+                    throw new IOException("Ligne trop longue à partir de l'octet " + position);
+                }
+                position += consumed;
+            }
+        }
+        WordArena arena = new WordArena(ByteBuffer.wrap(loader.words),
+                                        IntBuffer.wrap(loader.offsets),
+                                        loader.count);
+        return new Result(arena, loader.lengths, loader.distinct,
+                          loader.rejected, loader.rejectedSamples);
+    }
+
+    /**
+     * Découpe une fenêtre en tranches, les analyse et fusionne les résultats.
+     *
+     * @return le nombre d'octets consommés (jusqu'à la dernière ligne complète)
+     */
+    private int parseWindow(ByteBuffer window, int limit, boolean last) throws IOException {
+        List<Chunk> chunks = split(window, limit, last);
+        if (chunks.size() == 1) {
+            chunks.get(0).call();
+        } else {
+            try {
+                for (Future<Chunk> future : ForkJoinPool.commonPool().invokeAll(chunks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Chargement interrompu", e);
+            } catch (ExecutionException e) {
+                throw new IOException("Erreur lors de l'analyse du dictionnaire", e.getCause());
+            }
+        }
+
+        long totalBytes = wordsLength;
+        long totalWords = count;
+        for (Chunk chunk : chunks) {
+            totalBytes += chunk.wordsLength;
+            totalWords += chunk.count;
+        }
+        if (totalBytes > MAX_ARRAY_SIZE || totalWords >= MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Dictionnaire trop volumineux");
+        }
+        // Taille exacte : une seule copie par fenêtre, aucune à la fin
+        words = Arrays.copyOf(words, (int) totalBytes);
+        offsets = Arrays.copyOf(offsets, (int) totalWords + 1);
+        lengths = Arrays.copyOf(lengths, (int) totalWords);
+        distinct = Arrays.copyOf(distinct, (int) totalWords);
+
+        int consumed = 0;
+        for (Chunk chunk : chunks) {
+            merge(chunk);
+            consumed += chunk.consumed;
+        }
+        return consumed;
+    }
+
+    /**
+     * Découpe [0, limit) en tranches qui commencent toutes en début de ligne.
+     */
+    private static List<Chunk> split(ByteBuffer window, int limit, boolean last) {
+        List<Chunk> chunks = new ArrayList<>();
+        int parts = limit < PARALLEL_THRESHOLD
+                ? 1 : ForkJoinPool.getCommonPoolParallelism() * 4;
+        int target = limit / parts;
+        int from = 0;
+        while (from < limit) {
+            int to = chunks.size() == parts - 1 ? limit : nextLineStart(window, from + target, limit);
+            chunks.add(new Chunk(window, from, to, last || to < limit));
+            from = to;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return la position qui suit la première fin de ligne à partir de position, ou limit
+     */
+    private static int nextLineStart(ByteBuffer window, int position, int limit) {
+        for (int i = position; i < limit; i++) {
+            byte b = window.get(i);
+            if (b == '\n') {
+                return i + 1;
+            }
+            if (b == '\r') {
+                if (i + 1 == limit) {
+                    return limit;
+                }
+                return window.get(i + 1) == '\n' ? i + 2 : i + 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Ajoute les résultats d'une tranche, dans l'ordre du fichier.
+     */
+    private void merge(Chunk chunk) {
+        System.arraycopy(chunk.words, 0, words, wordsLength, chunk.wordsLength);
+        System.arraycopy(chunk.lengths, 0, lengths, count, chunk.count);
+        System.arraycopy(chunk.distinct, 0, distinct, count, chunk.count);
+        for (int w = 1; w <= chunk.count; w++) {
+            offsets[count + w] = wordsLength + chunk.offsets[w];
+        }
+        wordsLength += chunk.wordsLength;
+        count += chunk.count;
+
+        for (int r = 0; r < chunk.rejectedTexts.size()
+                && rejectedSamples.size() < MAX_REJECTED_SAMPLES; r++) {
+            rejectedSamples.add("ligne " + (lines + chunk.rejectedLines[r])
+                                + " : " + chunk.rejectedTexts.get(r));
+        }
+        rejected += chunk.rejected;
+        lines += chunk.lines;
+    }
+
+    /* ==================== Règles de validité, ligne à ligne ==================== */
+
+    // Mêmes règles que Chunk.addLine, qui les applique en une seule passe
+    // fusionnée avec la copie ; ces versions servent au tirage sans chargement.
+
+    /**
+     * @return le début de [start, end) sans les blancs de tête (comme String.trim())
+     */
+    static int trimStart(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * @return la fin de [start, end) sans les blancs de queue (comme String.trim())
+     */
+    static int trimEnd(ByteBuffer buffer, int start, int end) {
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * @param buffer le tampon contenant la ligne
+     * @param start le début de la ligne nettoyée
+     * @param end la fin de la ligne nettoyée
+     * @return true si la ligne est un mot valide (a-z, A-Z, lettres accentuées), false sinon ou si elle est vide
+     */
+    static boolean isWord(ByteBuffer buffer, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        int i = start;
+        while (i < end) {
+            int b = buffer.get(i) & 0xFF;
+            if ((b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z')) {
+                i++;
+            } else if (accentedLetterAt(buffer, i, end) >= 0) {
+                i += 2;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param buffer le tampon contenant le mot
+     * @param start le début d'un mot validé par {@link #isWord}
+     * @param end la fin du mot
+     * @return le mot en majuscules
+     */
+    static String toWord(ByteBuffer buffer, int start, int end) {
+        byte[] word = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            int b = buffer.get(i) & 0xFF;
+            if (b >= 'a' && b <= 'z') {
+                word[length++] = (byte) (b - 0x20);
+            } else if (b >= 'A' && b <= 'Z') {
+                word[length++] = (byte) b;
+            } else {
+                char c = (char) accentedLetterAt(buffer, i++, end);
+                length = putLetter(word, length, LetterFolding.toUpperCase(c));
+            }
+        }
+        return new String(word, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Décode une lettre accentuée, codée en UTF-8 sur deux octets (U+00C0..U+017F).
+     *
+     * @return le caractère, ou -1 si les octets à l'indice i ne forment pas
+     *         une lettre de la table de repli
+     */
+    private static int accentedLetterAt(ByteBuffer buffer, int i, int end) {
+        int lead = buffer.get(i) & 0xFF;
+        if (lead < 0xC3 || lead > 0xC5 || i + 1 >= end) {
+            return -1;
+        }
+        int second = buffer.get(i + 1) & 0xFF;
+        if ((second & 0xC0) != 0x80) {
+            return -1;
+        }
+        char c = (char) ((lead & 0x1F) << 6 | (second & 0x3F));
+        return LetterFolding.letterMask(c) != 0 ? c : -1;
+    }
+
+    /**
+     * Écrit une lettre de la table de repli en UTF-8 : un octet, ou deux au-delà
+     * de U+007F (la majuscule de ı est I).
+     *
+     * @return l'indice qui suit le dernier octet écrit
+     */
+    private static int putLetter(byte[] target, int out, char c) {
+        if (c < 0x80) {
+            target[out++] = (byte) c;
+        } else {
+            target[out++] = (byte) (0xC0 | c >> 6);
+            target[out++] = (byte) (0x80 | c & 0x3F);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,186 @@
+package edu.centralenantes.Hangman.data;
+
+import edu.centralenantes.Hangman.model.LetterFolding;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Contenu immuable d'un {@link Dictionary} à un instant donné : les mots,
+ * leur index par longueur et par nombre de lettres distinctes, et le bilan
+ * du chargement.
+ *
+ * Un instantané est entièrement construit avant d'être publié et n'est
+ * jamais modifié ensuite : un lecteur qui en garde une référence voit une
+ * liste de mots cohérente, même si le dictionnaire est rechargé entre-temps.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class DictionarySnapshot {
+
+    /** Instantané vide, avant le premier chargement. */
+    static final DictionarySnapshot EMPTY =
+            new DictionarySnapshot(WordArena.EMPTY, WordIndex.EMPTY, null, 0, 0);
+
+    private final WordArena words;
+    private final WordIndex index;
+    private final long rejectedLineCount;
+    private final long version;
+    /** Calculée à la première demande si le fichier ne la fournit pas. */
+    private volatile LetterTable letters;
+
+    /**
+     * @param words les mots
+     * @param index leur index
+     * @param letters les fréquences des lettres, ou null pour les calculer à la demande
+     * @param rejectedLineCount le nombre de lignes rejetées au chargement
+     * @param version le numéro de chargement
+     */
+    DictionarySnapshot(WordArena words, WordIndex index, LetterTable letters,
+                       long rejectedLineCount, long version) {
+        this.words = words;
+        this.index = index;
+        this.letters = letters;
+        this.rejectedLineCount = rejectedLineCount;
+        this.version = version;
+    }
+
+    /**
+     * @param version le numéro de chargement
+     * @return le même contenu sous un autre numéro
+     */
+    DictionarySnapshot withVersion(long version) {
+        return new DictionarySnapshot(words, index, letters, rejectedLineCount, version);
+    }
+
+    /**
+     * @return le numéro de chargement (0 avant le premier, puis 1, 2...)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sélectionne un mot aléatoire.
+     *
+     * @param selector la stratégie de tirage
+     * @return un mot aléatoire
+     * @throws IllegalStateException si l'instantané est vide
+     */
+    public String getRandomWord(WordSelector selector) {
+        if (words.size() == 0) {
+            throw new IllegalStateException("Le dictionnaire est vide. Chargez d'abord un fichier.");
+        }
+        return words.getWord(selector.nextIndex(this));
+    }
+
+    /**
+     * Sélectionne un mot aléatoire dont la longueur est dans un intervalle,
+     * uniformément parmi ces mots, en temps constant.
+     *
+     * @param selector la stratégie de tirage
+     * @param minLength longueur minimale (incluse)
+     * @param maxLength longueur maximale (incluse)
+     * @return un mot aléatoire
+     * @throws IllegalArgumentException si minLength &gt; maxLength
+     * @throws IllegalStateException si aucun mot n'a une telle longueur
+     */
+    public String getRandomWord(WordSelector selector, int minLength, int maxLength) {
+        checkRange(minLength, maxLength);
+        int count = index.countByLength(minLength, maxLength);
+        if (count <= 0) {
+            throw new IllegalStateException("Aucun mot de " + minLength + " à "
+                                            + maxLength + " lettres");
+        }
+        return words.getWord(index.wordByLength(minLength, selector.nextInt(count)));
+    }
+
+    /**
+     * Sélectionne un mot aléatoire dont le nombre de lettres distinctes est
+     * dans un intervalle, uniformément parmi ces mots, en temps constant.
+     *
+     * @param selector la stratégie de tirage
+     * @param minDistinct nombre minimal de lettres distinctes (inclus)
+     * @param maxDistinct nombre maximal de lettres distinctes (inclus)
+     * @return un mot aléatoire
+     * @throws IllegalArgumentException si minDistinct &gt; maxDistinct
+     * @throws IllegalStateException si aucun mot ne correspond
+     */
+    public String getRandomWordByDistinctLetters(WordSelector selector, int minDistinct, int maxDistinct) {
+        checkRange(minDistinct, maxDistinct);
+        int count = index.countByDistinct(minDistinct, maxDistinct);
+        if (count <= 0) {
+            throw new IllegalStateException("Aucun mot de " + minDistinct + " à "
+                                            + maxDistinct + " lettres distinctes");
+        }
+        return words.getWord(index.wordByDistinct(minDistinct, selector.nextInt(count)));
+    }
+
+    private static void checkRange(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Intervalle invalide : [" + min + ", " + max + "]");
+        }
+    }
+
+    /**
+     * Retourne le mot d'indice donné, dans l'ordre du fichier
+     * (triés, pour un dictionnaire compilé).
+     *
+     * @param index l'indice du mot (0 &lt;= index &lt; getWordCount())
+     * @return le mot, en majuscules
+     * @throws IndexOutOfBoundsException si l'indice est invalide
+     */
+    public String getWord(int index) {
+        return words.getWord(index);
+    }
+
+    /**
+     * Retourne l'indice d'un mot, inverse de {@link #getWord(int)}.
+     * La table de recherche est construite au premier appel,
+     * sauf pour un dictionnaire compilé, trié : recherche dichotomique.
+     *
+     * @param word le mot (insensible à la casse)
+     * @return l'indice de sa première occurrence, ou -1 s'il est absent
+     */
+    public int indexOf(String word) {
+        return words.indexOf(LetterFolding.toUpperCase(word).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Retourne, pour chaque lettre A-Z, le nombre de mots d'une longueur
+     * donnée qui la contiennent. Lue dans un dictionnaire compilé, ou
+     * calculée au premier appel.
+     *
+     * @param length la longueur des mots, en caractères
+     * @return 26 compteurs, de A à Z ; que des zéros si aucun mot n'a cette longueur
+     */
+    public int[] getLetterFrequencies(int length) {
+        LetterTable table = letters;
+        if (table == null) {
+            // Course bénigne : deux threads calculeraient la même table
+            table = LetterTable.build(words);
+            letters = table;
+        }
+        return table.frequencies(length);
+    }
+
+    /**
+     * @return le nombre de mots valides
+     */
+    public int getWordCount() {
+        return words.size();
+    }
+
+    /**
+     * @return le nombre de lignes non vides rejetées au chargement
+     */
+    public long getRejectedLineCount() {
+        return rejectedLineCount;
+    }
+
+    /**
+     * @return true si l'instantané ne contient aucun mot
+     */
+    public boolean isEmpty() {
+        return words.size() == 0;
+    }
+}
@@ -0,0 +1,145 @@
+package edu.centralenantes.Hangman.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recharge un {@link Dictionary} quand son fichier change sur le disque.
+ *
+ * Un thread de fond surveille le répertoire du fichier ; les événements
+ * rapprochés (un éditeur écrit souvent en plusieurs fois) sont regroupés
+ * pendant {@value #DEBOUNCE_MILLIS} ms, puis le dictionnaire est rechargé
+ * en un seul {@link Dictionary#loadFromFile}. Le nouvel instantané remplace
+ * l'ancien d'un bloc : les parties en cours ne sont ni bloquées ni
+ * ralenties. Si le rechargement échoue (fichier illisible ou sans mot
+ * valide), l'ancien contenu est conservé.
+ *
+ * Pour éviter de lire un fichier à moitié écrit, le remplacer plutôt par
+ * un renommage atomique d'un fichier temporaire du même répertoire.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class DictionaryWatcher implements Closeable {
+
+    /** Délai de regroupement des événements d'une même écriture. */
+    static final long DEBOUNCE_MILLIS = 100;
+
+    private final Dictionary dictionary;
+    private final Path file;
+    private final Path fileName;
+    private final WatchService watchService;
+    private final Thread thread;
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /**
+     * Démarre la surveillance. Le dictionnaire doit déjà être chargé :
+     * seules les modifications ultérieures du fichier le rechargent.
+     *
+     * @param dictionary le dictionnaire à recharger
+     * @param file le fichier dictionnaire
+     * @throws IOException si le répertoire du fichier ne peut pas être surveillé
+     */
+    public DictionaryWatcher(Dictionary dictionary, Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        this.dictionary = dictionary;
+        this.file = absolute;
+        this.fileName = absolute.getFileName();
+        this.watchService = absolute.getFileSystem().newWatchService();
+        try {
+            absolute.getParent().register(watchService,
+                                          StandardWatchEventKinds.ENTRY_CREATE,
+                                          StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        this.thread = new Thread(this::watchLoop, "hangman-dictionary-watch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return le nombre de rechargements réussis
+     */
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    /**
+     * @return le nombre de rechargements échoués (l'ancien contenu a été conservé)
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                boolean changed = drain(watchService.take());
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Fermeture
+        }
+    }
+
+    /**
+     * @return true si un événement concerne le fichier surveillé
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // OVERFLOW : des événements ont été perdus, le fichier a pu changer
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || fileName.equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reload() {
+        try {
+            dictionary.loadFromFile(file.toString());
+            reloadCount.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failureCount.incrementAndGet();
+            System.err.println("⚠ Rechargement du dictionnaire impossible, l'ancien est conservé : "
+                               + e.getMessage());
+        }
+    }
+
+    /**
+     * Arrête la surveillance et attend la fin d'un rechargement en cours.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            System.err.println("⚠ Arrêt de la surveillance du dictionnaire : " + e.getMessage());
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package edu.centralenantes.Hangman.data;
+
+import java.nio.IntBuffer;
+
+/**
+ * Fréquences des lettres A-Z par longueur de mot : pour chaque longueur n
+ * et chaque lettre, le nombre de mots de n lettres qui la contiennent
+ * (une fois, quel que soit le nombre d'occurrences). Une lettre accentuée
+ * compte pour sa lettre de base.
+ *
+ * La table est calculée à partir des mots, ou lue toute prête dans un
+ * dictionnaire compilé ({@link DictionaryFile}).
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class LetterTable {
+
+    /** Nombre de lettres comptées (A-Z). */
+    static final int LETTERS = 26;
+
+    /** Compteurs, à l'offset longueur * {@value #LETTERS} + lettre. */
+    private final IntBuffer counts;
+
+    /**
+     * @param counts les compteurs, (longueur maximale + 1) * {@value #LETTERS} entrées
+     */
+    LetterTable(IntBuffer counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Compte les lettres des mots d'une arène.
+     *
+     * @param words les mots (UTF-8, en majuscules)
+     * @return la table
+     */
+    static LetterTable build(WordArena words) {
+        int[] lengths = new int[words.size()];
+        int[] masks = new int[words.size()];
+        int maxLength = 0;
+        for (int w = 0; w < lengths.length; w++) {
+            lengths[w] = words.charLength(w);
+            masks[w] = words.letterMask(w);
+            maxLength = Math.max(maxLength, lengths[w]);
+        }
+        int[] counts = new int[(maxLength + 1) * LETTERS];
+        for (int w = 0; w < lengths.length; w++) {
+            for (int mask = masks[w]; mask != 0; mask &= mask - 1) {
+                counts[lengths[w] * LETTERS + Integer.numberOfTrailingZeros(mask)]++;
+            }
+        }
+        return new LetterTable(IntBuffer.wrap(counts));
+    }
+
+    /**
+     * @return la plus grande longueur de mot de la table
+     */
+    int maxLength() {
+        return counts.limit() / LETTERS - 1;
+    }
+
+    /**
+     * @param length une longueur de mot
+     * @return pour chaque lettre A-Z, le nombre de mots de cette longueur qui
+     *         la contiennent ; que des zéros si aucun mot n'a cette longueur
+     */
+    int[] frequencies(int length) {
+        int[] frequencies = new int[LETTERS];
+        if (length >= 0 && length <= maxLength()) {
+            counts.get(length * LETTERS, frequencies);
+        }
+        return frequencies;
+    }
+
+    /**
+     * @return tous les compteurs
+     */
+    IntBuffer counts() {
+        return counts.duplicate();
+    }
+}
@@ -0,0 +1,42 @@
+package edu.centralenantes.Hangman.data;
+
+import java.util.SplittableRandom;
+
+/**
+ * Tirage avec remise, un flux {@link SplittableRandom} par thread.
+ *
+ * Les flux sont dérivés d'un générateur maître par {@link SplittableRandom#split()} :
+ * ils sont statistiquement indépendants et le seul point de synchronisation
+ * est la création du flux d'un thread, à son premier tirage.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class RandomWordSelector implements WordSelector {
+
+    private final SplittableRandom master;
+    private final ThreadLocal<SplittableRandom> streams = ThreadLocal.withInitial(this::split);
+
+    /**
+     * @param seed la graine maîtresse
+     */
+    RandomWordSelector(long seed) {
+        this.master = new SplittableRandom(seed);
+    }
+
+    private SplittableRandom split() {
+        synchronized (master) {
+            return master.split();
+        }
+    }
+
+    @Override
+    public int nextIndex(DictionarySnapshot snapshot) {
+        return nextInt(snapshot.getWordCount());
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return streams.get().nextInt(bound);
+    }
+}
@@ -0,0 +1,82 @@
+package edu.centralenantes.Hangman.data;
+
+import java.util.SplittableRandom;
+
+/**
+ * Sac mélangé : une permutation de Fisher–Yates appliquée paresseusement,
+ * un échange par tirage.
+ *
+ * La case i de la permutation vaut i tant qu'elle n'a pas été écrite
+ * pendant le cycle courant ; chaque case porte le numéro du cycle qui l'a
+ * écrite, si bien qu'un nouveau cycle ne demande ni réinitialisation ni
+ * allocation. Un tirage coûte donc O(1), quelle que soit la taille du
+ * dictionnaire ; le tableau (8 octets par mot) est alloué au premier
+ * tirage sur un instantané.
+ *
+ * Les tirages sont sérialisés par un verrou, tenu le temps d'un échange.
+ * Un rechargement du dictionnaire recommence le sac sur le nouveau contenu.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class ShuffleBagSelector implements WordSelector {
+
+    private final SplittableRandom random;
+    private final WordSelector restricted;
+
+    private DictionarySnapshot snapshot;
+    /** (cycle &lt;&lt; 32) | valeur de la case. */
+    private long[] slots;
+    private int cycle;
+    private int position;
+    private int previous = -1;
+
+    /**
+     * @param seed la graine du mélange
+     */
+    ShuffleBagSelector(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.restricted = new RandomWordSelector(random.nextLong());
+    }
+
+    @Override
+    public synchronized int nextIndex(DictionarySnapshot current) {
+        int n = current.getWordCount();
+        if (current != snapshot) {
+            snapshot = current;
+            slots = new long[n];
+            cycle = 1;
+            position = 0;
+            previous = -1;
+        } else if (position == n) {
+            cycle++;
+            position = 0;
+        }
+
+        int j;
+        if (position == 0 && previous >= 0 && n > 1) {
+            // Début de cycle : toutes les cases valent leur indice, on écarte le dernier mot servi
+            j = random.nextInt(n - 1);
+            if (j >= previous) {
+                j++;
+            }
+        } else {
+            j = position + random.nextInt(n - position);
+        }
+        int chosen = valueAt(j);
+        slots[j] = ((long) cycle << 32) | valueAt(position);
+        position++;
+        previous = chosen;
+        return chosen;
+    }
+
+    private int valueAt(int i) {
+        long slot = slots[i];
+        return (int) (slot >>> 32) == cycle ? (int) slot : i;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return restricted.nextInt(bound);
+    }
+}
@@ -0,0 +1,253 @@
+package edu.centralenantes.Hangman.data;
+
+import edu.centralenantes.Hangman.model.LetterFolding;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stockage compact et immuable d'une liste de mots.
+ *
+ * Tous les mots sont concaténés (UTF-8, en majuscules) dans un seul tampon
+ * d'octets ; une table d'offsets donne le début de chaque mot, l'entrée
+ * {@code i + 1} en donnant la fin. Un mot n'est converti en {@link String}
+ * que lorsqu'il est demandé.
+ *
+ * La recherche d'un mot ({@link #indexOf}) passe par une table de hachage
+ * à adressage ouvert construite à la première demande, ou par une
+ * recherche dichotomique si les mots sont triés et sans doublon (arène
+ * projetée depuis un dictionnaire compilé).
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class WordArena {
+
+    /** Arène vide. */
+    static final WordArena EMPTY =
+            new WordArena(ByteBuffer.allocate(0), IntBuffer.wrap(new int[1]), 0);
+
+    private final ByteBuffer bytes;
+    private final IntBuffer offsets;
+    private final int size;
+    private final boolean sorted;
+    /** Indice + 1 de chaque mot, par hachage ; construite à la demande. */
+    private volatile int[] lookup;
+
+    /**
+     * @param bytes les mots concaténés
+     * @param offsets les {@code size + 1} offsets de début de mot
+     * @param size le nombre de mots
+     */
+    WordArena(ByteBuffer bytes, IntBuffer offsets, int size) {
+        this(bytes, offsets, size, false);
+    }
+
+    /**
+     * @param bytes les mots concaténés
+     * @param offsets les {@code size + 1} offsets de début de mot
+     * @param size le nombre de mots
+     * @param sorted true si les mots sont distincts et triés par octets non signés
+     */
+    WordArena(ByteBuffer bytes, IntBuffer offsets, int size, boolean sorted) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.size = size;
+        this.sorted = sorted;
+    }
+
+    /**
+     * @return le nombre de mots
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Retourne un mot sous forme de chaîne.
+     *
+     * @param index l'indice du mot
+     * @return le mot
+     * @throws IndexOutOfBoundsException si l'indice est invalide
+     */
+    String getWord(int index) {
+        int start = start(index);
+        int length = offsets.get(index + 1) - start;
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + start, length,
+                              StandardCharsets.UTF_8);
+        }
+        byte[] word = new byte[length];
+        bytes.get(start, word);
+        return new String(word, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param index l'indice du mot
+     * @return la longueur du mot en octets UTF-8
+     */
+    int byteLength(int index) {
+        return offsets.get(index + 1) - start(index);
+    }
+
+    /**
+     * @param index l'indice du mot
+     * @param position la position en octets dans le mot
+     * @return l'octet à cette position
+     */
+    byte byteAt(int index, int position) {
+        return bytes.get(start(index) + position);
+    }
+
+    /**
+     * @param index l'indice du mot
+     * @return la longueur du mot en caractères
+     */
+    int charLength(int index) {
+        int end = offsets.get(index + 1);
+        int length = 0;
+        for (int i = start(index); i < end; i++) {
+            if ((bytes.get(i) & 0xC0) != 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * @param index l'indice du mot
+     * @return le masque des lettres de base du mot (bit 0 = 'A'), accents repliés
+     *         par {@link LetterFolding}
+     */
+    int letterMask(int index) {
+        int end = offsets.get(index + 1);
+        int mask = 0;
+        for (int i = start(index); i < end; i++) {
+            int c = bytes.get(i) & 0xFF;
+            if (c >= 0xC0) {
+                // Lettre accentuée : deux octets, U+00C0..U+017F
+                c = (c & 0x1F) << 6 | (bytes.get(++i) & 0x3F);
+            }
+            mask |= LetterFolding.letterMask((char) c);
+        }
+        return mask;
+    }
+
+    /**
+     * Recherche un mot par ses octets UTF-8.
+     *
+     * @param word le mot, en UTF-8 et en majuscules
+     * @return l'indice de sa première occurrence, ou -1 s'il est absent
+     */
+    int indexOf(byte[] word) {
+        if (sorted) {
+            return binarySearch(word);
+        }
+        int[] table = lookup;
+        if (table == null) {
+            // Course bénigne : deux threads construiraient la même table
+            table = buildLookup();
+            lookup = table;
+        }
+        int mask = table.length - 1;
+        for (int slot = hash(word) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (matches(index, word)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private int binarySearch(byte[] word) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = compare(middle, word);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Ordre lexicographique des octets non signés, qui est aussi celui des
+     * points de code pour l'UTF-8.
+     */
+    private int compare(int index, byte[] word) {
+        int start = offsets.get(index);
+        int length = offsets.get(index + 1) - start;
+        int common = Math.min(length, word.length);
+        for (int i = 0; i < common; i++) {
+            int order = Integer.compare(bytes.get(start + i) & 0xFF, word[i] & 0xFF);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return Integer.compare(length, word.length);
+    }
+
+    private int[] buildLookup() {
+        int capacity = Integer.highestOneBit(Math.max(size * 4 / 3, 1)) << 1;
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int index = 0; index < size; index++) {
+            int start = offsets.get(index);
+            int slot = hash(start, offsets.get(index + 1) - start) & mask;
+            // Sondage linéaire : la première occurrence d'un doublon reste devant
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+        }
+        return table;
+    }
+
+    private boolean matches(int index, byte[] word) {
+        int start = offsets.get(index);
+        if (offsets.get(index + 1) - start != word.length) {
+            return false;
+        }
+        for (int i = 0; i < word.length; i++) {
+            if (bytes.get(start + i) != word[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash(int start, int length) {
+        int h = length;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + bytes.get(start + i);
+        }
+        return mix(h);
+    }
+
+    private static int hash(byte[] word) {
+        int h = word.length;
+        for (byte b : word) {
+            h = 31 * h + b;
+        }
+        return mix(h);
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+
+    private int start(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Indice de mot invalide : " + index);
+        }
+        return offsets.get(index);
+    }
+}
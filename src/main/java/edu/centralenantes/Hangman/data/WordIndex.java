@@ -0,0 +1,186 @@
+package edu.centralenantes.Hangman.data;
+
+import java.nio.IntBuffer;
+
+/**
+ * Index des mots d'une {@link WordArena} par longueur et par nombre de
+ * lettres distinctes (accents repliés : ÉLÈVE en a trois). Ces caractéristiques sont calculées par
+ * {@link DictionaryLoader} pendant l'analyse du fichier, ou lues toutes
+ * prêtes dans un dictionnaire compilé ({@link DictionaryFile}).
+ *
+ * Pour chaque critère, les indices des mots sont triés (tri par
+ * dénombrement, stable) et une table de départs donne, pour chaque valeur
+ * v, la position du premier mot de valeur &gt;= v. Les mots d'un intervalle
+ * [min, max] forment donc une tranche contiguë : un tirage est en O(1).
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class WordIndex {
+
+    /** Index vide. */
+    static final WordIndex EMPTY = new WordIndex(IntBuffer.wrap(new int[0]), IntBuffer.wrap(new int[2]),
+                                                 IntBuffer.wrap(new int[0]), IntBuffer.wrap(new int[2]));
+
+    private final IntBuffer byLength;
+    private final IntBuffer lengthStart;
+    private final IntBuffer byDistinct;
+    private final IntBuffer distinctStart;
+
+    /**
+     * @param byLength les indices des mots triés par longueur
+     * @param lengthStart lengthStart[v] = position du premier mot de longueur &gt;= v
+     * @param byDistinct les indices des mots triés par nombre de lettres distinctes
+     * @param distinctStart distinctStart[v] = position du premier mot ayant au moins v lettres distinctes
+     */
+    WordIndex(IntBuffer byLength, IntBuffer lengthStart, IntBuffer byDistinct, IntBuffer distinctStart) {
+        this.byLength = byLength;
+        this.lengthStart = lengthStart;
+        this.byDistinct = byDistinct;
+        this.distinctStart = distinctStart;
+    }
+
+    /**
+     * Construit l'index à partir des caractéristiques de chaque mot.
+     *
+     * @param lengths la longueur (en caractères) de chaque mot
+     * @param distinct le nombre de lettres distinctes de chaque mot
+     * @return l'index
+     */
+    static WordIndex build(int[] lengths, int[] distinct) {
+        int[] lengthStart = new int[max(lengths) + 2];
+        int[] byLength = countingSort(lengths, lengthStart);
+        int[] distinctStart = new int[max(distinct) + 2];
+        int[] byDistinct = countingSort(distinct, distinctStart);
+        return new WordIndex(IntBuffer.wrap(byLength), IntBuffer.wrap(lengthStart),
+                             IntBuffer.wrap(byDistinct), IntBuffer.wrap(distinctStart));
+    }
+
+    /**
+     * Construit l'index en décodant les mots d'une arène.
+     *
+     * @param words les mots (UTF-8, en majuscules)
+     * @return l'index
+     */
+    static WordIndex build(WordArena words) {
+        int[] lengths = new int[words.size()];
+        int[] distinct = new int[words.size()];
+        for (int w = 0; w < lengths.length; w++) {
+            lengths[w] = words.charLength(w);
+            distinct[w] = Integer.bitCount(words.letterMask(w));
+        }
+        return build(lengths, distinct);
+    }
+
+    /**
+     * @return les indices des mots triés par longueur
+     */
+    IntBuffer byLength() {
+        return byLength.duplicate();
+    }
+
+    /**
+     * @return lengthStart[v] = position du premier mot de longueur &gt;= v
+     */
+    IntBuffer lengthStart() {
+        return lengthStart.duplicate();
+    }
+
+    /**
+     * @return les indices des mots triés par nombre de lettres distinctes
+     */
+    IntBuffer byDistinct() {
+        return byDistinct.duplicate();
+    }
+
+    /**
+     * @return distinctStart[v] = position du premier mot ayant au moins v lettres distinctes
+     */
+    IntBuffer distinctStart() {
+        return distinctStart.duplicate();
+    }
+
+    /**
+     * Tri par dénombrement des indices selon une clé.
+     *
+     * @param keys la clé de chaque mot
+     * @param start table à remplir : start[v] = position du premier mot de clé &gt;= v
+     * @return les indices triés par clé croissante
+     */
+    private static int[] countingSort(int[] keys, int[] start) {
+        for (int key : keys) {
+            start[key + 1]++;
+        }
+        for (int v = 1; v < start.length; v++) {
+            start[v] += start[v - 1];
+        }
+        int[] sorted = new int[keys.length];
+        int[] next = start.clone();
+        for (int w = 0; w < keys.length; w++) {
+            sorted[next[keys[w]]++] = w;
+        }
+        return sorted;
+    }
+
+    private static int max(int[] values) {
+        int max = 0;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * @param min longueur minimale (incluse)
+     * @param max longueur maximale (incluse)
+     * @return le nombre de mots dont la longueur est dans l'intervalle
+     */
+    int countByLength(int min, int max) {
+        return upTo(lengthStart, max) - from(lengthStart, min);
+    }
+
+    /**
+     * @param min longueur minimale (incluse)
+     * @param k rang dans la tranche, 0 &lt;= k &lt; countByLength(min, ...)
+     * @return l'indice du k-ième mot de longueur &gt;= min
+     */
+    int wordByLength(int min, int k) {
+        return byLength.get(from(lengthStart, min) + k);
+    }
+
+    /**
+     * @param min nombre minimal de lettres distinctes (inclus)
+     * @param max nombre maximal de lettres distinctes (inclus)
+     * @return le nombre de mots dans l'intervalle
+     */
+    int countByDistinct(int min, int max) {
+        return upTo(distinctStart, max) - from(distinctStart, min);
+    }
+
+    /**
+     * @param min nombre minimal de lettres distinctes (inclus)
+     * @param k rang dans la tranche
+     * @return l'indice du k-ième mot ayant au moins min lettres distinctes
+     */
+    int wordByDistinct(int min, int k) {
+        return byDistinct.get(from(distinctStart, min) + k);
+    }
+
+    /** Position du premier mot de clé &gt;= value. */
+    private static int from(IntBuffer start, int value) {
+        if (value <= 0) {
+            return 0;
+        }
+        int last = start.limit() - 1;
+        return value > last ? start.get(last) : start.get(value);
+    }
+
+    /** Position qui suit le dernier mot de clé &lt;= value. */
+    private static int upTo(IntBuffer start, int value) {
+        if (value < 0) {
+            return 0;
+        }
+        int last = start.limit() - 1;
+        return value >= last ? start.get(last) : start.get(value + 1);
+    }
+}
@@ -0,0 +1,287 @@
+package edu.centralenantes.Hangman.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tirage de mots dans un fichier dictionnaire sans le charger.
+ *
+ * Deux modes, avec les mêmes règles de validité que {@link Dictionary} :
+ * <ul>
+ * <li>{@link #sample} lit le fichier une fois et tire k mots valides
+ * uniformément par échantillonnage de réservoir (algorithme L de Li) ; la
+ * mémoire est en O(k) et seuls les mots retenus deviennent des chaînes ;</li>
+ * <li>{@link #open} projette le fichier en mémoire et
+ * {@link #randomWord} tire un mot en sautant à un octet au hasard, sans
+ * parcourir le fichier. Une ligne de n octets a n fois plus de chances
+ * d'être touchée : elle n'est retenue qu'avec une probabilité 1/n, ce qui
+ * rend le tirage uniforme sur les lignes.</li>
+ * </ul>
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class WordSampler {
+
+    /** Taille d'une fenêtre de projection. */
+    private static final int WINDOW_SIZE = 1 << 30;
+
+    /** Nombre maximal de sauts pour un tirage par octet. */
+    static final int MAX_ATTEMPTS = 1 << 20;
+
+    private final MappedByteBuffer[] windows;
+    private final long size;
+
+    private WordSampler(MappedByteBuffer[] windows, long size) {
+        this.windows = windows;
+        this.size = size;
+    }
+
+    /* ==================== Réservoir ==================== */
+
+    /**
+     * Tire k mots valides distincts par leur position, en une lecture du fichier.
+     * Si le fichier contient moins de k mots valides, ils sont tous retournés.
+     *
+     * @param path le fichier dictionnaire (UTF-8, un mot par ligne)
+     * @param k le nombre de mots à tirer
+     * @param random le générateur
+     * @return les mots tirés, en majuscules, dans un ordre quelconque
+     * @throws IOException si le fichier est illisible ou contient une ligne de plus de 1 Go
+     * @throws IllegalArgumentException si k est négatif
+     */
+    public static List<String> sample(Path path, int k, Random random) throws IOException {
+        if (k < 0) {
+            throw new IllegalArgumentException("Nombre de mots invalide : " + k);
+        }
+        Reservoir reservoir = new Reservoir(k, random);
+        if (k == 0) {
+            return reservoir.words;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int windowSize = (int) Math.min(WINDOW_SIZE, size - position);
+                MappedByteBuffer window =
+                        channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                int consumed = reservoir.scan(window, windowSize, position + windowSize == size);
+                if (consumed == 0) {
+                    throw new IOException("Ligne trop longue à partir de l'octet " + position);
+                }
+                position += consumed;
+            }
+        }
+        return reservoir.words;
+    }
+
+    /**
+     * Réservoir de l'algorithme L : après les k premiers mots, l'indice du
+     * prochain mot retenu est tiré selon une loi géométrique, si bien que le
+     * générateur n'est sollicité que O(k log(n/k)) fois.
+     */
+    private static final class Reservoir {
+
+        private final int k;
+        private final Random random;
+        private final List<String> words;
+        private long seen;
+        private long next;
+        private double w;
+
+        Reservoir(int k, Random random) {
+            this.k = k;
+            this.random = random;
+            this.words = new ArrayList<>(k);
+            this.w = Math.exp(Math.log(uniform()) / k);
+            this.next = k + skip();
+        }
+
+        /**
+         * @return le nombre d'octets consommés (jusqu'à la dernière ligne complète)
+         */
+        int scan(ByteBuffer window, int limit, boolean last) {
+            int lineStart = 0;
+            int i = 0;
+            while (i < limit) {
+                byte b = window.get(i);
+                if (b != '\n' && b != '\r') {
+                    i++;
+                    continue;
+                }
+                int following = i + 1;
+                if (b == '\r') {
+                    if (following == limit && !last) {
+                        break;
+                    }
+                    if (following < limit && window.get(following) == '\n') {
+                        following++;
+                    }
+                }
+                offer(window, lineStart, i);
+                lineStart = following;
+                i = following;
+            }
+            if (last && lineStart < limit) {
+                offer(window, lineStart, limit);
+                lineStart = limit;
+            }
+            return lineStart;
+        }
+
+        private void offer(ByteBuffer window, int start, int end) {
+            start = DictionaryLoader.trimStart(window, start, end);
+            end = DictionaryLoader.trimEnd(window, start, end);
+            if (!DictionaryLoader.isWord(window, start, end)) {
+                return;
+            }
+            seen++;
+            if (seen <= k) {
+                words.add(DictionaryLoader.toWord(window, start, end));
+            } else if (seen == next) {
+                words.set(random.nextInt(k), DictionaryLoader.toWord(window, start, end));
+                w *= Math.exp(Math.log(uniform()) / k);
+                next += skip();
+            }
+        }
+
+        private long skip() {
+            double gap = Math.floor(Math.log(uniform()) / Math.log1p(-w));
+            return gap >= Long.MAX_VALUE / 2 ? Long.MAX_VALUE / 2 : (long) gap + 1;
+        }
+
+        private double uniform() {
+            // ]0, 1[ : log(0) est exclu
+            double u;
+            do {
+                u = random.nextDouble();
+            } while (u == 0);
+            return u;
+        }
+    }
+
+    /* ==================== Tirage par octet ==================== */
+
+    /**
+     * Projette un fichier dictionnaire en mémoire pour des tirages par octet.
+     *
+     * @param path le fichier dictionnaire (UTF-8, un mot par ligne)
+     * @return l'échantillonneur
+     * @throws IOException si le fichier est introuvable ou illisible
+     */
+    public static WordSampler open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] windows = new MappedByteBuffer[(int) ((size + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+            for (int i = 0; i < windows.length; i++) {
+                long position = (long) i * WINDOW_SIZE;
+                windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                                         Math.min(WINDOW_SIZE, size - position));
+            }
+            // La projection reste valide après la fermeture du canal
+            return new WordSampler(windows, size);
+        }
+    }
+
+    /**
+     * @return la taille du fichier, en octets
+     */
+    public long getFileSize() {
+        return size;
+    }
+
+    /**
+     * Tire un mot valide uniformément parmi les lignes du fichier, sans le
+     * parcourir : en moyenne, autant de sauts que la longueur moyenne
+     * d'une ligne divisée par la proportion de lignes valides.
+     *
+     * @param random le générateur
+     * @return un mot, en majuscules
+     * @throws IllegalStateException si aucun mot valide n'est trouvé
+     *         après {@value #MAX_ATTEMPTS} sauts
+     */
+    public String randomWord(Random random) {
+        if (size > 0) {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                long offset = (long) (random.nextDouble() * size);
+                long start = lineStart(offset);
+                long next = nextLineStart(offset);
+                // Une ligne de n octets est touchée n fois plus souvent : retenue avec probabilité 1/n
+                if (random.nextDouble() * (next - start) >= 1) {
+                    continue;
+                }
+                String word = wordAt(start, next);
+                if (word != null) {
+                    return word;
+                }
+            }
+        }
+        throw new IllegalStateException("Aucun mot valide trouvé dans le dictionnaire");
+    }
+
+    private byte byteAt(long position) {
+        return windows[(int) (position / WINDOW_SIZE)].get((int) (position % WINDOW_SIZE));
+    }
+
+    /**
+     * @return le début de la ligne qui contient offset (un "\r\n" forme une seule fin de ligne)
+     */
+    private long lineStart(long offset) {
+        long i = offset;
+        byte b = byteAt(i);
+        if (b == '\n' && i > 0 && byteAt(i - 1) == '\r') {
+            // Le '\n' d'un "\r\n" appartient à la même ligne que le '\r'
+            i--;
+        }
+        while (i > 0) {
+            byte previous = byteAt(i - 1);
+            if (previous == '\n' || previous == '\r') {
+                break;
+            }
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * @return le début de la ligne suivante, ou la taille du fichier
+     */
+    private long nextLineStart(long offset) {
+        for (long i = offset; i < size; i++) {
+            byte b = byteAt(i);
+            if (b == '\n') {
+                return i + 1;
+            }
+            if (b == '\r') {
+                return i + 1 < size && byteAt(i + 1) == '\n' ? i + 2 : i + 1;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return le mot de la ligne [start, next), ou null si la ligne n'est pas valide
+     */
+    private String wordAt(long start, long next) {
+        long length = next - start;
+        if (length > WINDOW_SIZE) {
+            return null;
+        }
+        byte[] line = new byte[(int) length];
+        for (int i = 0; i < line.length; i++) {
+            line[i] = byteAt(start + i);
+        }
+        // Le trim retire aussi la fin de ligne
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        int from = DictionaryLoader.trimStart(buffer, 0, line.length);
+        int end = DictionaryLoader.trimEnd(buffer, from, line.length);
+        return DictionaryLoader.isWord(buffer, from, end) ? DictionaryLoader.toWord(buffer, from, end) : null;
+    }
+}
@@ -0,0 +1,62 @@
+package edu.centralenantes.Hangman.data;
+
+/**
+ * Stratégie de tirage des mots d'un {@link Dictionary}.
+ *
+ * Deux stratégies sont fournies :
+ * <ul>
+ * <li>{@link #random} : tirage uniforme avec remise, chaque thread tirant
+ * dans son propre flux {@link java.util.SplittableRandom} dérivé d'une
+ * graine maîtresse, sans état partagé entre threads ;</li>
+ * <li>{@link #shuffleBag} : sac mélangé qui parcourt tout le dictionnaire
+ * sans jamais resservir un mot avant d'avoir servi tous les autres.</li>
+ * </ul>
+ *
+ * Une stratégie peut être appelée depuis plusieurs threads à la fois.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public interface WordSelector {
+
+    /**
+     * Tire l'indice d'un mot parmi tous ceux d'un instantané.
+     *
+     * @param snapshot le contenu courant du dictionnaire, non vide
+     * @return un indice dans [0, snapshot.getWordCount())
+     */
+    int nextIndex(DictionarySnapshot snapshot);
+
+    /**
+     * Tire un entier uniforme, pour les tirages restreints (longueur,
+     * difficulté) qui portent sur une partie des mots.
+     *
+     * @param bound la borne supérieure (exclue), strictement positive
+     * @return un entier dans [0, bound)
+     */
+    int nextInt(int bound);
+
+    /**
+     * Tirage avec remise en flux par thread. Avec un seul thread, la suite
+     * des mots ne dépend que de la graine ; avec plusieurs, chaque thread
+     * reçoit le flux suivant au moment de son premier tirage.
+     *
+     * @param seed la graine maîtresse
+     * @return la stratégie
+     */
+    static WordSelector random(long seed) {
+        return new RandomWordSelector(seed);
+    }
+
+    /**
+     * Sac mélangé : chaque cycle sert tous les mots une fois, dans un ordre
+     * aléatoire, et deux cycles ne se raccordent pas sur le même mot. Les
+     * tirages restreints, eux, restent avec remise.
+     *
+     * @param seed la graine du mélange
+     * @return la stratégie
+     */
+    static WordSelector shuffleBag(long seed) {
+        return new ShuffleBagSelector(seed);
+    }
+}
@@ -0,0 +1,177 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.LetterFolding;
+
+/**
+ * Résultat d'une proposition de plusieurs lettres (ou d'un mot) en une
+ * seule transition : l'issue de chaque lettre et l'état final.
+ *
+ * Les issues ne sont pas stockées lettre par lettre : elles se déduisent
+ * des masques des lettres nouvellement proposées (justes et fausses) et
+ * de l'indice où la partie s'est arrêtée.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class BatchGuessResult {
+
+    /** Issue d'une lettre du lot. */
+    public enum Outcome {
+        /** Lettre nouvelle, présente dans le mot. */
+        HIT,
+        /** Lettre nouvelle, absente du mot. */
+        MISS,
+        /** Lettre déjà proposée, avant le lot ou plus tôt dans le lot. */
+        REPEAT,
+        /**
+         * Lettre non jouée : la partie s'est terminée avant elle, ou lettre
+         * du mot secret dans un mot faux (voir {@link GameEngine#guessWord}).
+         */
+        SKIPPED
+    }
+
+    private final String letters;
+    private final int previousMask;
+    private final int applied;
+    private final int hitMask;
+    private final int missMask;
+    private final int withheldMask;
+    private final GameState state;
+
+    private BatchGuessResult(String letters, int previousMask, int applied,
+                             int hitMask, int missMask, int withheldMask, GameState state) {
+        this.letters = letters;
+        this.previousMask = previousMask;
+        this.applied = applied;
+        this.hitMask = hitMask;
+        this.missMask = missMask;
+        this.withheldMask = withheldMask;
+        this.state = state;
+    }
+
+    /**
+     * Construit le résultat d'une transition.
+     *
+     * @param before l'état avant le lot
+     * @param letters les lettres proposées
+     * @param after l'état après le lot
+     * @return le résultat
+     */
+    static BatchGuessResult of(GameState before, CharSequence letters, GameState after) {
+        return of(before, letters, after, 0);
+    }
+
+    /**
+     * Construit le résultat d'une transition dont certaines lettres n'ont
+     * pas été jouées.
+     *
+     * @param before l'état avant le lot
+     * @param letters les lettres du lot
+     * @param after l'état après le lot
+     * @param withheld les lettres du lot non jouées (bit 0 = 'A')
+     * @return le résultat
+     */
+    static BatchGuessResult of(GameState before, CharSequence letters, GameState after, int withheld) {
+        int previous = before.getProposedMask();
+        int added = after.getProposedMask() & ~previous;
+        int applied = letters.length();
+        if (after.getStatus() != GameState.Status.IN_PROGRESS) {
+            // La partie s'arrête à la lettre qui complète le masque final
+            int proposed = previous;
+            for (int i = 0; i < letters.length(); i++) {
+                proposed |= GameState.letterBit(letters.charAt(i)) & ~withheld;
+                if (proposed == after.getProposedMask()) {
+                    applied = i + 1;
+                    break;
+                }
+            }
+        }
+        int secret = before.getSecretMask();
+        return new BatchGuessResult(letters.toString(), previous, applied,
+                                    added & secret, added & ~secret, withheld & ~previous, after);
+    }
+
+    /**
+     * @return le nombre de lettres du lot
+     */
+    public int size() {
+        return letters.length();
+    }
+
+    /**
+     * @param index la position dans le lot
+     * @return la lettre proposée à cette position, ramenée à sa lettre de base 'A'-'Z'
+     * @throws IndexOutOfBoundsException si la position est invalide
+     */
+    public char getLetter(int index) {
+        return LetterFolding.baseLetter(letters.charAt(index));
+    }
+
+    /**
+     * @param index la position dans le lot
+     * @return l'issue de la lettre à cette position
+     * @throws IndexOutOfBoundsException si la position est invalide
+     */
+    public Outcome getOutcome(int index) {
+        int bit = GameState.letterBit(letters.charAt(index));
+        if (index >= applied) {
+            return Outcome.SKIPPED;
+        }
+        if ((previousMask & bit) != 0) {
+            return Outcome.REPEAT;
+        }
+        if ((withheldMask & bit) != 0) {
+            return Outcome.SKIPPED;
+        }
+        for (int i = 0; i < index; i++) {
+            if (GameState.letterBit(letters.charAt(i)) == bit) {
+                return Outcome.REPEAT;
+            }
+        }
+        return (hitMask & bit) != 0 ? Outcome.HIT : Outcome.MISS;
+    }
+
+    /**
+     * @return le nombre de lettres lues avant la fin de la partie (lettres
+     *         non jouées d'un mot faux comprises)
+     */
+    public int getAppliedCount() {
+        return applied;
+    }
+
+    /**
+     * @return les lettres nouvelles présentes dans le mot (bit 0 = 'A')
+     */
+    public int getHitMask() {
+        return hitMask;
+    }
+
+    /**
+     * @return les lettres nouvelles absentes du mot (bit 0 = 'A')
+     */
+    public int getMissMask() {
+        return missMask;
+    }
+
+    /**
+     * @return le nombre de lettres nouvelles présentes dans le mot
+     */
+    public int getHitCount() {
+        return Integer.bitCount(hitMask);
+    }
+
+    /**
+     * @return le nombre d'erreurs causées par le lot
+     */
+    public int getMissCount() {
+        return Integer.bitCount(missMask);
+    }
+
+    /**
+     * @return l'état de la partie après le lot
+     */
+    public GameState getState() {
+        return state;
+    }
+}
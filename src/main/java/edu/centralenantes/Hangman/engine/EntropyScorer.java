@@ -0,0 +1,148 @@
+package edu.centralenantes.Hangman.engine;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Gain d'information attendu de chaque lettre sur un ensemble de candidats.
+ *
+ * Proposer une lettre partage les candidats selon le motif qu'elle
+ * révélerait dans le mot masqué : l'ensemble des positions où elle se
+ * trouve, vide si elle est absente. Le gain attendu est l'entropie de ce
+ * partage, en bits : log2(n) - (1/n) * somme des c * log2(c) sur les
+ * classes de taille c.
+ *
+ * Un motif est codé par un long (bit p = lettre à la position p) et compté
+ * dans une table à adressage ouvert de tableaux primitifs. Au-delà de
+ * {@value #PARALLEL_THRESHOLD} candidats, les 26 lettres sont évaluées en
+ * parallèle sur le pool fork-join courant (le pool commun hors d'une tâche).
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class EntropyScorer {
+
+    /** Nombre de candidats à partir duquel les lettres sont évaluées en parallèle. */
+    static final int PARALLEL_THRESHOLD = 4096;
+
+    private static final double LN_2 = Math.log(2);
+
+    private EntropyScorer() {
+    }
+
+    /**
+     * Calcule le gain attendu de chaque lettre non proposée.
+     *
+     * @param bucket les mots de la longueur du mot secret
+     * @param candidates l'ensemble de bits des candidats
+     * @param count le nombre de candidats
+     * @param proposedMask les lettres déjà proposées (bit 0 = 'A'), qui valent -1
+     * @param parallelThreshold nombre de candidats à partir duquel paralléliser
+     * @return le gain de chaque lettre en bits, indicé par lettre (0 = 'A')
+     */
+    static double[] scores(SolverIndex.Bucket bucket, long[] candidates, int count,
+                           int proposedMask, int parallelThreshold) {
+        double[] scores = new double[26];
+        LetterRange all = new LetterRange(bucket, candidates, count, proposedMask, scores, 0, 26,
+                                          count >= parallelThreshold);
+        all.invoke();
+        return scores;
+    }
+
+    /**
+     * @return le gain attendu d'une lettre (0 = 'A'), en bits
+     */
+    static double entropy(SolverIndex.Bucket bucket, long[] candidates, int count, int letter) {
+        long[] contains = bucket.contains();
+        int sets = candidates.length;
+        int base = letter * sets;
+        int hits = 0;
+        for (int i = 0; i < sets; i++) {
+            hits += Long.bitCount(candidates[i] & contains[base + i]);
+        }
+        if (hits == 0 || count <= 1) {
+            return 0;
+        }
+
+        // Table des motifs : capacité au moins double du nombre de motifs possibles
+        int length = bucket.length();
+        int patterns = length < 30 ? Math.min(hits, (1 << length) - 1) : hits;
+        int capacity = Integer.highestOneBit(patterns) << 2;
+        int shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        long[] keys = new long[capacity];
+        int[] counts = new int[capacity];
+        for (int i = 0; i < sets; i++) {
+            for (long set = candidates[i] & contains[base + i]; set != 0; set &= set - 1) {
+                int w = (i << 6) + Long.numberOfTrailingZeros(set);
+                long pattern = 0;
+                for (int p = 0; p < length; p++) {
+                    if (bucket.letterAt(w, p) == letter) {
+                        // Au-delà de 64 positions, deux motifs peuvent se confondre
+                        pattern |= 1L << p;
+                    }
+                }
+                int slot = (int) ((pattern * 0x9E3779B97F4A7C15L) >>> shift);
+                while (keys[slot] != 0 && keys[slot] != pattern) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                keys[slot] = pattern;
+                counts[slot]++;
+            }
+        }
+
+        double sum = xLog2x(count - hits);
+        for (int c : counts) {
+            sum += xLog2x(c);
+        }
+        return log2(count) - sum / count;
+    }
+
+    private static double xLog2x(int c) {
+        return c <= 1 ? 0 : c * log2(c);
+    }
+
+    private static double log2(int n) {
+        return Math.log(n) / LN_2;
+    }
+
+    /** Lettres d'indices [from, to), coupées en deux tant que le calcul est parallèle. */
+    private static final class LetterRange extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SolverIndex.Bucket bucket;
+        private final long[] candidates;
+        private final int count;
+        private final int proposedMask;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+        private final boolean parallel;
+
+        private LetterRange(SolverIndex.Bucket bucket, long[] candidates, int count, int proposedMask,
+                            double[] scores, int from, int to, boolean parallel) {
+            this.bucket = bucket;
+            this.candidates = candidates;
+            this.count = count;
+            this.proposedMask = proposedMask;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected void compute() {
+            if (parallel && to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new LetterRange(bucket, candidates, count, proposedMask, scores, from, middle, true),
+                          new LetterRange(bucket, candidates, count, proposedMask, scores, middle, to, true));
+                return;
+            }
+            for (int letter = from; letter < to; letter++) {
+                scores[letter] = (proposedMask & (1 << letter)) != 0
+                        ? -1
+                        : entropy(bucket, candidates, count, letter);
+            }
+        }
+    }
+}
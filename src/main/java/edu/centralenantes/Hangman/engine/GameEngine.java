@@ -3,18 +3,45 @@
  * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
  */
 package edu.centralenantes.Hangman.engine;
+import edu.centralenantes.Hangman.metrics.HangmanMetrics;
 import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.LetterFolding;
 
 /**
  * Moteur du jeu du pendu.
  * Gère les règles et transitions d'état.
  * 
+ * Un moteur n'est utilisé que par un thread à la fois ; il alimente les
+ * métriques par son propre enregistreur, sans vérifier le thread à chaque
+ * partie.
+ * 
  * @author MEDEV 2026
  * @version 1.0
  */
 public class GameEngine {
     
+    private static final int SAMPLE_MASK = HangmanMetrics.SAMPLE_INTERVAL - 1;
+    
+    private final HangmanMetrics metrics;
+    private final HangmanMetrics.Recorder recorder;
     private GameState currentState;
+    private int gameCount;
+    private boolean timedGame;
+    
+    /**
+     * Moteur alimentant les métriques globales.
+     */
+    public GameEngine() {
+        this(HangmanMetrics.global());
+    }
+    
+    /**
+     * @param metrics les métriques à alimenter
+     */
+    public GameEngine(HangmanMetrics metrics) {
+        this.metrics = metrics;
+        this.recorder = metrics.recorderFor(this);
+    }
     
     /**
      * Démarre une nouvelle partie.
@@ -24,7 +51,18 @@ public class GameEngine {
      * @throws IllegalArgumentException si les paramètres sont invalides
      */
     public void startNewGame(String secretWord, int maxErrors) {
-        this.currentState = new GameState(secretWord, maxErrors);
+        GameState state = new GameState(secretWord, maxErrors);
+        recordGameStart();
+        this.currentState = state;
+    }
+    
+    private void recordGameStart() {
+        if (currentState != null && currentState.getStatus() == GameState.Status.IN_PROGRESS) {
+            // Partie abandonnée : ses propositions comptent quand même
+            recorder.gameEnded(GameState.Status.IN_PROGRESS, Integer.bitCount(currentState.getProposedMask()));
+        }
+        recorder.gameStarted();
+        timedGame = (++gameCount & SAMPLE_MASK) == 0 && metrics.isEnabled();
     }
     
     /**
@@ -36,23 +74,142 @@ public class GameEngine {
      * @throws IllegalStateException si aucune partie n'est en cours
      */
     public boolean guessLetter(char letter) {
-        if (currentState == null) {
-            throw new IllegalStateException("Aucune partie en cours");
-        }
+        return guess(letter).isCorrect();
+    }
+    
+    /**
+     * Propose une lettre et retourne l'issue avec le nouvel état.
+     * 
+     * @param letter la lettre à proposer
+     * @return l'issue de la proposition et le nouvel état
+     * @throws IllegalArgumentException si la lettre est invalide
+     * @throws IllegalStateException si aucune partie n'est en cours
+     */
+    public GuessResult guess(char letter) {
+        GameState before = requireGame();
+        
+        GameState after = timedGame ? timedProposal(before, letter) : before.proposeLettre(letter);
+        update(after);
+        
+        return GuessResult.of(before, letter, after);
+    }
+    
+    /**
+     * Propose plusieurs lettres en une seule transition, dans l'ordre. Tout
+     * le lot est d'abord validé ; les lettres déjà proposées sont ensuite
+     * sans effet, et la partie s'arrête à la première victoire ou défaite :
+     * les lettres suivantes ne sont pas appliquées.
+     * 
+     * @param letters les lettres à proposer (insensibles à la casse et aux accents)
+     * @return l'issue de chaque lettre et le nouvel état
+     * @throws IllegalArgumentException si un caractère n'est pas une lettre
+     *         (aucune lettre n'est alors appliquée)
+     * @throws IllegalStateException si aucune partie n'est en cours
+     */
+    public BatchGuessResult guessLetters(CharSequence letters) {
+        GameState before = requireGame();
         
-        boolean wasAlreadyProposed = currentState.isLetterProposed(letter);
+        GameState after = timedGame ? timedProposal(before, letters) : before.proposeLetters(letters);
+        update(after);
         
-        GameState newState = currentState.proposeLettre(letter);
+        return BatchGuessResult.of(before, letters, after);
+    }
+    
+    /**
+     * Propose un mot entier, comparé au mot secret lettre de base par
+     * lettre de base (casse et accents ignorés). L'état d'une partie ne
+     * retenant que des lettres :
+     * <ul>
+     * <li>le bon mot propose ses lettres en un seul lot et gagne la partie ;</li>
+     * <li>un mauvais mot ne propose que ses lettres absentes du mot secret,
+     * une erreur chacune ; ses autres lettres ne sont pas jouées (SKIPPED),
+     * si bien qu'un mot faux, même anagramme du bon, ne révèle rien.</li>
+     * </ul>
+     * Une ligature (Œ, Æ) se compare à la même ligature et joue ses deux
+     * lettres de base : le résultat compte alors une lettre de plus que le mot.
+     * 
+     * @param word le mot proposé (insensible à la casse et aux accents)
+     * @return l'issue de chaque lettre de base jouée ou retenue, dans l'ordre
+     *         du mot, et le nouvel état
+     * @throws IllegalArgumentException si le mot est vide, contient autre
+     *         chose que des lettres, ou n'a pas la longueur du mot secret
+     * @throws IllegalStateException si aucune partie n'est en cours
+     */
+    public BatchGuessResult guessWord(String word) {
+        GameState before = requireGame();
+        String secret = before.getSecretWord();
+        if (word.length() != secret.length()) {
+            throw new IllegalArgumentException("Le mot proposé doit avoir " + secret.length() + " lettres");
+        }
         
-        // Si l'état n'a pas changé, la lettre était déjà proposée
-        if (wasAlreadyProposed) {
-            return currentState.getSecretWord().indexOf(Character.toUpperCase(letter)) >= 0;
+        boolean exact = true;
+        int wordMask = 0;
+        StringBuilder letters = new StringBuilder(word.length() + 2);
+        StringBuilder misses = new StringBuilder(word.length() + 2);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            int mask = LetterFolding.letterMask(c);
+            if (mask == 0) {
+                throw new IllegalArgumentException("Caractère invalide : " + c);
+            }
+            exact &= mask == LetterFolding.letterMask(secret.charAt(i));
+            wordMask |= mask;
+            // Une lettre de base par bit : deux pour une ligature
+            for (int bits = mask; bits != 0; bits &= bits - 1) {
+                char letter = (char) ('A' + Integer.numberOfTrailingZeros(bits));
+                letters.append(letter);
+                if ((before.getSecretMask() & bits & -bits) == 0) {
+                    misses.append(letter);
+                }
+            }
         }
+        CharSequence played = exact ? letters : misses;
+        
+        GameState after = timedGame ? timedProposal(before, played) : before.proposeLetters(played);
+        update(after);
         
-        boolean isCorrect = newState.getRemainingErrors() == currentState.getRemainingErrors();
-        currentState = newState;
+        return BatchGuessResult.of(before, letters, after, exact ? 0 : wordMask & before.getSecretMask());
+    }
+    
+    private GameState requireGame() {
+        GameState state = currentState;
+        if (state == null) {
+            throw new IllegalStateException("Aucune partie en cours");
+        }
+        return state;
+    }
+    
+    private void update(GameState after) {
+        currentState = after;
         
-        return isCorrect;
+        // Une partie terminée refuse toute proposition : on ne passe ici qu'une fois
+        if (after.getStatus() != GameState.Status.IN_PROGRESS) {
+            recorder.gameEnded(after.getStatus(), Integer.bitCount(after.getProposedMask()));
+        }
+    }
+    
+    // Chemins rares (une partie sur SAMPLE_INTERVAL), gardés hors de guess()
+    // pour que le compilateur ne les intègre pas au chemin courant
+    private GameState timedProposal(GameState before, char letter) {
+        long start = System.nanoTime();
+        GameState after;
+        try {
+            after = before.proposeLettre(letter);
+        } finally {
+            metrics.guessTimed(System.nanoTime() - start);
+        }
+        return after;
+    }
+    
+    private GameState timedProposal(GameState before, CharSequence letters) {
+        long start = System.nanoTime();
+        GameState after;
+        try {
+            after = before.proposeLetters(letters);
+        } finally {
+            metrics.guessTimed(System.nanoTime() - start);
+        }
+        return after;
     }
     
     /**
@@ -0,0 +1,45 @@
+package edu.centralenantes.Hangman.engine;
+
+/**
+ * Observateur des événements d'un {@link GameSessionManager} : début de
+ * partie, proposition effective et fin de session.
+ *
+ * Les méthodes sont appelées par le thread qui effectue l'opération et
+ * doivent donc rester brèves. Une proposition déjà faite, qui ne change
+ * pas l'état, n'est pas notifiée.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public interface GameEventListener {
+
+    /** Observateur qui ignore tous les événements. */
+    GameEventListener NONE = new GameEventListener() { };
+
+    /**
+     * Une partie démarre dans une session (nouvelle ou existante).
+     *
+     * @param sessionId l'identifiant de la session
+     * @param secretWord le mot à deviner, en majuscules
+     * @param maxErrors le nombre maximal d'erreurs
+     */
+    default void onNewGame(long sessionId, String secretWord, int maxErrors) {
+    }
+
+    /**
+     * Une lettre nouvelle a été proposée dans une session.
+     *
+     * @param sessionId l'identifiant de la session
+     * @param letter la lettre proposée, ramenée à sa lettre de base 'A'-'Z'
+     */
+    default void onGuess(long sessionId, char letter) {
+    }
+
+    /**
+     * Une session a été fermée.
+     *
+     * @param sessionId l'identifiant de la session
+     */
+    default void onSessionEnd(long sessionId) {
+    }
+}
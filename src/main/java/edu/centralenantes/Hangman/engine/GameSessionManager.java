@@ -0,0 +1,272 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.metrics.HangmanMetrics;
+import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.LetterFolding;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gestionnaire de parties concurrentes, indexées par identifiant de session.
+ *
+ * Chaque session avance par une boucle CAS sur une {@link AtomicReference}
+ * (GameState est immuable) : sans observateur, les appels sur une session
+ * sont sans verrou, et la table des sessions n'a pas de verrou global.
+ *
+ * Un {@link GameEventListener} optionnel reçoit les débuts de partie, les
+ * propositions qui changent l'état et les fins de session (journal, etc.).
+ * Pour qu'il les reçoive dans l'ordre où elles s'appliquent, chaque
+ * changement d'une session et sa notification se font alors sous le verrou
+ * de la référence de cette session : seules les écritures d'une même
+ * session sont sérialisées, et la lecture ({@link #getState}) reste sans
+ * verrou.
+ *
+ * Les parties démarrées, terminées ou abandonnées (remplacées ou fermées en
+ * cours) sont comptées dans des {@link HangmanMetrics}, globales par défaut.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public class GameSessionManager {
+
+    private final ConcurrentMap<Long, AtomicReference<GameState>> sessions =
+            new ConcurrentHashMap<>();
+    private final AtomicLong nextSessionId = new AtomicLong();
+    private final GameEventListener listener;
+    // Vrai si un observateur doit recevoir les événements dans l'ordre : écritures sous verrou
+    private final boolean ordered;
+    private final HangmanMetrics metrics;
+
+    /**
+     * Gestionnaire sans observateur.
+     */
+    public GameSessionManager() {
+        this(GameEventListener.NONE);
+    }
+
+    /**
+     * @param listener l'observateur des événements de partie
+     */
+    public GameSessionManager(GameEventListener listener) {
+        this(listener, HangmanMetrics.global());
+    }
+
+    /**
+     * @param listener l'observateur des événements de partie
+     * @param metrics les métriques à alimenter
+     */
+    public GameSessionManager(GameEventListener listener, HangmanMetrics metrics) {
+        this.listener = listener;
+        this.ordered = listener != GameEventListener.NONE;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Démarre une partie dans une nouvelle session.
+     *
+     * @param secretWord le mot à deviner
+     * @param maxErrors le nombre maximal d'erreurs
+     * @return l'identifiant de la session créée
+     * @throws IllegalArgumentException si les paramètres sont invalides
+     */
+    public long startNewGame(String secretWord, int maxErrors) {
+        GameState state = new GameState(secretWord, maxErrors);
+        long sessionId = nextSessionId.incrementAndGet();
+        // Identifiant encore inconnu des appelants : aucune proposition ne peut précéder le début
+        listener.onNewGame(sessionId, state.getSecretWord(), maxErrors);
+        sessions.put(sessionId, new AtomicReference<>(state));
+        metrics.gameStarted();
+        return sessionId;
+    }
+
+    /**
+     * Démarre une nouvelle partie dans une session existante (ou la crée).
+     *
+     * @param sessionId l'identifiant de la session
+     * @param secretWord le mot à deviner
+     * @param maxErrors le nombre maximal d'erreurs
+     * @throws IllegalArgumentException si les paramètres sont invalides
+     */
+    public void startNewGame(long sessionId, String secretWord, int maxErrors) {
+        GameState state = new GameState(secretWord, maxErrors);
+        if (!ordered) {
+            AtomicReference<GameState> session =
+                    sessions.putIfAbsent(sessionId, new AtomicReference<>(state));
+            if (session != null) {
+                recordAbandoned(session.getAndSet(state));
+            }
+            metrics.gameStarted();
+            return;
+        }
+        while (true) {
+            AtomicReference<GameState> session = sessions.get(sessionId);
+            if (session == null) {
+                session = new AtomicReference<>(state);
+                synchronized (session) {
+                    if (sessions.putIfAbsent(sessionId, session) == null) {
+                        try {
+                            listener.onNewGame(sessionId, state.getSecretWord(), maxErrors);
+                        } catch (RuntimeException e) {
+                            // Refusée par l'observateur : la session n'existe pas
+                            sessions.remove(sessionId, session);
+                            throw e;
+                        }
+                        metrics.gameStarted();
+                        return;
+                    }
+                }
+                continue;
+            }
+            synchronized (session) {
+                // Session fermée entre-temps : on recommence
+                if (sessions.get(sessionId) == session) {
+                    listener.onNewGame(sessionId, state.getSecretWord(), maxErrors);
+                    recordAbandoned(session.getAndSet(state));
+                    metrics.gameStarted();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Propose une lettre dans une session.
+     *
+     * @param sessionId l'identifiant de la session
+     * @param letter la lettre à proposer
+     * @return l'issue de la proposition et le nouvel état
+     * @throws IllegalArgumentException si la session est inconnue ou la lettre invalide
+     * @throws IllegalStateException si la partie de la session est terminée
+     */
+    public GuessResult guessLetter(long sessionId, char letter) {
+        AtomicReference<GameState> session = session(sessionId);
+        if (!ordered) {
+            while (true) {
+                GameState current = session.get();
+                GameState next = current.proposeLettre(letter);
+                if (next == current) {
+                    return GuessResult.of(current, letter, next);
+                }
+                if (session.compareAndSet(current, next)) {
+                    recordEnded(next);
+                    return GuessResult.of(current, letter, next);
+                }
+            }
+        }
+        synchronized (session) {
+            if (sessions.get(sessionId) != session) {
+                throw new IllegalArgumentException("Session inconnue : " + sessionId);
+            }
+            GameState current = session.get();
+            GameState next = current.proposeLettre(letter);
+            if (next != current) {
+                listener.onGuess(sessionId, LetterFolding.baseLetter(letter));
+                session.set(next);
+                recordEnded(next);
+            }
+            return GuessResult.of(current, letter, next);
+        }
+    }
+
+    /**
+     * Retourne l'état courant d'une session.
+     *
+     * @param sessionId l'identifiant de la session
+     * @return l'état courant
+     * @throws IllegalArgumentException si la session est inconnue
+     */
+    public GameState getState(long sessionId) {
+        return session(sessionId).get();
+    }
+
+    /**
+     * Indique si une session est ouverte.
+     *
+     * @param sessionId l'identifiant de la session
+     * @return true si une partie a été démarrée dans cette session
+     */
+    public boolean hasSession(long sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+
+    /**
+     * Termine une session et libère sa place.
+     *
+     * @param sessionId l'identifiant de la session
+     * @return le dernier état de la session, ou null si elle était inconnue
+     */
+    public GameState endSession(long sessionId) {
+        if (!ordered) {
+            AtomicReference<GameState> session = sessions.remove(sessionId);
+            if (session == null) {
+                return null;
+            }
+            GameState last = session.get();
+            recordAbandoned(last);
+            return last;
+        }
+        while (true) {
+            AtomicReference<GameState> session = sessions.get(sessionId);
+            if (session == null) {
+                return null;
+            }
+            synchronized (session) {
+                // Sinon fermée (ou remplacée) entre-temps : on recommence
+                if (sessions.remove(sessionId, session)) {
+                    listener.onSessionEnd(sessionId);
+                    GameState last = session.get();
+                    recordAbandoned(last);
+                    return last;
+                }
+            }
+        }
+    }
+
+    /**
+     * Réinstalle une session reconstruite (par exemple depuis un journal),
+     * sans notifier l'observateur. Les identifiants attribués ensuite par
+     * {@link #startNewGame(String, int)} restent supérieurs.
+     *
+     * @param sessionId l'identifiant de la session
+     * @param state l'état de la session
+     */
+    public void restoreSession(long sessionId, GameState state) {
+        sessions.put(sessionId, new AtomicReference<>(state));
+        nextSessionId.accumulateAndGet(sessionId, Math::max);
+    }
+
+    /**
+     * @return le nombre de sessions ouvertes
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void recordEnded(GameState state) {
+        if (state.getStatus() != GameState.Status.IN_PROGRESS) {
+            metrics.gameEnded(state.getStatus(), Integer.bitCount(state.getProposedMask()));
+        }
+    }
+
+    // Partie quittée en cours : ses propositions comptent, pas son issue
+    private void recordAbandoned(GameState state) {
+        if (state.getStatus() == GameState.Status.IN_PROGRESS) {
+            metrics.gameEnded(GameState.Status.IN_PROGRESS, Integer.bitCount(state.getProposedMask()));
+        }
+    }
+
+    /**
+     * @return la référence d'une session, dont le moniteur sert de verrou
+     *         quand un observateur attend les événements dans l'ordre
+     * @throws IllegalArgumentException si la session est inconnue
+     */
+    AtomicReference<GameState> session(long sessionId) {
+        AtomicReference<GameState> session = sessions.get(sessionId);
+        if (session == null) {
+            throw new IllegalArgumentException("Session inconnue : " + sessionId);
+        }
+        return session;
+    }
+}
@@ -0,0 +1,69 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.LetterFolding;
+
+/**
+ * Résultat d'une proposition de lettre : l'issue et le nouvel état, lus ensemble.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class GuessResult {
+
+    private final char letter;
+    private final boolean correct;
+    private final boolean alreadyProposed;
+    private final GameState state;
+
+    private GuessResult(char letter, boolean correct, boolean alreadyProposed, GameState state) {
+        this.letter = letter;
+        this.correct = correct;
+        this.alreadyProposed = alreadyProposed;
+        this.state = state;
+    }
+
+    /**
+     * Construit le résultat d'une transition.
+     *
+     * @param before l'état avant la proposition
+     * @param letter la lettre proposée
+     * @param after l'état après la proposition
+     * @return le résultat
+     */
+    static GuessResult of(GameState before, char letter, GameState after) {
+        int bit = GameState.letterBit(letter);
+        return new GuessResult(LetterFolding.baseLetter(letter),
+                               (before.getSecretMask() & bit) != 0,
+                               (before.getProposedMask() & bit) != 0,
+                               after);
+    }
+
+    /**
+     * @return la lettre proposée, ramenée à sa lettre de base 'A'-'Z'
+     */
+    public char getLetter() {
+        return letter;
+    }
+
+    /**
+     * @return true si la lettre est dans le mot
+     */
+    public boolean isCorrect() {
+        return correct;
+    }
+
+    /**
+     * @return true si la lettre avait déjà été proposée (état inchangé)
+     */
+    public boolean isAlreadyProposed() {
+        return alreadyProposed;
+    }
+
+    /**
+     * @return l'état de la partie après la proposition
+     */
+    public GameState getState() {
+        return state;
+    }
+}
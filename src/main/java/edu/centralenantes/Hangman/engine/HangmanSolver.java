@@ -0,0 +1,166 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.MutableGameState;
+
+/**
+ * Solveur automatique du pendu.
+ *
+ * Le solveur ne connaît que ce qu'un joueur voit : la longueur du mot, le
+ * mot masqué et les lettres fausses. Il conserve les mots du dictionnaire
+ * encore compatibles (voir {@link SolverGame}) et propose une lettre selon
+ * sa {@link Strategy}. L'index est construit une fois et partagé : un même
+ * solveur peut jouer plusieurs parties en parallèle. Les premiers coups
+ * peuvent être mis en cache dans un {@link OpeningBook}.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public class HangmanSolver {
+
+    /** Choix de la lettre suivante parmi les candidats restants. */
+    public enum Strategy {
+        /** Lettre présente dans le plus grand nombre de candidats. */
+        FREQUENCY,
+        /**
+         * Lettre de plus grand gain d'information attendu : celle qui partage
+         * le mieux les candidats selon le motif révélé. Plus lente, évaluée
+         * en parallèle sur les grands ensembles de candidats.
+         */
+        ENTROPY
+    }
+
+    private final SolverIndex index;
+    private final Strategy strategy;
+    private final OpeningBook openingBook;
+
+    /**
+     * Construit le solveur à partir d'un dictionnaire chargé, avec la
+     * stratégie FREQUENCY.
+     * Les mots accentués sont candidats (accents repliés sur A-Z) ; seuls
+     * les mots à ligature (Œ, Æ) sont écartés.
+     *
+     * @param dictionary le dictionnaire
+     */
+    public HangmanSolver(Dictionary dictionary) {
+        this(dictionary, Strategy.FREQUENCY);
+    }
+
+    /**
+     * Construit le solveur à partir d'un dictionnaire chargé.
+     *
+     * @param dictionary le dictionnaire
+     * @param strategy le choix de la lettre suivante
+     */
+    public HangmanSolver(Dictionary dictionary, Strategy strategy) {
+        this(dictionary, strategy, null);
+    }
+
+    /**
+     * Construit le solveur à partir d'un dictionnaire chargé, avec un cache
+     * des premiers coups.
+     *
+     * @param dictionary le dictionnaire
+     * @param strategy le choix de la lettre suivante
+     * @param openingBook le cache des premiers coups, ou null
+     */
+    public HangmanSolver(Dictionary dictionary, Strategy strategy, OpeningBook openingBook) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("La stratégie ne peut pas être null");
+        }
+        this.index = new SolverIndex(dictionary);
+        this.strategy = strategy;
+        this.openingBook = openingBook;
+    }
+
+    /**
+     * @return la stratégie du solveur
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return le cache des premiers coups, ou null
+     */
+    public OpeningBook getOpeningBook() {
+        return openingBook;
+    }
+
+    /**
+     * @return l'index du dictionnaire
+     */
+    SolverIndex index() {
+        return index;
+    }
+
+    /**
+     * Commence le suivi d'une nouvelle partie.
+     *
+     * @param wordLength la longueur du mot secret
+     * @return le suivi de la partie
+     */
+    public SolverGame newGame(int wordLength) {
+        return new SolverGame(index, wordLength, strategy, openingBook);
+    }
+
+    /**
+     * Joue une partie jusqu'à la fin, à partir d'un état donné.
+     *
+     * @param state l'état de départ
+     * @return l'état final (gagné ou perdu)
+     */
+    public GameState solve(GameState state) {
+        SolverGame game = newGame(state.getSecretWord().length());
+        for (int mask = state.getProposedMask(); mask != 0; mask &= mask - 1) {
+            game.update((char) ('A' + Integer.numberOfTrailingZeros(mask)), state);
+        }
+        while (state.getStatus() == GameState.Status.IN_PROGRESS) {
+            char letter = game.nextLetter();
+            state = state.proposeLettre(letter);
+            game.update(letter, state);
+        }
+        return state;
+    }
+
+    /**
+     * Joue une partie jusqu'à la fin en modifiant l'état sur place (simulations).
+     *
+     * @param state l'état de départ, terminé au retour
+     */
+    public void solve(MutableGameState state) {
+        SolverGame game = newGame(state.getSecretWord().length());
+        for (int mask = state.getProposedMask(); mask != 0; mask &= mask - 1) {
+            game.update((char) ('A' + Integer.numberOfTrailingZeros(mask)), state);
+        }
+        while (state.getStatus() == GameState.Status.IN_PROGRESS) {
+            char letter = game.nextLetter();
+            state.proposeLettre(letter);
+            game.update(letter, state);
+        }
+    }
+
+    /**
+     * Joue la partie en cours d'un moteur jusqu'à la fin.
+     *
+     * @param engine le moteur, avec une partie démarrée
+     * @return l'état final (gagné ou perdu)
+     * @throws IllegalStateException si aucune partie n'est en cours
+     */
+    public GameState play(GameEngine engine) {
+        GameState state = engine.getCurrentState();
+        if (state == null) {
+            throw new IllegalStateException("Aucune partie en cours");
+        }
+        SolverGame game = newGame(state.getSecretWord().length());
+        for (int mask = state.getProposedMask(); mask != 0; mask &= mask - 1) {
+            game.update((char) ('A' + Integer.numberOfTrailingZeros(mask)), state);
+        }
+        while (!engine.isGameOver()) {
+            char letter = game.nextLetter();
+            game.update(letter, engine.guess(letter).getState());
+        }
+        return engine.getCurrentState();
+    }
+}
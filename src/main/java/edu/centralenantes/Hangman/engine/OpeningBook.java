@@ -0,0 +1,435 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache des premiers coups du solveur.
+ *
+ * Tant que peu de lettres ont été proposées, la décision du solveur ne
+ * dépend que du dictionnaire, de la stratégie, de la longueur du mot, des
+ * lettres révélées à chaque position et des lettres fausses : les mêmes
+ * situations reviennent d'une partie à l'autre. Le cache les mémorise,
+ * sous la clé (empreinte du dictionnaire, stratégie, lettres révélées,
+ * lettres proposées), pour les {@code depth} premières décisions de
+ * chaque partie. Le nombre d'erreurs autorisées n'y figure pas : le
+ * solveur n'en tient pas compte.
+ *
+ * Deux niveaux :
+ * <ul>
+ * <li>une table précalculée hors ligne ({@link #build}), lue à la première
+ * décision : un solveur neuf joue ses premiers coups sans calcul ;</li>
+ * <li>une mémoire LRU bornée pour les situations absentes de la table.</li>
+ * </ul>
+ * Une table construite sur un autre dictionnaire ou pour une autre
+ * stratégie ne donne simplement aucune réponse. Un même cache peut servir
+ * plusieurs solveurs et plusieurs threads.
+ *
+ * Usage : {@code OpeningBook DICTIONNAIRE CIBLE [--depth D] [--strategy frequency|entropy]}
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class OpeningBook {
+
+    /** Nombre de décisions mises en cache par partie, par défaut. */
+    public static final int DEFAULT_DEPTH = 3;
+
+    /** Nombre de situations gardées en mémoire, par défaut. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** Signature de la table : 0x89 puis "HOB". */
+    static final int MAGIC = 0x89484F42;
+
+    /** Version du format de la table. */
+    static final int VERSION = 1;
+
+    private static final String USAGE =
+            "Usage : OpeningBook DICTIONNAIRE CIBLE [--depth D] [--strategy frequency|entropy]";
+
+    private static final HangmanSolver.Strategy[] STRATEGIES = HangmanSolver.Strategy.values();
+
+    private final int depth;
+    private final Path tablePath;
+    private volatile Table table;
+    private final Map<Key, Character> recent;
+    private final LongAdder tableHits = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Cache en mémoire seulement.
+     *
+     * @param capacity le nombre maximal de situations gardées en mémoire
+     * @param depth le nombre de décisions mises en cache par partie
+     * @throws IllegalArgumentException si capacity ou depth &lt; 0
+     */
+    public OpeningBook(int capacity, int depth) {
+        this(capacity, depth, null);
+    }
+
+    /**
+     * Cache adossé à une table précalculée. La table n'est lue qu'à la
+     * première décision ; si elle a été construite plus profond que
+     * {@code depth}, c'est sa profondeur qui s'applique.
+     *
+     * @param capacity le nombre maximal de situations gardées en mémoire
+     * @param depth le nombre de décisions mises en cache par partie
+     * @param table le fichier écrit par {@link #build}, ou null
+     * @throws IllegalArgumentException si capacity ou depth &lt; 0
+     */
+    public OpeningBook(int capacity, int depth, Path table) {
+        if (capacity < 0 || depth < 0) {
+            throw new IllegalArgumentException("Capacité et profondeur doivent être positives");
+        }
+        this.depth = depth;
+        this.tablePath = table;
+        this.recent = new LinkedHashMap<Key, Character>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Character> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Nombre de décisions mises en cache par partie. Lit la table si elle
+     * ne l'a pas encore été.
+     *
+     * @return la profondeur du cache
+     * @throws UncheckedIOException si la table est illisible ou corrompue
+     */
+    int depth() {
+        return tablePath == null ? depth : Math.max(depth, table().depth);
+    }
+
+    /**
+     * Décision du solveur pour une partie, lue dans la table ou la mémoire,
+     * ou calculée puis mémorisée.
+     *
+     * @param game la partie
+     * @return la lettre à proposer (A-Z)
+     */
+    char nextLetter(SolverGame game) {
+        Key key = new Key(game.index().fingerprint(), game.strategy(), game.proposedMask(),
+                          game.revealed().clone());
+        if (tablePath != null) {
+            Character letter = table().decisions.get(key);
+            if (letter != null) {
+                tableHits.increment();
+                return letter;
+            }
+        }
+        synchronized (recent) {
+            Character letter = recent.get(key);
+            if (letter != null) {
+                cacheHits.increment();
+                return letter;
+            }
+        }
+        misses.increment();
+        char letter = game.chooseLetter();
+        synchronized (recent) {
+            recent.put(key, letter);
+        }
+        return letter;
+    }
+
+    private Table table() {
+        Table loaded = table;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = table;
+                if (loaded == null) {
+                    try {
+                        loaded = Table.read(tablePath);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    table = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * @return le nombre de décisions lues dans la table
+     */
+    public long getTableHits() {
+        return tableHits.sum();
+    }
+
+    /**
+     * @return le nombre de décisions lues dans la mémoire
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * @return le nombre de décisions calculées
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return le nombre de situations gardées en mémoire
+     */
+    public int getCachedCount() {
+        synchronized (recent) {
+            return recent.size();
+        }
+    }
+
+    /**
+     * Précalcule les premiers coups d'un solveur et les écrit dans une table.
+     * L'arbre est parcouru depuis le début de partie, pour chaque longueur de
+     * mot (jusqu'à 64 lettres) : à chaque décision, une branche par motif que
+     * la lettre choisie peut révéler parmi les candidats restants. Le fichier
+     * est écrit à côté de la cible puis renommé.
+     *
+     * @param solver le solveur (son dictionnaire et sa stratégie)
+     * @param depth le nombre de décisions précalculées par partie
+     * @param target le fichier à écrire (remplacé s'il existe)
+     * @return le nombre de situations écrites
+     * @throws IllegalArgumentException si depth &lt; 0
+     * @throws IOException si l'écriture échoue
+     */
+    public static int build(HangmanSolver solver, int depth, Path target) throws IOException {
+        if (depth < 0) {
+            throw new IllegalArgumentException("La profondeur doit être positive");
+        }
+        Map<Key, Character> decisions = new LinkedHashMap<>();
+        SolverIndex index = solver.index();
+        for (int length : new TreeSet<>(index.lengths())) {
+            if (length <= Long.SIZE) {
+                explore(new SolverGame(index, length, solver.getStrategy(), null), depth, decisions);
+            }
+        }
+
+        Path absolute = target.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(index.fingerprint());
+                out.writeInt(solver.getStrategy().ordinal());
+                out.writeInt(depth);
+                out.writeInt(decisions.size());
+                for (Map.Entry<Key, Character> entry : decisions.entrySet()) {
+                    Key key = entry.getKey();
+                    out.writeByte(key.revealed.length);
+                    out.writeByte(entry.getValue());
+                    out.writeInt(key.proposedMask);
+                    out.write(key.revealed);
+                }
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return decisions.size();
+    }
+
+    private static void explore(SolverGame game, int depth, Map<Key, Character> decisions) {
+        SolverIndex.Bucket bucket = game.bucket();
+        if (bucket == null || Integer.bitCount(game.proposedMask()) >= depth || isSolved(game)) {
+            return;
+        }
+        char letter = game.chooseLetter();
+        decisions.put(new Key(game.index().fingerprint(), game.strategy(), game.proposedMask(),
+                              game.revealed().clone()), letter);
+
+        // Motifs que la lettre peut révéler parmi les candidats restants
+        int l = letter - 'A';
+        TreeSet<Long> patterns = new TreeSet<>();
+        long[] candidates = game.candidates();
+        for (int i = 0; i < candidates.length; i++) {
+            for (long set = candidates[i]; set != 0; set &= set - 1) {
+                int w = (i << 6) + Long.numberOfTrailingZeros(set);
+                long pattern = 0;
+                for (int p = 0; p < bucket.length(); p++) {
+                    if (bucket.letterAt(w, p) == l) {
+                        pattern |= 1L << p;
+                    }
+                }
+                patterns.add(pattern);
+            }
+        }
+        for (long pattern : patterns) {
+            SolverGame child = game.copyWithoutBook();
+            child.apply(l, pattern);
+            explore(child, depth, decisions);
+        }
+    }
+
+    private static boolean isSolved(SolverGame game) {
+        for (byte letter : game.revealed()) {
+            if (letter < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Situation de jeu, telle que vue par le solveur. */
+    private static final class Key {
+
+        private final long fingerprint;
+        private final HangmanSolver.Strategy strategy;
+        private final int proposedMask;
+        private final byte[] revealed;
+        private final int hash;
+
+        private Key(long fingerprint, HangmanSolver.Strategy strategy, int proposedMask, byte[] revealed) {
+            this.fingerprint = fingerprint;
+            this.strategy = strategy;
+            this.proposedMask = proposedMask;
+            this.revealed = revealed;
+            this.hash = 31 * (31 * (31 * Long.hashCode(fingerprint) + strategy.ordinal()) + proposedMask)
+                        + Arrays.hashCode(revealed);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return fingerprint == key.fingerprint && strategy == key.strategy
+                   && proposedMask == key.proposedMask && Arrays.equals(revealed, key.revealed);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /** Table précalculée, lue en entier. */
+    private static final class Table {
+
+        private final int depth;
+        private final Map<Key, Character> decisions;
+
+        private Table(int depth, Map<Key, Character> decisions) {
+            this.depth = depth;
+            this.decisions = decisions;
+        }
+
+        private static Table read(Path path) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            try {
+                if (buffer.getInt() != MAGIC) {
+                    throw corrupted("signature absente");
+                }
+                int version = buffer.getInt();
+                if (version != VERSION) {
+                    throw new IOException("Version de table d'ouvertures non prise en charge : " + version);
+                }
+                long fingerprint = buffer.getLong();
+                int strategy = buffer.getInt();
+                int depth = buffer.getInt();
+                int count = buffer.getInt();
+                if (strategy < 0 || strategy >= STRATEGIES.length || depth < 0 || count < 0) {
+                    throw corrupted("en-tête invalide");
+                }
+                Map<Key, Character> decisions = new HashMap<>();
+                for (int i = 0; i < count; i++) {
+                    int length = buffer.get() & 0xFF;
+                    char letter = (char) (buffer.get() & 0xFF);
+                    int proposedMask = buffer.getInt();
+                    byte[] revealed = new byte[length];
+                    buffer.get(revealed);
+                    if (letter < 'A' || letter > 'Z') {
+                        throw corrupted("lettre invalide à l'entrée " + i);
+                    }
+                    decisions.put(new Key(fingerprint, STRATEGIES[strategy], proposedMask, revealed), letter);
+                }
+                if (buffer.hasRemaining()) {
+                    throw corrupted("données après la dernière entrée");
+                }
+                return new Table(depth, decisions);
+            } catch (BufferUnderflowException e) {
+                throw corrupted("fichier tronqué");
+            }
+        }
+
+        private static IOException corrupted(String detail) {
+            return new IOException("Table d'ouvertures corrompue : " + detail);
+        }
+    }
+
+    /**
+     * Construit la table des premiers coups d'un dictionnaire.
+     *
+     * @param args DICTIONNAIRE CIBLE [--depth D] [--strategy frequency|entropy]
+     */
+    public static void main(String[] args) {
+        Path source = null;
+        Path target = null;
+        int depth = DEFAULT_DEPTH;
+        HangmanSolver.Strategy strategy = HangmanSolver.Strategy.FREQUENCY;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--depth") && i + 1 < args.length) {
+                    depth = Integer.parseInt(args[++i]);
+                } else if (arg.equals("--strategy") && i + 1 < args.length) {
+                    String value = args[++i];
+                    if (!value.equals("frequency") && !value.equals("entropy")) {
+                        throw new IllegalArgumentException("Stratégie inconnue : " + value);
+                    }
+                    strategy = value.equals("entropy")
+                            ? HangmanSolver.Strategy.ENTROPY
+                            : HangmanSolver.Strategy.FREQUENCY;
+                } else if (arg.startsWith("--") || target != null) {
+                    throw new IllegalArgumentException("Argument inconnu : " + arg);
+                } else if (source == null) {
+                    source = Path.of(arg);
+                } else {
+                    target = Path.of(arg);
+                }
+            }
+            if (target == null) {
+                throw new IllegalArgumentException("Dictionnaire et cible obligatoires");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠ " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            Dictionary dictionary = new Dictionary();
+            dictionary.loadFromFile(source.toString());
+            int count = build(new HangmanSolver(dictionary, strategy), depth, target);
+            System.out.println("Table d'ouvertures : " + count + " situations en "
+                               + (System.nanoTime() - start) / 1_000_000 + " ms -> " + target);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erreur : " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
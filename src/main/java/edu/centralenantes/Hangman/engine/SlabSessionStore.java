@@ -0,0 +1,312 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.codec.GameStateCodec;
+import edu.centralenantes.Hangman.model.GameState;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Stockage hors tas d'un grand nombre de sessions de jeu inactives.
+ *
+ * Chaque session occupe un emplacement de taille fixe (un enregistrement
+ * {@link GameStateCodec}, 24 ou 12 octets) dans des blocs alloués par
+ * {@link ByteBuffer#allocateDirect}, et se désigne par un entier. Un
+ * {@link GameState} n'est matérialisé que le temps d'une lecture ou d'une
+ * proposition : au repos, une session ne coûte aucun objet sur le tas.
+ *
+ * Les emplacements libérés sont chaînés entre eux (l'indice du suivant est
+ * écrit dans l'emplacement lui-même) et réutilisés en priorité. Un
+ * identifiant porte, au-dessus des {@value #SLOT_BITS} bits de l'indice
+ * d'emplacement, la génération de cet emplacement, incrémentée à chaque
+ * libération : un identifiant périmé est refusé au lieu de désigner la
+ * session suivante du même emplacement (la génération reboucle après
+ * {@value #GENERATIONS} réutilisations). Les opérations sur une session
+ * sont protégées par un verrou parmi {@value #STRIPES}, choisi d'après son
+ * emplacement.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public class SlabSessionStore {
+
+    /** Nombre d'emplacements par bloc par défaut. */
+    public static final int DEFAULT_SLAB_SLOTS = 1 << 20;
+
+    /** Nombre maximal d'emplacements, tous blocs confondus. */
+    public static final int MAX_SLOTS = 1 << 24;
+
+    private static final int SLOT_BITS = 24;
+    private static final int GENERATIONS = 1 << (Integer.SIZE - 1 - SLOT_BITS);
+    private static final int STRIPES = 64;
+    private static final int NO_SLOT = -1;
+
+    private final GameStateCodec codec;
+    private final int recordSize;
+    private final int slabShift;
+    private final int slotMask;
+    private final Object[] stripes = new Object[STRIPES];
+
+    // Blocs et bits d'occupation : tableaux remplacés (jamais modifiés) à chaque nouveau bloc
+    private volatile ByteBuffer[] slabs = new ByteBuffer[0];
+    private volatile AtomicLongArray[] occupied = new AtomicLongArray[0];
+    // Génération de chaque emplacement, lue et incrémentée sous le verrou de l'emplacement
+    private volatile byte[][] generations = new byte[0][];
+
+    // Allocation, protégée par allocationLock
+    private final Object allocationLock = new Object();
+    private int nextUnused;
+    private int freeHead = NO_SLOT;
+    private volatile int size;
+
+    /**
+     * @param codec le format des emplacements
+     */
+    public SlabSessionStore(GameStateCodec codec) {
+        this(codec, DEFAULT_SLAB_SLOTS);
+    }
+
+    /**
+     * @param codec le format des emplacements
+     * @param slabSlots le nombre d'emplacements par bloc : une puissance de 2
+     *        d'au moins 64 (les bits d'occupation d'un bloc sont rangés par
+     *        mots de 64) et d'au plus {@value #MAX_SLOTS}
+     * @throws IllegalArgumentException si slabSlots n'est pas une puissance de 2
+     *         entre 64 et {@value #MAX_SLOTS}, ou si un bloc dépasserait 2 Go
+     */
+    public SlabSessionStore(GameStateCodec codec, int slabSlots) {
+        if (slabSlots < 64 || slabSlots > MAX_SLOTS || Integer.bitCount(slabSlots) != 1
+                || (long) slabSlots * codec.getRecordSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Taille de bloc invalide : " + slabSlots);
+        }
+        this.codec = codec;
+        this.recordSize = codec.getRecordSize();
+        this.slabShift = Integer.numberOfTrailingZeros(slabSlots);
+        this.slotMask = slabSlots - 1;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * Démarre une partie dans un nouvel emplacement.
+     *
+     * @param secretWord le mot à deviner
+     * @param maxErrors le nombre maximal d'erreurs
+     * @return l'identifiant de la session
+     * @throws IllegalArgumentException si les paramètres sont invalides ou
+     *         ne tiennent pas dans le format du codec
+     */
+    public int startNewGame(String secretWord, int maxErrors) {
+        return store(new GameState(secretWord, maxErrors));
+    }
+
+    /**
+     * Range un état existant dans un nouvel emplacement.
+     *
+     * @param state l'état à ranger
+     * @return l'identifiant de la session
+     * @throws IllegalArgumentException si l'état ne tient pas dans le format du codec
+     * @throws IllegalStateException si les {@value #MAX_SLOTS} emplacements sont occupés
+     */
+    public int store(GameState state) {
+        int slot = allocate();
+        try {
+            synchronized (stripe(slot)) {
+                codec.encode(state, slab(slot), offset(slot));
+                setOccupied(slot, true);
+                return (generation(slot) << SLOT_BITS) | slot;
+            }
+        } catch (RuntimeException e) {
+            free(slot);
+            throw e;
+        }
+    }
+
+    /**
+     * Propose une lettre dans une session.
+     *
+     * @param handle l'identifiant de la session
+     * @param letter la lettre à proposer
+     * @return l'issue de la proposition et le nouvel état
+     * @throws IllegalArgumentException si la session est inconnue ou la lettre invalide
+     * @throws IllegalStateException si la partie de la session est terminée
+     */
+    public GuessResult guessLetter(int handle, char letter) {
+        int slot = slot(handle);
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        synchronized (stripe(slot)) {
+            checkOccupied(handle);
+            GameState current = codec.decode(slab, offset);
+            GameState next = current.proposeLettre(letter);
+            if (next != current) {
+                codec.encode(next, slab, offset);
+            }
+            return GuessResult.of(current, letter, next);
+        }
+    }
+
+    /**
+     * Relance une partie dans une session existante.
+     *
+     * @param handle l'identifiant de la session
+     * @param secretWord le mot à deviner
+     * @param maxErrors le nombre maximal d'erreurs
+     * @throws IllegalArgumentException si la session est inconnue ou les paramètres invalides
+     */
+    public void restartGame(int handle, String secretWord, int maxErrors) {
+        GameState state = new GameState(secretWord, maxErrors);
+        int slot = slot(handle);
+        ByteBuffer slab = slab(slot);
+        synchronized (stripe(slot)) {
+            checkOccupied(handle);
+            codec.encode(state, slab, offset(slot));
+        }
+    }
+
+    /**
+     * Matérialise l'état courant d'une session.
+     *
+     * @param handle l'identifiant de la session
+     * @return l'état courant
+     * @throws IllegalArgumentException si la session est inconnue
+     */
+    public GameState getState(int handle) {
+        int slot = slot(handle);
+        ByteBuffer slab = slab(slot);
+        synchronized (stripe(slot)) {
+            checkOccupied(handle);
+            return codec.decode(slab, offset(slot));
+        }
+    }
+
+    /**
+     * Libère une session ; son emplacement sera réutilisé.
+     *
+     * @param handle l'identifiant de la session
+     * @throws IllegalArgumentException si la session est inconnue
+     */
+    public void release(int handle) {
+        int slot = slot(handle);
+        synchronized (stripe(slot)) {
+            checkOccupied(handle);
+            setOccupied(slot, false);
+            // Les identifiants déjà distribués pour cet emplacement deviennent périmés
+            byte[] slabGenerations = generations[slot >>> slabShift];
+            slabGenerations[slot & slotMask]++;
+        }
+        free(slot);
+    }
+
+    /**
+     * @return le nombre de sessions rangées
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return la mémoire hors tas réservée par les blocs, en octets
+     */
+    public long getOffHeapBytes() {
+        return (long) slabs.length * (slotMask + 1) * recordSize;
+    }
+
+    /* ==================== Emplacements ==================== */
+
+    private int allocate() {
+        synchronized (allocationLock) {
+            int slot;
+            if (freeHead != NO_SLOT) {
+                slot = freeHead;
+                freeHead = slab(slot).getInt(offset(slot));
+            } else {
+                if (nextUnused == MAX_SLOTS) {
+                    throw new IllegalStateException("Capacité du stockage atteinte");
+                }
+                slot = nextUnused++;
+                if ((slot >>> slabShift) == slabs.length) {
+                    addSlab();
+                }
+            }
+            size++;
+            return slot;
+        }
+    }
+
+    private void free(int slot) {
+        synchronized (allocationLock) {
+            slab(slot).putInt(offset(slot), freeHead);
+            freeHead = slot;
+            size--;
+        }
+    }
+
+    private void addSlab() {
+        int count = slabs.length;
+        ByteBuffer[] grownSlabs = Arrays.copyOf(slabs, count + 1);
+        AtomicLongArray[] grownBits = Arrays.copyOf(occupied, count + 1);
+        byte[][] grownGenerations = Arrays.copyOf(generations, count + 1);
+        grownSlabs[count] = ByteBuffer.allocateDirect((slotMask + 1) * recordSize);
+        grownBits[count] = new AtomicLongArray((slotMask + 1) >>> 6);
+        grownGenerations[count] = new byte[slotMask + 1];
+        generations = grownGenerations;
+        occupied = grownBits;
+        slabs = grownSlabs;
+    }
+
+    /**
+     * @return l'indice d'emplacement d'un identifiant, dont le bloc existe
+     * @throws IllegalArgumentException sinon
+     */
+    private int slot(int handle) {
+        int slot = handle & (MAX_SLOTS - 1);
+        if (handle < 0 || (slot >>> slabShift) >= slabs.length) {
+            throw new IllegalArgumentException("Session inconnue : " + handle);
+        }
+        return slot;
+    }
+
+    private ByteBuffer slab(int slot) {
+        return slabs[slot >>> slabShift];
+    }
+
+    private int offset(int slot) {
+        return (slot & slotMask) * recordSize;
+    }
+
+    private Object stripe(int slot) {
+        return stripes[slot & (STRIPES - 1)];
+    }
+
+    // Appelée sous le verrou de l'emplacement
+    private int generation(int slot) {
+        return generations[slot >>> slabShift][slot & slotMask] & (GENERATIONS - 1);
+    }
+
+    // Appelée sous le verrou de l'emplacement : occupé et de la même génération
+    private void checkOccupied(int handle) {
+        int slot = handle & (MAX_SLOTS - 1);
+        AtomicLongArray bits = occupied[slot >>> slabShift];
+        int index = slot & slotMask;
+        if ((bits.get(index >>> 6) & (1L << index)) == 0
+                || generation(slot) != handle >>> SLOT_BITS) {
+            throw new IllegalArgumentException("Session inconnue : " + handle);
+        }
+    }
+
+    private void setOccupied(int slot, boolean value) {
+        AtomicLongArray bits = occupied[slot >>> slabShift];
+        int index = slot & slotMask;
+        long bit = 1L << index;
+        // Les 64 emplacements d'un mot relèvent de verrous différents : CAS
+        while (true) {
+            long word = bits.get(index >>> 6);
+            long updated = value ? word | bit : word & ~bit;
+            if (bits.compareAndSet(index >>> 6, word, updated)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.MutableGameState;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Suivi, par le solveur, d'une partie en cours.
+ *
+ * Maintient l'ensemble de bits des mots candidats compatibles avec le mot
+ * masqué et les lettres fausses : chaque proposition coûte quelques ET
+ * binaires sur les ensembles de {@link SolverIndex}, sans parcourir les mots.
+ * La lettre suivante est choisie selon la {@link HangmanSolver.Strategy} du solveur,
+ * ou lue dans son {@link OpeningBook} pour les premiers coups.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class SolverGame {
+
+    /** Ordre de repli quand plus aucun mot du dictionnaire ne correspond. */
+    private static final String FALLBACK_ORDER = "EASIRNTULODCPMVGFBQHXJYZKW";
+
+    private final SolverIndex index;
+    private final SolverIndex.Bucket bucket;
+    private final int length;
+    private final HangmanSolver.Strategy strategy;
+    private final OpeningBook book;
+    private final long[] candidates;
+    /** Lettre révélée à chaque position (0 = 'A'), ou -1. */
+    private final byte[] revealed;
+    private int proposedMask;
+
+    /**
+     * @param index l'index du dictionnaire
+     * @param length la longueur du mot secret
+     * @param strategy le choix de la lettre suivante
+     * @param book le cache des premiers coups, ou null
+     */
+    SolverGame(SolverIndex index, int length, HangmanSolver.Strategy strategy, OpeningBook book) {
+        this.index = index;
+        this.bucket = index.bucket(length);
+        this.length = length;
+        this.strategy = strategy;
+        this.book = book;
+        this.revealed = new byte[length];
+        Arrays.fill(revealed, (byte) -1);
+        if (bucket == null) {
+            this.candidates = new long[0];
+        } else {
+            int size = bucket.size();
+            this.candidates = new long[bucket.wordsPerSet()];
+            for (int w = 0; w < size; w++) {
+                candidates[w >>> 6] |= 1L << w;
+            }
+        }
+    }
+
+    /**
+     * Choisit la prochaine lettre parmi les lettres non encore proposées :
+     * la plus fréquente parmi les candidats (FREQUENCY), ou celle dont le
+     * gain d'information attendu est le plus grand (ENTROPY).
+     *
+     * @return la lettre à proposer (A-Z)
+     * @throws IllegalStateException si toutes les lettres ont été proposées
+     */
+    public char nextLetter() {
+        if (book != null && bucket != null && Integer.bitCount(proposedMask) < book.depth()) {
+            return book.nextLetter(this);
+        }
+        return chooseLetter();
+    }
+
+    /**
+     * Choisit la prochaine lettre sans consulter le cache.
+     *
+     * @return la lettre à proposer (A-Z)
+     * @throws IllegalStateException si toutes les lettres ont été proposées
+     */
+    char chooseLetter() {
+        int best = -1;
+        if (bucket != null) {
+            best = strategy == HangmanSolver.Strategy.ENTROPY ? mostInformativeLetter() : mostFrequentLetter();
+        }
+        if (best >= 0) {
+            return (char) ('A' + best);
+        }
+        for (int i = 0; i < FALLBACK_ORDER.length(); i++) {
+            char letter = FALLBACK_ORDER.charAt(i);
+            if ((proposedMask & GameState.letterBit(letter)) == 0) {
+                return letter;
+            }
+        }
+        throw new IllegalStateException("Toutes les lettres ont été proposées");
+    }
+
+    /**
+     * @return la lettre (0 = 'A') présente dans le plus grand nombre de candidats, ou -1
+     */
+    private int mostFrequentLetter() {
+        int best = -1;
+        int bestScore = 0;
+        long[] contains = bucket.contains();
+        int sets = candidates.length;
+        for (int letter = 0; letter < 26; letter++) {
+            if ((proposedMask & (1 << letter)) != 0) {
+                continue;
+            }
+            int score = 0;
+            int base = letter * sets;
+            for (int i = 0; i < sets; i++) {
+                score += Long.bitCount(candidates[i] & contains[base + i]);
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                best = letter;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return la lettre (0 = 'A') de plus grand gain d'information attendu, ou -1
+     */
+    private int mostInformativeLetter() {
+        int count = getCandidateCount();
+        if (count <= 1) {
+            return mostFrequentLetter();
+        }
+        double[] scores = EntropyScorer.scores(bucket, candidates, count, proposedMask,
+                                               EntropyScorer.PARALLEL_THRESHOLD);
+        int best = -1;
+        double bestScore = 0;
+        for (int letter = 0; letter < 26; letter++) {
+            if (scores[letter] > bestScore) {
+                bestScore = scores[letter];
+                best = letter;
+            }
+        }
+        // Aucune lettre ne départage les candidats : on joue la plus fréquente
+        return best >= 0 ? best : mostFrequentLetter();
+    }
+
+    /**
+     * Prend en compte le résultat d'une proposition.
+     *
+     * @param letter la lettre proposée
+     * @param state l'état de la partie après la proposition
+     */
+    public void update(char letter, GameState state) {
+        update(letter, state::getRevealedChar);
+    }
+
+    /**
+     * Prend en compte le résultat d'une proposition faite sur un état modifiable.
+     *
+     * @param letter la lettre proposée
+     * @param state l'état de la partie après la proposition
+     */
+    public void update(char letter, MutableGameState state) {
+        update(letter, state::getRevealedChar);
+    }
+
+    /**
+     * Prend en compte le résultat d'une proposition, quelle que soit la forme de l'état.
+     *
+     * @param letter la lettre proposée
+     * @param revealedChar le caractère affiché à chaque position
+     */
+    private void update(char letter, IntUnaryOperator revealedChar) {
+        int bit = record(letter);
+        if (bit == 0) {
+            return;
+        }
+
+        boolean hit = false;
+        for (int p = 0; p < length && !hit; p++) {
+            hit = GameState.letterBit((char) revealedChar.applyAsInt(p)) == bit;
+        }
+        if (!hit) {
+            exclude(bit);
+            return;
+        }
+        for (int p = 0; p < length; p++) {
+            // Comparaison des lettres de base : E révèle aussi É, È, Ê
+            restrict(p, bit, GameState.letterBit((char) revealedChar.applyAsInt(p)) == bit);
+        }
+    }
+
+    /**
+     * Note une lettre comme proposée.
+     *
+     * @return le bit de la lettre, ou 0 si elle était déjà connue ou s'il n'y a pas de candidats
+     */
+    private int record(char letter) {
+        int bit = GameState.letterBit(letter);
+        if ((proposedMask & bit) != 0) {
+            return 0;
+        }
+        proposedMask |= bit;
+        return bucket == null ? 0 : bit;
+    }
+
+    /**
+     * Lettre fausse : aucun candidat ne doit la contenir.
+     */
+    private void exclude(int bit) {
+        long[] contains = bucket.contains();
+        int sets = candidates.length;
+        int base = Integer.numberOfTrailingZeros(bit) * sets;
+        for (int i = 0; i < sets; i++) {
+            candidates[i] &= ~contains[base + i];
+        }
+    }
+
+    /**
+     * Lettre juste : présente exactement aux positions révélées.
+     */
+    private void restrict(int position, int bit, boolean isRevealed) {
+        long[] at = bucket.at();
+        int sets = candidates.length;
+        int letter = Integer.numberOfTrailingZeros(bit);
+        int base = (position * 26 + letter) * sets;
+        if (isRevealed) {
+            revealed[position] = (byte) letter;
+            for (int i = 0; i < sets; i++) {
+                candidates[i] &= at[base + i];
+            }
+        } else {
+            for (int i = 0; i < sets; i++) {
+                candidates[i] &= ~at[base + i];
+            }
+        }
+    }
+
+    /**
+     * @return le nombre de mots du dictionnaire encore compatibles
+     */
+    public int getCandidateCount() {
+        int count = 0;
+        for (long set : candidates) {
+            count += Long.bitCount(set);
+        }
+        return count;
+    }
+
+    /* Accès pour l'OpeningBook */
+
+    /**
+     * @return l'index du dictionnaire
+     */
+    SolverIndex index() {
+        return index;
+    }
+
+    /**
+     * @return la stratégie de la partie
+     */
+    HangmanSolver.Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * @return les lettres proposées (bit 0 = 'A')
+     */
+    int proposedMask() {
+        return proposedMask;
+    }
+
+    /**
+     * @return la lettre révélée à chaque position (0 = 'A'), ou -1 ; tableau interne
+     */
+    byte[] revealed() {
+        return revealed;
+    }
+
+    /**
+     * @return les candidats restants ; tableau interne
+     */
+    long[] candidates() {
+        return candidates;
+    }
+
+    /**
+     * @return le groupe des mots de la longueur du mot secret, ou null
+     */
+    SolverIndex.Bucket bucket() {
+        return bucket;
+    }
+
+    /**
+     * @return une copie indépendante de cette partie, sans cache
+     */
+    SolverGame copyWithoutBook() {
+        SolverGame copy = new SolverGame(index, length, strategy, null);
+        System.arraycopy(candidates, 0, copy.candidates, 0, candidates.length);
+        System.arraycopy(revealed, 0, copy.revealed, 0, length);
+        copy.proposedMask = proposedMask;
+        return copy;
+    }
+
+    /**
+     * Prend en compte une proposition dont le résultat est donné par un motif
+     * (bit p = lettre révélée à la position p, 0 = lettre absente).
+     * Réservé aux mots d'au plus 64 lettres.
+     *
+     * @param letter la lettre proposée (0 = 'A')
+     * @param pattern les positions révélées
+     */
+    void apply(int letter, long pattern) {
+        int bit = record((char) ('A' + letter));
+        if (bit == 0) {
+            return;
+        }
+        if (pattern == 0) {
+            exclude(bit);
+            return;
+        }
+        for (int p = 0; p < length; p++) {
+            restrict(p, bit, (pattern & (1L << p)) != 0);
+        }
+    }
+}
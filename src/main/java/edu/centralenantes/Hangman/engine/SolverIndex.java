@@ -0,0 +1,205 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.data.DictionarySnapshot;
+import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.LetterFolding;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index binaire des mots jouables d'un {@link Dictionary}, par longueur.
+ *
+ * Pour chaque longueur n, les mots de cette longueur forment un groupe
+ * numéroté de 0 à m - 1, et l'index contient des ensembles de bits sur ce
+ * groupe : un par lettre (mots contenant la lettre) et un par couple
+ * (position, lettre) (mots ayant la lettre à cette position).
+ *
+ * Un mot n'est retenu qu'une fois par suite de lettres de base : les
+ * doublons d'un dictionnaire texte (ou ELEVE et ÉLÈVE) ne pèsent pas plus
+ * lourd dans les décomptes du solveur. L'empreinte de l'index résume les
+ * mots retenus, indépendamment de leur ordre : deux dictionnaires de même
+ * contenu (texte, doublons compris, ou compilé) ont la même empreinte, et
+ * donc les mêmes décisions du solveur.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class SolverIndex {
+
+    /** Mots d'une longueur donnée et leurs ensembles de bits. */
+    static final class Bucket {
+
+        private final int length;
+        private final int[] wordIds;
+        private final byte[] letters;
+        private final int wordsPerSet;
+        private final long[] contains;
+        private final long[] at;
+
+        private Bucket(int length, List<Integer> ids, List<String> bucketWords) {
+            this.length = length;
+            int size = ids.size();
+            this.wordIds = new int[size];
+            this.letters = new byte[size * length];
+            this.wordsPerSet = (size + Long.SIZE - 1) / Long.SIZE;
+            this.contains = new long[26 * wordsPerSet];
+            this.at = new long[length * 26 * wordsPerSet];
+
+            for (int w = 0; w < size; w++) {
+                wordIds[w] = ids.get(w);
+                int set = w >>> 6;
+                long bit = 1L << w;
+                String word = bucketWords.get(w);
+                for (int p = 0; p < length; p++) {
+                    int letter = Integer.numberOfTrailingZeros(GameState.letterBit(word.charAt(p)));
+                    letters[w * length + p] = (byte) letter;
+                    contains[letter * wordsPerSet + set] |= bit;
+                    at[(p * 26 + letter) * wordsPerSet + set] |= bit;
+                }
+            }
+        }
+
+        /**
+         * @return la longueur des mots du groupe
+         */
+        int length() {
+            return length;
+        }
+
+        /**
+         * @return le nombre de mots du groupe
+         */
+        int size() {
+            return wordIds.length;
+        }
+
+        /**
+         * @return le nombre de longs d'un ensemble de bits sur le groupe
+         */
+        int wordsPerSet() {
+            return wordsPerSet;
+        }
+
+        /**
+         * @param w indice dans le groupe
+         * @param position position dans le mot
+         * @return la lettre à cette position (0 = 'A')
+         */
+        int letterAt(int w, int position) {
+            return letters[w * length + position];
+        }
+
+        /**
+         * @param w indice dans le groupe
+         * @return l'indice du mot dans le dictionnaire
+         */
+        int dictionaryIndex(int w) {
+            return wordIds[w];
+        }
+
+        /**
+         * @return les ensembles "contient la lettre", à l'offset letter * wordsPerSet()
+         */
+        long[] contains() {
+            return contains;
+        }
+
+        /**
+         * @return les ensembles "lettre à la position", à l'offset
+         *         (position * 26 + letter) * wordsPerSet()
+         */
+        long[] at() {
+            return at;
+        }
+    }
+
+    private final Map<Integer, Bucket> buckets;
+    private final long fingerprint;
+
+    /**
+     * Construit l'index des mots jouables du dictionnaire : une lettre de base
+     * par caractère, accents repliés (les mots à ligature en sont exclus).
+     * Seule la première occurrence d'une suite de lettres de base est retenue.
+     *
+     * @param dictionary le dictionnaire chargé ; l'index porte sur son contenu
+     *        courant et ne suit pas les rechargements
+     */
+    SolverIndex(Dictionary dictionary) {
+        DictionarySnapshot snapshot = dictionary.snapshot();
+        Map<Integer, List<Integer>> ids = new HashMap<>();
+        Map<Integer, List<String>> words = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        long sum = 0;
+        for (int i = 0; i < snapshot.getWordCount(); i++) {
+            String word = snapshot.getWord(i);
+            if (isPlayable(word) && seen.add(baseLetters(word))) {
+                ids.computeIfAbsent(word.length(), k -> new ArrayList<>()).add(i);
+                words.computeIfAbsent(word.length(), k -> new ArrayList<>()).add(word);
+                sum += wordHash(word);
+            }
+        }
+        this.fingerprint = sum;
+        this.buckets = new HashMap<>();
+        for (Map.Entry<Integer, List<Integer>> entry : ids.entrySet()) {
+            int length = entry.getKey();
+            buckets.put(length, new Bucket(length, entry.getValue(), words.get(length)));
+        }
+    }
+
+    /**
+     * @param length une longueur de mot
+     * @return le groupe des mots de cette longueur, ou null s'il n'y en a aucun
+     */
+    Bucket bucket(int length) {
+        return buckets.get(length);
+    }
+
+    /**
+     * @return les longueurs de mot présentes
+     */
+    Set<Integer> lengths() {
+        return buckets.keySet();
+    }
+
+    /**
+     * @return l'empreinte des mots retenus (somme de leurs hachages)
+     */
+    long fingerprint() {
+        return fingerprint;
+    }
+
+    private static String baseLetters(String word) {
+        char[] base = new char[word.length()];
+        for (int i = 0; i < base.length; i++) {
+            base[i] = LetterFolding.baseLetter(word.charAt(i));
+        }
+        return new String(base);
+    }
+
+    /**
+     * Hachage d'un mot sur ses lettres de base (FNV-1a puis mélange final).
+     */
+    private static long wordHash(String word) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash = (hash ^ Integer.numberOfTrailingZeros(GameState.letterBit(word.charAt(i)))) * 0x100000001B3L;
+        }
+        hash = (hash ^ word.length()) * 0x100000001B3L;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static boolean isPlayable(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (GameState.letterBit(word.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return !word.isEmpty();
+    }
+}
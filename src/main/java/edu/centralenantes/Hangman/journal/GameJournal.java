@@ -0,0 +1,594 @@
+package edu.centralenantes.Hangman.journal;
+
+import edu.centralenantes.Hangman.codec.PackedLetters;
+import edu.centralenantes.Hangman.engine.GameEventListener;
+import edu.centralenantes.Hangman.engine.GameSessionManager;
+import edu.centralenantes.Hangman.model.GameState;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal binaire en ajout seul des événements de partie (event sourcing).
+ *
+ * Chaque événement est un enregistrement de {@value #RECORD_SIZE} octets
+ * écrit dans un segment projeté en mémoire :
+ * <pre>
+ * 0      type (1 = début, 2 = proposition, 3 = fin de session)
+ * 1      début : maxErrors (1-255) ; proposition : lettre 'A'-'Z'
+ * 2      début : longueur du mot (1-32)
+ * 3      somme de contrôle (CRC32C replié sur un octet)
+ * 4-11   identifiant de session
+ * 12-31  début : mot secret, 5 bits par lettre (13 si accentuée)
+ * </pre>
+ * Un type nul ou une somme de contrôle fausse marque la fin d'un segment
+ * (fin normale ou écriture interrompue par un arrêt brutal).
+ *
+ * Les ajouts ne font qu'une copie en mémoire ; un thread dédié force les
+ * pages sur disque toutes les {@code flushIntervalMillis} ms ou dès qu'un
+ * appel à {@link #sync()} attend : tous les appels en attente partagent
+ * le même {@code force} (group commit). Un segment plein est scellé et
+ * remplacé ; les segments scellés sont ensuite compactés en arrière-plan
+ * en ne gardant que les parties encore en cours.
+ *
+ * À l'ouverture, les segments existants sont conservés et un nouveau
+ * segment actif est créé.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class GameJournal implements GameEventListener, Closeable {
+
+    /** Taille d'un enregistrement, en octets. */
+    public static final int RECORD_SIZE = 32;
+
+    /** Longueur maximale d'un mot secret journalisé. */
+    public static final int MAX_WORD_LENGTH = 32;
+
+    /** Nombre d'enregistrements par segment par défaut (64 Mo). */
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 21;
+
+    /** Intervalle par défaut entre deux écritures forcées, en millisecondes. */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 10;
+
+    private static final byte START = 1;
+    private static final byte GUESS = 2;
+    private static final byte END = 3;
+
+    private static final int MAX_JOURNALED_ERRORS = 255;
+    private static final int CHECKSUM_OFFSET = 3;
+    private static final int SESSION_OFFSET = 4;
+    private static final int WORD_OFFSET = 12;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d{8})\\.seg");
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final long flushIntervalMillis;
+    private final Thread flusher;
+    private final ExecutorService maintenance;
+    private final Object maintenanceLock = new Object();
+
+    // Écriture, protégée par this
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+    private final List<Path> sealed = new ArrayList<>();
+    private MappedByteBuffer active;
+    private Path activePath;
+    private int nextSegment;
+    private long appended;
+
+    // Durabilité, protégée par flushMonitor
+    private final Object flushMonitor = new Object();
+    private long durable;
+    private boolean flushRequested;
+    private IOException flushFailure;
+    private volatile boolean closed;
+
+    private GameJournal(Path directory, int segmentRecords, long flushIntervalMillis) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flusher = new Thread(this::flushLoop, "hangman-journal-flush");
+        this.flusher.setDaemon(true);
+        this.maintenance = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "hangman-journal-compact");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Ouvre (ou crée) un journal avec les réglages par défaut.
+     *
+     * @param directory le répertoire des segments
+     * @return le journal ouvert
+     * @throws IOException si le répertoire ou le segment actif ne peut être créé
+     */
+    public static GameJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_RECORDS, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Ouvre (ou crée) un journal.
+     *
+     * @param directory le répertoire des segments
+     * @param segmentRecords le nombre d'enregistrements par segment
+     * @param flushIntervalMillis l'intervalle maximal entre deux écritures forcées
+     * @return le journal ouvert
+     * @throws IOException si le répertoire ou le segment actif ne peut être créé
+     * @throws IllegalArgumentException si un réglage est invalide
+     */
+    public static GameJournal open(Path directory, int segmentRecords, long flushIntervalMillis)
+            throws IOException {
+        if (segmentRecords <= 0 || segmentRecords > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("Taille de segment invalide : " + segmentRecords);
+        }
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("L'intervalle d'écriture doit être positif");
+        }
+        Files.createDirectories(directory);
+        GameJournal journal = new GameJournal(directory, segmentRecords, flushIntervalMillis);
+        journal.sealed.addAll(listSegments(directory));
+        journal.nextSegment = journal.sealed.isEmpty()
+                ? 1 : segmentNumber(journal.sealed.get(journal.sealed.size() - 1)) + 1;
+        journal.openActiveSegment();
+        journal.flusher.start();
+        return journal;
+    }
+
+    /* ==================== Écriture ==================== */
+
+    /**
+     * @throws IllegalArgumentException si le mot dépasse {@value #MAX_WORD_LENGTH}
+     *         lettres ou ne tient pas dans l'enregistrement, ou si maxErrors dépasse 255
+     * @throws UncheckedIOException si un nouveau segment ne peut être créé
+     */
+    @Override
+    public synchronized void onNewGame(long sessionId, String secretWord, int maxErrors) {
+        if (secretWord.length() > MAX_WORD_LENGTH
+                || PackedLetters.packedSize(secretWord) > RECORD_SIZE - WORD_OFFSET) {
+            throw new IllegalArgumentException("Mot trop long pour le journal : " + secretWord);
+        }
+        if (maxErrors <= 0 || maxErrors > MAX_JOURNALED_ERRORS) {
+            throw new IllegalArgumentException("Nombre d'erreurs hors du journal : " + maxErrors);
+        }
+        clearRecord(START, (byte) maxErrors, sessionId);
+        record.put(2, (byte) secretWord.length());
+        PackedLetters.pack(secretWord, record, WORD_OFFSET);
+        append();
+    }
+
+    /**
+     * @throws UncheckedIOException si un nouveau segment ne peut être créé
+     */
+    @Override
+    public synchronized void onGuess(long sessionId, char letter) {
+        clearRecord(GUESS, (byte) Character.toUpperCase(letter), sessionId);
+        append();
+    }
+
+    /**
+     * @throws UncheckedIOException si un nouveau segment ne peut être créé
+     */
+    @Override
+    public synchronized void onSessionEnd(long sessionId) {
+        clearRecord(END, (byte) 0, sessionId);
+        append();
+    }
+
+    private void clearRecord(byte type, byte argument, long sessionId) {
+        if (closed) {
+            throw new IllegalStateException("Le journal est fermé");
+        }
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            record.putLong(i, 0L);
+        }
+        record.put(0, type);
+        record.put(1, argument);
+        record.putLong(SESSION_OFFSET, sessionId);
+    }
+
+    private void append() {
+        record.put(CHECKSUM_OFFSET, checksum(crc, record, 0));
+        if (!active.hasRemaining()) {
+            rollOver();
+        }
+        active.put(record.array());
+        appended++;
+    }
+
+    /**
+     * Scelle le segment plein (écrit sur disque) et en ouvre un nouveau,
+     * puis demande un compactage.
+     */
+    private void rollOver() {
+        try {
+            active.force();
+            sealed.add(activePath);
+            openActiveSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de créer un segment du journal", e);
+        }
+        maintenance.execute(this::compactQuietly);
+    }
+
+    private void openActiveSegment() throws IOException {
+        activePath = directory.resolve(segmentName(nextSegment++));
+        try (FileChannel channel = FileChannel.open(activePath, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_SIZE);
+        }
+    }
+
+    /* ==================== Durabilité ==================== */
+
+    /**
+     * Attend que tous les événements ajoutés jusqu'ici soient sur disque.
+     * Les appels simultanés sont servis par une même écriture forcée.
+     *
+     * @throws IOException si l'écriture forcée a échoué
+     * @throws IllegalStateException si le journal est fermé
+     */
+    public void sync() throws IOException {
+        long target;
+        synchronized (this) {
+            target = appended;
+        }
+        synchronized (flushMonitor) {
+            while (durable < target) {
+                if (flushFailure != null) {
+                    throw flushFailure;
+                }
+                if (closed) {
+                    throw new IllegalStateException("Le journal est fermé");
+                }
+                if (!flushRequested) {
+                    // Le premier en attente réveille le thread d'écriture
+                    flushRequested = true;
+                    flushMonitor.notifyAll();
+                }
+                try {
+                    flushMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Attente de l'écriture interrompue", e);
+                }
+            }
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            synchronized (flushMonitor) {
+                try {
+                    if (!flushRequested && !closed) {
+                        flushMonitor.wait(flushIntervalMillis);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                flushRequested = false;
+            }
+            boolean last = closed;
+            flush();
+            if (last) {
+                return;
+            }
+        }
+    }
+
+    private void flush() {
+        long target;
+        MappedByteBuffer buffer;
+        synchronized (this) {
+            target = appended;
+            buffer = active;
+        }
+        IOException failure = null;
+        try {
+            buffer.force();
+        } catch (UncheckedIOException e) {
+            failure = e.getCause();
+        }
+        synchronized (flushMonitor) {
+            if (failure != null) {
+                flushFailure = failure;
+            } else if (target > durable) {
+                durable = target;
+            }
+            flushMonitor.notifyAll();
+        }
+    }
+
+    /* ==================== Relecture ==================== */
+
+    /**
+     * Reconstruit l'état de toutes les sessions ouvertes en rejouant le
+     * journal : chaque début crée un {@link GameState}, chaque proposition
+     * applique {@link GameState#proposeLettre}, chaque fin retire la session.
+     *
+     * @return l'état de chaque session ouverte, par identifiant
+     * @throws IOException si un segment ne peut être lu
+     */
+    public Map<Long, GameState> replay() throws IOException {
+        synchronized (maintenanceLock) {
+            List<Path> segments;
+            ByteBuffer tail;
+            synchronized (this) {
+                segments = new ArrayList<>(sealed);
+                tail = active.duplicate().flip();
+            }
+            Map<Long, GameState> states = new HashMap<>();
+            CRC32C check = new CRC32C();
+            for (Path segment : segments) {
+                fold(read(segment), check, states);
+            }
+            fold(tail, check, states);
+            return states;
+        }
+    }
+
+    /**
+     * Rejoue le journal dans un gestionnaire de sessions.
+     *
+     * @param sessions le gestionnaire à alimenter
+     * @return le nombre de sessions restaurées
+     * @throws IOException si un segment ne peut être lu
+     */
+    public int replayInto(GameSessionManager sessions) throws IOException {
+        Map<Long, GameState> states = replay();
+        for (Map.Entry<Long, GameState> entry : states.entrySet()) {
+            sessions.restoreSession(entry.getKey(), entry.getValue());
+        }
+        return states.size();
+    }
+
+    /**
+     * Applique les enregistrements valides d'un segment.
+     *
+     * @return le nombre d'enregistrements lus
+     */
+    private static long fold(ByteBuffer segment, CRC32C check, Map<Long, GameState> states) {
+        ByteBuffer buffer = segment.order(ByteOrder.LITTLE_ENDIAN);
+        int end = buffer.limit();
+        long count = 0;
+        for (int offset = 0; offset + RECORD_SIZE <= end; offset += RECORD_SIZE) {
+            if (!isValid(buffer, offset, check)) {
+                break;
+            }
+            count++;
+            long sessionId = buffer.getLong(offset + SESSION_OFFSET);
+            switch (buffer.get(offset)) {
+                case START:
+                    String secret = PackedLetters.unpack(buffer, offset + WORD_OFFSET, buffer.get(offset + 2));
+                    states.put(sessionId, new GameState(secret, buffer.get(offset + 1) & 0xFF));
+                    break;
+                case GUESS:
+                    GameState state = states.get(sessionId);
+                    if (state != null && state.getStatus() == GameState.Status.IN_PROGRESS) {
+                        states.put(sessionId, state.proposeLettre((char) buffer.get(offset + 1)));
+                    }
+                    break;
+                default:
+                    states.remove(sessionId);
+            }
+        }
+        return count;
+    }
+
+    /* ==================== Compactage ==================== */
+
+    /**
+     * Réécrit les segments scellés en ne gardant que les événements des
+     * sessions encore en cours à la fin de ces segments. Le segment
+     * compacté remplace atomiquement le premier segment scellé, puis les
+     * suivants sont supprimés dans l'ordre : après un arrêt en cours de
+     * route, les segments restants ne font que rejouer une seconde fois
+     * des propositions déjà appliquées, sans effet sur l'état.
+     *
+     * @return le nombre d'enregistrements supprimés
+     * @throws IOException si un segment ne peut être lu ou écrit
+     */
+    public long compact() throws IOException {
+        synchronized (maintenanceLock) {
+            List<Path> segments;
+            synchronized (this) {
+                segments = new ArrayList<>(sealed);
+            }
+            if (segments.isEmpty()) {
+                return 0;
+            }
+
+            CRC32C check = new CRC32C();
+            Map<Long, GameState> states = new HashMap<>();
+            long total = 0;
+            for (Path segment : segments) {
+                total += fold(read(segment), check, states);
+            }
+            Set<Long> live = new HashSet<>();
+            for (Map.Entry<Long, GameState> entry : states.entrySet()) {
+                if (entry.getValue().getStatus() == GameState.Status.IN_PROGRESS) {
+                    live.add(entry.getKey());
+                }
+            }
+
+            Path first = segments.get(0);
+            Path temporary = directory.resolve(first.getFileName() + ".tmp");
+            long kept = live.isEmpty() ? 0 : copyLive(segments, live, check, temporary);
+            if (kept > 0) {
+                Files.move(temporary, first, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(first);
+            }
+            for (Path segment : segments.subList(1, segments.size())) {
+                Files.delete(segment);
+            }
+
+            synchronized (this) {
+                sealed.removeAll(segments);
+                if (kept > 0) {
+                    sealed.add(0, first);
+                }
+            }
+            return total - kept;
+        }
+    }
+
+    private static long copyLive(List<Path> segments, Set<Long> live, CRC32C check, Path target)
+            throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(RECORD_SIZE * 2048);
+        long kept = 0;
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Path segment : segments) {
+                ByteBuffer buffer = read(segment).order(ByteOrder.LITTLE_ENDIAN);
+                int end = buffer.limit();
+                for (int offset = 0; offset + RECORD_SIZE <= end; offset += RECORD_SIZE) {
+                    if (!isValid(buffer, offset, check)) {
+                        break;
+                    }
+                    if (live.contains(buffer.getLong(offset + SESSION_OFFSET))) {
+                        if (!out.hasRemaining()) {
+                            writeFully(channel, out.flip());
+                            out.clear();
+                        }
+                        out.put(buffer.slice(offset, RECORD_SIZE));
+                        kept++;
+                    }
+                }
+            }
+            writeFully(channel, out.flip());
+            channel.force(true);
+        }
+        return kept;
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("⚠ Compactage du journal impossible : " + e.getMessage());
+        }
+    }
+
+    /* ==================== Fermeture ==================== */
+
+    /**
+     * Écrit les derniers événements sur disque et arrête les threads du journal.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        synchronized (flushMonitor) {
+            flushMonitor.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        maintenance.shutdown();
+    }
+
+    /**
+     * @return le nombre d'événements ajoutés depuis l'ouverture
+     */
+    public synchronized long getAppendedCount() {
+        return appended;
+    }
+
+    /**
+     * @return le nombre de segments, segment actif compris
+     */
+    public synchronized int getSegmentCount() {
+        return sealed.size() + 1;
+    }
+
+    /* ==================== Utilitaires ==================== */
+
+    private static boolean isValid(ByteBuffer buffer, int offset, CRC32C check) {
+        byte type = buffer.get(offset);
+        return type >= START && type <= END
+                && buffer.get(offset + CHECKSUM_OFFSET) == checksum(check, buffer, offset);
+    }
+
+    /**
+     * CRC32C de l'enregistrement, octet de contrôle exclu, replié sur un octet.
+     * La position et la limite du tampon sont remises à zéro et à sa capacité.
+     */
+    private static byte checksum(CRC32C check, ByteBuffer buffer, int offset) {
+        // Fenêtres posées sur le tampon lui-même (pas de slice par enregistrement)
+        check.reset();
+        buffer.limit(offset + CHECKSUM_OFFSET).position(offset);
+        check.update(buffer);
+        buffer.limit(offset + RECORD_SIZE).position(offset + SESSION_OFFSET);
+        check.update(buffer);
+        buffer.clear();
+        int value = (int) check.getValue();
+        return (byte) (value ^ (value >>> 8) ^ (value >>> 16) ^ (value >>> 24));
+    }
+
+    private static ByteBuffer read(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "journal-*.seg")) {
+            for (Path file : files) {
+                if (SEGMENT_NAME.matcher(file.getFileName().toString()).matches()) {
+                    segments.add(file);
+                }
+            }
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private static int segmentNumber(Path segment) {
+        Matcher matcher = SEGMENT_NAME.matcher(segment.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Segment inconnu : " + segment);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static String segmentName(int number) {
+        return String.format("journal-%08d.seg", number);
+    }
+}
@@ -0,0 +1,487 @@
+package edu.centralenantes.Hangman.metrics;
+
+import edu.centralenantes.Hangman.model.GameState;
+import java.io.Closeable;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Métriques du jeu : compteurs de parties, propositions et histogrammes de
+ * durées (proposition, affichage, chargement du dictionnaire).
+ *
+ * Une instance globale, {@link #global()}, est alimentée par le moteur,
+ * le dictionnaire et la console. Elle est désactivée par
+ * {@code -D}{@value #ENABLED_PROPERTY}{@code =false} ; les appels
+ * d'enregistrement ne font alors rien.
+ *
+ * Pour rester négligeable sur le chemin d'une proposition (quelques
+ * dizaines de nanosecondes), le moteur ne publie les propositions qu'en
+ * fin de partie et ne chronomètre qu'une partie sur {@value #SAMPLE_INTERVAL}.
+ * Les compteurs de parties sont tenus par thread, ou par moteur, dans un
+ * {@link Recorder} (un seul écrivain, sans instruction atomique) et
+ * additionnés à la lecture ; ceux d'un thread terminé ou d'un moteur
+ * récupéré sont reportés dans un cumul et leur enregistreur est oublié,
+ * pour qu'un serveur à un thread par connexion n'en accumule pas.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class HangmanMetrics implements HangmanMetricsMXBean {
+
+    /** Propriété système d'activation (true par défaut). */
+    public static final String ENABLED_PROPERTY = "hangman.metrics";
+
+    /** Nom JMX de l'instance globale. */
+    public static final String OBJECT_NAME = "edu.centralenantes.Hangman:type=Metrics";
+
+    /** Une partie sur SAMPLE_INTERVAL voit toutes ses propositions chronométrées (puissance de 2). */
+    public static final int SAMPLE_INTERVAL = 1024;
+
+    private static final HangmanMetrics GLOBAL =
+            new HangmanMetrics(!"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY)));
+
+    // Compteurs d'un enregistreur : parties démarrées, propositions des
+    // parties abandonnées, puis parties gagnées et perdues par nombre de
+    // propositions (0 à 26). Une partie ne coûte ainsi que deux écritures.
+    private static final int STARTED = 0;
+    private static final int ABANDONED_GUESSES = 1;
+    private static final int MAX_GUESSES = 26;
+    private static final int WON = 2;
+    private static final int LOST = WON + MAX_GUESSES + 1;
+    private static final int SLOTS = LOST + MAX_GUESSES + 1;
+
+    private final boolean enabled;
+    private static final Recorder DISABLED = new Recorder(null, null, null);
+
+    // Enregistreurs des threads vivants et cumul des threads terminés, sous le verrou de la liste
+    private final List<Recorder> recorders = new ArrayList<>();
+    private final long[] retired = new long[SLOTS];
+    private final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(this::newRecorder);
+    private volatile long[] baseline = new long[SLOTS];
+    private final Histogram guessLatency = new Histogram();
+    private final Histogram renderTime = new Histogram();
+    private final Histogram dictionaryLoadTime = new Histogram();
+    private volatile long dictionaryWordCount;
+    private volatile long lastDictionaryLoadNanos;
+
+    /**
+     * @param enabled false pour ignorer tous les enregistrements
+     */
+    public HangmanMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return l'instance partagée par tout le processus
+     */
+    public static HangmanMetrics global() {
+        return GLOBAL;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /* ==================== Enregistrement ==================== */
+
+    /**
+     * Compteurs de parties à un seul écrivain : un thread ({@link #recorder()}),
+     * ou un objet utilisé par un seul thread à la fois ({@link #recorderFor}).
+     */
+    public static final class Recorder {
+
+        private final Thread owner;
+        private final WeakReference<Object> holder;
+        private final AtomicLongArray counts;
+
+        private Recorder(Thread owner, WeakReference<Object> holder, AtomicLongArray counts) {
+            this.owner = owner;
+            this.holder = holder;
+            this.counts = counts;
+        }
+
+        // Plus d'écrivain : thread terminé, ou objet récupéré par le ramasse-miettes
+        private boolean isDead() {
+            return holder != null ? holder.get() == null : !owner.isAlive();
+        }
+
+        /**
+         * @return true si le thread courant peut utiliser cet enregistreur
+         */
+        public boolean isUsableHere() {
+            return owner == null || owner == Thread.currentThread();
+        }
+
+        /**
+         * Compte une partie démarrée.
+         */
+        public void gameStarted() {
+            if (counts != null) {
+                add(STARTED, 1);
+            }
+        }
+
+        /**
+         * Compte les propositions d'une partie et, si elle est terminée, son issue.
+         *
+         * @param status le statut de la partie (IN_PROGRESS pour une partie abandonnée)
+         * @param guessCount le nombre de lettres nouvelles proposées pendant la partie
+         */
+        public void gameEnded(GameState.Status status, int guessCount) {
+            if (counts == null) {
+                return;
+            }
+            if (status == GameState.Status.IN_PROGRESS) {
+                add(ABANDONED_GUESSES, guessCount);
+            } else {
+                int guesses = Math.min(Math.max(guessCount, 0), MAX_GUESSES);
+                add((status == GameState.Status.WON ? WON : LOST) + guesses, 1);
+            }
+        }
+
+        private void add(int slot, long delta) {
+            // Seul le thread propriétaire écrit : une écriture ordonnée suffit
+            counts.setRelease(slot, counts.getPlain(slot) + delta);
+        }
+    }
+
+    /**
+     * @return l'enregistreur du thread courant (sans effet si les métriques sont désactivées)
+     */
+    public Recorder recorder() {
+        return enabled ? recorder.get() : DISABLED;
+    }
+
+    /**
+     * Crée un enregistreur propre à un objet (un moteur de jeu) : utilisable
+     * depuis n'importe quel thread, à condition qu'un seul à la fois
+     * l'alimente, sans vérification du thread à chaque partie. Il est oublié,
+     * ses compteurs reportés, une fois l'objet récupéré par le ramasse-miettes.
+     *
+     * @param holder l'objet qui utilise l'enregistreur
+     * @return l'enregistreur (sans effet si les métriques sont désactivées)
+     */
+    public Recorder recorderFor(Object holder) {
+        if (!enabled) {
+            return DISABLED;
+        }
+        return register(new Recorder(null, new WeakReference<>(holder), new AtomicLongArray(SLOTS)));
+    }
+
+    /**
+     * Compte une partie démarrée, depuis le thread courant.
+     */
+    public void gameStarted() {
+        recorder().gameStarted();
+    }
+
+    /**
+     * Compte les propositions d'une partie et, si elle est terminée, son
+     * issue, depuis le thread courant.
+     *
+     * @param status le statut de la partie (IN_PROGRESS pour une partie abandonnée)
+     * @param guessCount le nombre de lettres nouvelles proposées pendant la partie
+     */
+    public void gameEnded(GameState.Status status, int guessCount) {
+        recorder().gameEnded(status, guessCount);
+    }
+
+    /**
+     * @param nanos la durée d'une proposition
+     */
+    public void guessTimed(long nanos) {
+        if (enabled) {
+            guessLatency.record(nanos);
+        }
+    }
+
+    /**
+     * @param nanos la durée d'affichage d'un écran
+     */
+    public void screenRendered(long nanos) {
+        if (enabled) {
+            renderTime.record(nanos);
+        }
+    }
+
+    /**
+     * @param wordCount le nombre de mots chargés
+     * @param nanos la durée du chargement
+     */
+    public void dictionaryLoaded(int wordCount, long nanos) {
+        if (enabled) {
+            dictionaryLoadTime.record(nanos);
+            dictionaryWordCount = wordCount;
+            lastDictionaryLoadNanos = nanos;
+        }
+    }
+
+    /* ==================== Lecture ==================== */
+
+    @Override
+    public long getGamesStarted() {
+        return total(STARTED);
+    }
+
+    @Override
+    public long getGamesWon() {
+        long[] totals = totals();
+        return sum(totals, WON, 0);
+    }
+
+    @Override
+    public long getGamesLost() {
+        long[] totals = totals();
+        return sum(totals, LOST, 0);
+    }
+
+    @Override
+    public long getGuesses() {
+        long[] totals = totals();
+        return totals[ABANDONED_GUESSES] + sum(totals, WON, 1) + sum(totals, LOST, 1);
+    }
+
+    @Override
+    public double getMeanGuessesPerGame() {
+        long[] totals = totals();
+        long games = sum(totals, WON, 0) + sum(totals, LOST, 0);
+        long guesses = sum(totals, WON, 1) + sum(totals, LOST, 1);
+        return games == 0 ? 0 : (double) guesses / games;
+    }
+
+    @Override
+    public long getGuessLatencyP50Nanos() {
+        return guessLatency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getGuessLatencyP99Nanos() {
+        return guessLatency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getRenderTimeP50Nanos() {
+        return renderTime.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getRenderTimeP99Nanos() {
+        return renderTime.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getDictionaryLoadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastDictionaryLoadNanos);
+    }
+
+    @Override
+    public long getDictionaryWordCount() {
+        return dictionaryWordCount;
+    }
+
+    /**
+     * @return le nombre de parties terminées, indicé par leur nombre de propositions (0 à 26)
+     */
+    public long[] getGuessesPerGame() {
+        long[] totals = totals();
+        long[] perGame = new long[MAX_GUESSES + 1];
+        for (int i = 0; i <= MAX_GUESSES; i++) {
+            perGame[i] = totals[WON + i] + totals[LOST + i];
+        }
+        return perGame;
+    }
+
+    /**
+     * @return l'histogramme des durées de proposition échantillonnées, en nanosecondes
+     */
+    public Histogram getGuessLatency() {
+        return guessLatency;
+    }
+
+    /**
+     * @return l'histogramme des durées d'affichage, en nanosecondes
+     */
+    public Histogram getRenderTime() {
+        return renderTime;
+    }
+
+    /**
+     * @return l'histogramme des durées de chargement du dictionnaire, en nanosecondes
+     */
+    public Histogram getDictionaryLoadTime() {
+        return dictionaryLoadTime;
+    }
+
+    @Override
+    public String getSnapshot() {
+        StringBuilder text = new StringBuilder(512);
+        text.append(String.format(Locale.ROOT, "Parties     : %d démarrées, %d gagnées, %d perdues%n",
+                                  getGamesStarted(), getGamesWon(), getGamesLost()));
+        text.append(String.format(Locale.ROOT, "Propositions: %d (%.2f par partie terminée)%n",
+                                  getGuesses(), getMeanGuessesPerGame()));
+        appendLatency(text, "Proposition ", guessLatency);
+        appendLatency(text, "Affichage   ", renderTime);
+        text.append(String.format(Locale.ROOT, "Dictionnaire: %d mots, chargé en %d ms%n",
+                                  getDictionaryWordCount(), getDictionaryLoadMillis()));
+        return text.toString();
+    }
+
+    private static void appendLatency(StringBuilder text, String label, Histogram histogram) {
+        text.append(String.format(Locale.ROOT, "%s: n=%d p50=%.1f µs p99=%.1f µs max=%.1f µs%n",
+                                  label, histogram.getCount(),
+                                  histogram.getValueAtPercentile(50) / 1e3,
+                                  histogram.getValueAtPercentile(99) / 1e3,
+                                  histogram.getMax() / 1e3));
+    }
+
+    @Override
+    public void reset() {
+        // Les compteurs par thread ne sont écrits que par leur thread : on
+        // mémorise les totaux courants plutôt que de les remettre à zéro
+        long[] current = totals();
+        long[] previous = baseline;
+        for (int i = 0; i < SLOTS; i++) {
+            current[i] += previous[i];
+        }
+        baseline = current;
+        guessLatency.reset();
+        renderTime.reset();
+        dictionaryLoadTime.reset();
+        dictionaryWordCount = 0;
+        lastDictionaryLoadNanos = 0;
+    }
+
+    private Recorder newRecorder() {
+        return register(new Recorder(Thread.currentThread(), null, new AtomicLongArray(SLOTS)));
+    }
+
+    private Recorder register(Recorder created) {
+        synchronized (recorders) {
+            pruneDead();
+            recorders.add(created);
+        }
+        return created;
+    }
+
+    // Appelée sous le verrou de la liste. Un écrivain disparu n'écrit plus :
+    // isAlive() == false, ou le ramasse-miettes (qui arrête tous les
+    // threads) pour un objet récupéré, rend ses écritures visibles
+    private void pruneDead() {
+        for (Iterator<Recorder> it = recorders.iterator(); it.hasNext(); ) {
+            Recorder counted = it.next();
+            if (counted.isDead()) {
+                for (int i = 0; i < SLOTS; i++) {
+                    retired[i] += counted.counts.get(i);
+                }
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return le nombre d'enregistreurs dont l'écrivain existe encore
+     */
+    int getRecorderCount() {
+        synchronized (recorders) {
+            pruneDead();
+            return recorders.size();
+        }
+    }
+
+    private long total(int slot) {
+        long sum = -baseline[slot];
+        synchronized (recorders) {
+            pruneDead();
+            sum += retired[slot];
+            for (Recorder counted : recorders) {
+                sum += counted.counts.get(slot);
+            }
+        }
+        return sum;
+    }
+
+    // Somme d'une distribution par nombre de propositions : parties (poids 0) ou propositions (poids 1)
+    private static long sum(long[] totals, int first, int weight) {
+        long sum = 0;
+        for (int i = 0; i <= MAX_GUESSES; i++) {
+            sum += (weight == 0 ? 1 : i) * totals[first + i];
+        }
+        return sum;
+    }
+
+    private long[] totals() {
+        long[] previous = baseline;
+        long[] sums = new long[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            sums[i] = -previous[i];
+        }
+        synchronized (recorders) {
+            pruneDead();
+            for (int i = 0; i < SLOTS; i++) {
+                sums[i] += retired[i];
+            }
+            for (Recorder counted : recorders) {
+                for (int i = 0; i < SLOTS; i++) {
+                    sums[i] += counted.counts.get(i);
+                }
+            }
+        }
+        return sums;
+    }
+
+    /* ==================== Publication ==================== */
+
+    /**
+     * Enregistre cette instance auprès du serveur MBean de la plateforme,
+     * sous {@value #OBJECT_NAME}. Sans effet si le nom est déjà pris.
+     *
+     * @return le nom JMX
+     * @throws IllegalStateException si l'enregistrement échoue
+     */
+    public ObjectName registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException e) {
+                // Déjà publié (instance globale enregistrée deux fois)
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Enregistrement JMX impossible", e);
+        }
+    }
+
+    /**
+     * Écrit périodiquement un instantané texte, depuis un thread démon.
+     *
+     * @param out la destination
+     * @param period la période
+     * @param unit l'unité de la période
+     * @return de quoi arrêter les écritures
+     */
+    public Closeable startReporter(PrintStream out, long period, TimeUnit unit) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "hangman-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> out.print(getSnapshot()), period, period, unit);
+        return scheduler::shutdownNow;
+    }
+}
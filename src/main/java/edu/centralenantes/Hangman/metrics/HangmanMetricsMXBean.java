@@ -0,0 +1,81 @@
+package edu.centralenantes.Hangman.metrics;
+
+/**
+ * Vue JMX des métriques du jeu, enregistrée sous
+ * {@value HangmanMetrics#OBJECT_NAME}.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public interface HangmanMetricsMXBean {
+
+    /**
+     * @return true si les métriques sont collectées
+     */
+    boolean isEnabled();
+
+    /**
+     * @return le nombre de parties démarrées
+     */
+    long getGamesStarted();
+
+    /**
+     * @return le nombre de parties gagnées
+     */
+    long getGamesWon();
+
+    /**
+     * @return le nombre de parties perdues
+     */
+    long getGamesLost();
+
+    /**
+     * @return le nombre de lettres nouvelles proposées
+     */
+    long getGuesses();
+
+    /**
+     * @return le nombre moyen de propositions par partie terminée
+     */
+    double getMeanGuessesPerGame();
+
+    /**
+     * @return la médiane de la durée d'une proposition (échantillonnée), en nanosecondes
+     */
+    long getGuessLatencyP50Nanos();
+
+    /**
+     * @return le 99e centile de la durée d'une proposition (échantillonnée), en nanosecondes
+     */
+    long getGuessLatencyP99Nanos();
+
+    /**
+     * @return la médiane de la durée d'affichage d'un écran, en nanosecondes
+     */
+    long getRenderTimeP50Nanos();
+
+    /**
+     * @return le 99e centile de la durée d'affichage d'un écran, en nanosecondes
+     */
+    long getRenderTimeP99Nanos();
+
+    /**
+     * @return la durée du dernier chargement de dictionnaire, en millisecondes
+     */
+    long getDictionaryLoadMillis();
+
+    /**
+     * @return le nombre de mots du dernier dictionnaire chargé
+     */
+    long getDictionaryWordCount();
+
+    /**
+     * @return un instantané texte de toutes les métriques
+     */
+    String getSnapshot();
+
+    /**
+     * Remet toutes les métriques à zéro.
+     */
+    void reset();
+}
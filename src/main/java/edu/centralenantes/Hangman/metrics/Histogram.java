@@ -0,0 +1,130 @@
+package edu.centralenantes.Hangman.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme log-linéaire de valeurs positives (durées en nanosecondes,
+ * nombres de propositions...), à la manière de HdrHistogram.
+ *
+ * Chaque puissance de 2 est découpée en {@value #SUB_BUCKETS} classes
+ * égales : un centile est donné à 1/{@value #SUB_BUCKETS} près (6,25 %),
+ * sur toute l'étendue des {@code long}, avec un tableau fixe de 960
+ * compteurs. L'enregistrement ne fait aucune allocation et peut être
+ * appelé depuis plusieurs threads.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class Histogram {
+
+    /** Nombre de classes par puissance de 2. */
+    public static final int SUB_BUCKETS = 16;
+
+    private static final int SUB_BITS = 4;
+    private static final int BUCKET_COUNT = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Enregistre une valeur.
+     *
+     * @param value la valeur ; une valeur négative compte pour 0
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        counts.incrementAndGet(bucketOf(v));
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * @return le nombre de valeurs enregistrées
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return la moyenne exacte des valeurs, 0 si aucune
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * @return la plus grande valeur enregistrée, 0 si aucune
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Retourne la valeur sous laquelle se trouve une proportion donnée des
+     * enregistrements (borne haute de la classe, plafonnée au maximum).
+     *
+     * @param percentile le centile, entre 0 et 100
+     * @return la valeur du centile, 0 si aucune valeur
+     * @throws IllegalArgumentException si le centile est hors de [0, 100]
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Centile invalide : " + percentile);
+        }
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Remet l'histogramme à zéro (les enregistrements concurrents peuvent
+     * être partiellement perdus).
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -1,5 +1,8 @@
 package edu.centralenantes.Hangman.model;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -7,10 +10,30 @@ import java.util.Set;
  * Représente l'état d'une partie de pendu.
  * Classe immuable pour garantir les invariants.
  *
+ * Les lettres proposées et les lettres du mot secret sont stockées sous
+ * forme de masques de 26 bits (bit 0 = 'A', bit 25 = 'Z') : une proposition
+ * n'alloue rien d'autre que le nouvel état.
+ *
+ * Le mot secret peut contenir des lettres accentuées : elles sont repliées
+ * sur leurs lettres de base par {@link LetterFolding}, si bien que la
+ * proposition de E révèle É, È et Ê. Une ligature (Œ) est révélée quand
+ * ses deux lettres ont été proposées.
+ *
+ * Le mot masqué est calculé à la première demande puis conservé ; un état
+ * issu d'une lettre fausse ou répétée reprend celui de l'état précédent, il
+ * n'est donc reconstruit que lorsqu'une lettre est révélée.
+ *
+ * Un état sérialisé est revalidé à la lecture par {@link #restore}.
+ *
  * @author Mohamadou Dia
  * @version 1.0
  */
-public class GameState {
+public class GameState implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Bits des 26 lettres A-Z. */
+    private static final int ALL_LETTERS = (1 << 26) - 1;
 
     /** États possibles d'une partie */
     public enum Status {
@@ -20,119 +43,300 @@ public class GameState {
     }
 
     private final String secretWord;
-    private final Set<Character> proposedLetters;
+    private final int secretMask;
+    private final int proposedMask;
     private final int remainingErrors;
     private final int maxErrors;
     private final Status status; // ✅ CORRIGÉ
+    private transient String maskedWord;
 
     /**
      * Constructeur pour initialiser une nouvelle partie.
      *
-     * @param secretWord le mot à deviner (doit contenir uniquement des lettres)
+     * @param secretWord le mot à deviner (lettres A-Z, accentuées ou non)
      * @param maxErrors le nombre maximal d'erreurs autorisées
      * @throws IllegalArgumentException si le mot est invalide ou maxErrors <= 0
      */
     public GameState(String secretWord, int maxErrors) {
+        this.secretMask = validate(secretWord, maxErrors);
+        this.secretWord = LetterFolding.toUpperCase(secretWord);
+        this.proposedMask = 0;
+        this.remainingErrors = maxErrors;
+        this.maxErrors = maxErrors;
+        this.status = Status.IN_PROGRESS;
+    }
+
+    /**
+     * Reconstruit un état en cours de partie (instantané, journal...).
+     * Le statut est recalculé ; l'état doit pouvoir être atteint depuis
+     * une nouvelle partie par une suite de propositions.
+     *
+     * @param secretWord le mot à deviner (mêmes règles que le constructeur)
+     * @param maxErrors le nombre maximal d'erreurs (mêmes règles que le constructeur)
+     * @param proposedMask les lettres proposées (bit 0 = 'A', bit 25 = 'Z')
+     * @param remainingErrors les erreurs restantes
+     * @return l'état reconstruit
+     * @throws IllegalArgumentException si les valeurs sont invalides ou incohérentes
+     */
+    public static GameState restore(String secretWord, int maxErrors,
+                                    int proposedMask, int remainingErrors) {
+        int secretMask = validate(secretWord, maxErrors);
+        if ((proposedMask & ~ALL_LETTERS) != 0) {
+            throw new IllegalArgumentException("Masque de lettres invalide : " + proposedMask);
+        }
+        int misses = Integer.bitCount(proposedMask & ~secretMask);
+        if (remainingErrors != maxErrors - misses || remainingErrors < 0) {
+            throw new IllegalArgumentException("Erreurs restantes incohérentes : " + remainingErrors);
+        }
+        boolean found = (secretMask & ~proposedMask) == 0;
+        if (found && remainingErrors == 0) {
+            // La partie se serait arrêtée avant la dernière proposition
+            throw new IllegalArgumentException("État de partie impossible");
+        }
+        Status status = remainingErrors == 0 ? Status.LOST
+                : found ? Status.WON : Status.IN_PROGRESS;
+        return new GameState(LetterFolding.toUpperCase(secretWord), secretMask, proposedMask,
+                             remainingErrors, maxErrors, status, null);
+    }
+
+    /**
+     * Vérifie le mot et le nombre d'erreurs, et calcule le masque du mot.
+     */
+    static int validate(String secretWord, int maxErrors) {
         if (secretWord == null || secretWord.isEmpty()) {
             throw new IllegalArgumentException("Le mot secret ne peut pas être vide");
         }
         if (maxErrors <= 0) {
             throw new IllegalArgumentException("Le nombre d'erreurs doit être positif");
         }
-        if (!secretWord.matches("[a-zA-Z]+")) {
-            throw new IllegalArgumentException("Le mot doit contenir uniquement des lettres");
+
+        int mask = 0;
+        for (int i = 0; i < secretWord.length(); i++) {
+            int letters = LetterFolding.letterMask(secretWord.charAt(i));
+            if (letters == 0) {
+                throw new IllegalArgumentException("Le mot doit contenir uniquement des lettres");
+            }
+            mask |= letters;
         }
+        return mask;
+    }
 
-        this.secretWord = secretWord.toUpperCase();
-        this.proposedLetters = new HashSet<>();
-        this.remainingErrors = maxErrors;
-        this.maxErrors = maxErrors;
-        this.status = Status.IN_PROGRESS;
+    /**
+     * Construit un état à partir de valeurs déjà validées (copie d'un
+     * {@link MutableGameState}), sans relire le mot.
+     */
+    static GameState of(String secretWord, int secretMask, int proposedMask,
+                        int remainingErrors, int maxErrors, Status status) {
+        return new GameState(secretWord, secretMask, proposedMask,
+                             remainingErrors, maxErrors, status, null);
+    }
+
+    /**
+     * Revalide un état désérialisé.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        try {
+            GameState restored = restore(secretWord, maxErrors, proposedMask, remainingErrors);
+            if (restored.status != status) {
+                throw new IllegalArgumentException("Statut incohérent : " + status);
+            }
+            return restored;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
     }
 
     /**
      * Constructeur privé pour créer un nouvel état après une transition.
      */
     private GameState(String secretWord,
-                      Set<Character> proposedLetters,
+                      int secretMask,
+                      int proposedMask,
                       int remainingErrors,
                       int maxErrors,
-                      Status status) {
+                      Status status,
+                      String maskedWord) {
         this.secretWord = secretWord;
-        this.proposedLetters = new HashSet<>(proposedLetters);
+        this.secretMask = secretMask;
+        this.proposedMask = proposedMask;
         this.remainingErrors = remainingErrors;
         this.maxErrors = maxErrors;
         this.status = status;
+        this.maskedWord = maskedWord;
     }
 
     /**
      * Propose une lettre et retourne le nouvel état.
+     *
+     * @param letter la lettre proposée (insensible à la casse ; une lettre
+     *        accentuée compte pour sa lettre de base)
+     * @return le nouvel état, ou cet état si la lettre était déjà proposée
+     * @throws IllegalStateException si la partie est terminée
+     * @throws IllegalArgumentException si le caractère n'a pas de lettre de base A-Z
      */
     public GameState proposeLettre(char letter) {
         if (status != Status.IN_PROGRESS) {
             throw new IllegalStateException("La partie est terminée");
         }
 
-        if (!Character.isLetter(letter)) {
+        int bit = letterBit(letter);
+        if (bit == 0) {
             throw new IllegalArgumentException("Caractère invalide : " + letter);
         }
 
-        char upperLetter = Character.toUpperCase(letter);
-
         // Lettre déjà proposée : pas de changement d'état
-        if (proposedLetters.contains(upperLetter)) {
+        if ((proposedMask & bit) != 0) {
             return this;
         }
 
-        Set<Character> newProposed = new HashSet<>(proposedLetters);
-        newProposed.add(upperLetter);
+        int newProposed = proposedMask | bit;
 
-        boolean isCorrect = secretWord.indexOf(upperLetter) >= 0;
+        boolean isCorrect = (secretMask & bit) != 0;
         int newRemainingErrors =
                 isCorrect ? remainingErrors : remainingErrors - 1;
 
         Status newStatus =
                 computeStatus(newProposed, newRemainingErrors);
 
+        // Lettre fausse : le mot masqué ne change pas
         return new GameState(secretWord,
+                             secretMask,
                              newProposed,
                              newRemainingErrors,
                              maxErrors,
-                             newStatus);
+                             newStatus,
+                             isCorrect ? null : maskedWord);
     }
 
     /**
-     * Calcule le statut de la partie.
+     * Propose plusieurs lettres en une seule transition : le résultat est
+     * celui d'appels successifs à {@link #proposeLettre}, sans état
+     * intermédiaire. Les lettres qui suivent la fin de la partie (victoire
+     * ou défaite) sont ignorées.
+     *
+     * @param letters les lettres proposées, dans l'ordre (mêmes règles que
+     *        {@link #proposeLettre})
+     * @return le nouvel état, ou cet état si aucune lettre n'était nouvelle
+     * @throws IllegalStateException si la partie est terminée
+     * @throws IllegalArgumentException si un caractère n'a pas de lettre de
+     *         base A-Z ; aucune lettre n'est alors appliquée
      */
-    private Status computeStatus(Set<Character> proposed, int errors) {
-        if (errors <= 0) {
-            return Status.LOST;
+    public GameState proposeLetters(CharSequence letters) {
+        if (status != Status.IN_PROGRESS) {
+            throw new IllegalStateException("La partie est terminée");
         }
 
-        for (char c : secretWord.toCharArray()) {
-            if (!proposed.contains(c)) {
-                return Status.IN_PROGRESS;
+        int proposed = proposedMask;
+        int errors = remainingErrors;
+        boolean over = false;
+        for (int i = 0; i < letters.length(); i++) {
+            int bit = letterBit(letters.charAt(i));
+            if (bit == 0) {
+                throw new IllegalArgumentException("Caractère invalide : " + letters.charAt(i));
+            }
+            if (over || (proposed & bit) != 0) {
+                continue;
+            }
+            proposed |= bit;
+            if ((secretMask & bit) == 0) {
+                errors--;
             }
+            over = errors == 0 || (secretMask & ~proposed) == 0;
         }
 
-        return Status.WON;
+        if (proposed == proposedMask) {
+            return this;
+        }
+        // Aucune lettre juste : le mot masqué ne change pas
+        boolean revealed = ((proposed ^ proposedMask) & secretMask) != 0;
+        return new GameState(secretWord,
+                             secretMask,
+                             proposed,
+                             errors,
+                             maxErrors,
+                             computeStatus(proposed, errors),
+                             revealed ? null : maskedWord);
+    }
+
+    /**
+     * Calcule le statut de la partie.
+     */
+    private Status computeStatus(int proposed, int errors) {
+        return statusOf(secretMask, proposed, errors);
+    }
+
+    /**
+     * Règle de fin de partie, partagée avec {@link MutableGameState}.
+     */
+    static Status statusOf(int secretMask, int proposed, int errors) {
+        if (errors <= 0) {
+            return Status.LOST;
+        }
+
+        // Victoire : toutes les lettres du mot ont été proposées
+        return (secretMask & ~proposed) == 0 ? Status.WON : Status.IN_PROGRESS;
     }
 
     /**
      * Retourne le mot avec les lettres masquées.
+     *
+     * @return le mot masqué, lettres séparées par des espaces (ex. "J _ _ _")
      */
     public String getMaskedWord() {
-        StringBuilder masked = new StringBuilder();
-        for (char c : secretWord.toCharArray()) {
-            masked.append(proposedLetters.contains(c) ? c : '_')
-                  .append(' ');
+        String masked = maskedWord;
+        if (masked == null) {
+            // Course bénigne : tous les threads calculent la même chaîne immuable
+            masked = buildMaskedWord();
+            maskedWord = masked;
+        }
+        return masked;
+    }
+
+    private String buildMaskedWord() {
+        int length = secretWord.length();
+        char[] masked = new char[2 * length - 1];
+        for (int i = 0; i < length; i++) {
+            masked[2 * i] = getRevealedChar(i);
+            if (i > 0) {
+                masked[2 * i - 1] = ' ';
+            }
         }
-        return masked.toString().trim();
+        return new String(masked);
     }
 
+    /**
+     * Retourne le caractère visible à une position du mot, sans construire
+     * le mot masqué.
+     *
+     * @param position la position dans le mot secret
+     * @return la lettre si elle a été révélée, '_' sinon
+     * @throws IndexOutOfBoundsException si la position est invalide
+     */
+    public char getRevealedChar(int position) {
+        char c = secretWord.charAt(position);
+        int letters = LetterFolding.letterMask(c);
+        return (proposedMask & letters) == letters ? c : '_';
+    }
+
+    /**
+     * Indique si une lettre a déjà été proposée.
+     *
+     * @param letter la lettre (insensible à la casse et aux accents)
+     * @return true si la lettre a déjà été proposée
+     */
     public boolean isLetterProposed(char letter) {
-        return proposedLetters.contains(
-                Character.toUpperCase(letter));
+        return (proposedMask & letterBit(letter)) != 0;
+    }
+
+    /**
+     * Retourne le bit associé à une lettre (insensible à la casse ; une
+     * lettre accentuée donne le bit de sa lettre de base).
+     *
+     * @param letter la lettre
+     * @return le bit de la lettre, ou 0 si le caractère n'a pas de lettre de base A-Z
+     */
+    public static int letterBit(char letter) {
+        return LetterFolding.letterBit(letter);
     }
 
     // Getters
@@ -142,7 +346,27 @@ public class GameState {
     }
 
     public Set<Character> getProposedLetters() {
-        return new HashSet<>(proposedLetters);
+        Set<Character> letters = new HashSet<>();
+        for (int mask = proposedMask; mask != 0; mask &= mask - 1) {
+            letters.add((char) ('A' + Integer.numberOfTrailingZeros(mask)));
+        }
+        return letters;
+    }
+
+    /**
+     * Retourne le masque des lettres proposées (bit 0 = 'A').
+     * @return le masque des lettres proposées
+     */
+    public int getProposedMask() {
+        return proposedMask;
+    }
+
+    /**
+     * Retourne le masque des lettres du mot secret (bit 0 = 'A').
+     * @return le masque des lettres du mot secret
+     */
+    public int getSecretMask() {
+        return secretMask;
     }
 
     public int getRemainingErrors() {
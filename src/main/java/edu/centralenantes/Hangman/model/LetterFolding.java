@@ -0,0 +1,144 @@
+package edu.centralenantes.Hangman.model;
+
+import java.text.Normalizer;
+
+/**
+ * Table de repli des lettres accentuées sur leurs lettres de base A-Z.
+ *
+ * La table couvre Latin-1 et Latin étendu A (U+0000..U+017F) : chaque
+ * caractère y est associé au masque des lettres de base qu'il représente
+ * (bit 0 = 'A', bit 25 = 'Z') et à sa majuscule. É, È et Ê donnent ainsi
+ * le bit de E ; les ligatures donnent deux bits (Œ = O et E). Un masque
+ * nul signifie que le caractère n'est pas une lettre jouable.
+ *
+ * La table est calculée une fois, au chargement de la classe ; un repli
+ * ne coûte ensuite qu'une lecture de tableau.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class LetterFolding {
+
+    /** Premier caractère hors de la table (U+0180). */
+    private static final int TABLE_SIZE = 0x180;
+
+    /** Lettres sans décomposition canonique, et leurs lettres de base. */
+    private static final String SPECIAL_LETTERS = "ÆæŒœĲĳÞþßſØøÐðĐđĦħıĸĿŀŁłŉŊŋŦŧ";
+    private static final String[] SPECIAL_FOLDS = {
+        "AE", "AE", "OE", "OE", "IJ", "IJ", "TH", "TH", "S", "S", "O", "O", "D", "D", "D", "D",
+        "H", "H", "I", "K", "L", "L", "L", "L", "N", "N", "N", "T", "T"
+    };
+
+    private static final int[] MASKS = new int[TABLE_SIZE];
+    private static final char[] UPPER = new char[TABLE_SIZE];
+
+    static {
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            if (Character.isLetter(c)) {
+                // Lettre de base suivie de diacritiques combinants
+                char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+                int index = (base | 0x20) - 'a';
+                if (index >= 0 && index < 26) {
+                    MASKS[c] = 1 << index;
+                }
+            }
+        }
+        for (int i = 0; i < SPECIAL_LETTERS.length(); i++) {
+            int mask = 0;
+            for (char base : SPECIAL_FOLDS[i].toCharArray()) {
+                mask |= 1 << (base - 'A');
+            }
+            MASKS[SPECIAL_LETTERS.charAt(i)] = mask;
+        }
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            char upper = Character.toUpperCase(c);
+            // Majuscule gardée seulement si elle reste dans la table avec les mêmes lettres
+            UPPER[c] = upper < TABLE_SIZE && MASKS[upper] == MASKS[c] ? upper : c;
+        }
+    }
+
+    private LetterFolding() {
+    }
+
+    /**
+     * Retourne les lettres de base représentées par un caractère.
+     *
+     * @param c le caractère
+     * @return le masque des lettres de base (bit 0 = 'A'), 0 si ce n'est
+     *         pas une lettre de la table
+     */
+    public static int letterMask(char c) {
+        return c < TABLE_SIZE ? MASKS[c] : 0;
+    }
+
+    /**
+     * Retourne le bit de la lettre de base d'un caractère, pour une
+     * proposition : une ligature, qui représente deux lettres, n'en a pas.
+     *
+     * @param c le caractère (insensible à la casse et aux accents)
+     * @return le bit de la lettre de base, ou 0
+     */
+    public static int letterBit(char c) {
+        int mask = letterMask(c);
+        return (mask & (mask - 1)) == 0 ? mask : 0;
+    }
+
+    /**
+     * @param c le caractère (insensible à la casse et aux accents)
+     * @return la lettre de base 'A'-'Z', ou 0 si le caractère n'en a pas une seule
+     */
+    public static char baseLetter(char c) {
+        int bit = letterBit(c);
+        return bit == 0 ? 0 : (char) ('A' + Integer.numberOfTrailingZeros(bit));
+    }
+
+    /**
+     * Met un caractère en majuscule, accents conservés. Contrairement à
+     * {@link String#toUpperCase()}, ne dépend pas de la locale et ne change
+     * jamais le nombre de caractères (ß reste ß).
+     *
+     * @param c le caractère
+     * @return sa majuscule, ou le caractère lui-même
+     */
+    public static char toUpperCase(char c) {
+        return c < TABLE_SIZE ? UPPER[c] : c;
+    }
+
+    /**
+     * Met un mot en majuscules, caractère par caractère (voir {@link #toUpperCase(char)}).
+     *
+     * @param word le mot
+     * @return le mot en majuscules, de même longueur (le mot lui-même s'il
+     *         est déjà en majuscules)
+     */
+    public static String toUpperCase(String word) {
+        int i = 0;
+        while (i < word.length() && toUpperCase(word.charAt(i)) == word.charAt(i)) {
+            i++;
+        }
+        if (i == word.length()) {
+            return word;
+        }
+        char[] upper = word.toCharArray();
+        for (; i < upper.length; i++) {
+            upper[i] = toUpperCase(upper[i]);
+        }
+        return new String(upper);
+    }
+
+    /**
+     * @param word un mot
+     * @return true si le mot est non vide et ne contient que des lettres de la table
+     */
+    public static boolean isWord(CharSequence word) {
+        if (word.length() == 0) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (letterMask(word.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
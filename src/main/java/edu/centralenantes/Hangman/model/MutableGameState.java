@@ -0,0 +1,192 @@
+package edu.centralenantes.Hangman.model;
+
+/**
+ * Variante modifiable de {@link GameState}, pour les simulations.
+ *
+ * Mêmes règles, mêmes transitions de {@link GameState.Status} : seule la
+ * forme change. Une proposition modifie l'instance au lieu d'en créer une
+ * nouvelle, et {@link #reset} démarre une autre partie dans la même
+ * instance ; un thread de simulation peut ainsi jouer des millions de
+ * parties sans allouer d'état.
+ *
+ * Une instance n'est pas thread-safe. La conversion vers et depuis la
+ * forme immuable ({@link #toGameState()}, {@link #copyFrom}) recopie les
+ * masques sans relire le mot.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class MutableGameState {
+
+    private String secretWord;
+    private int secretMask;
+    private int proposedMask;
+    private int remainingErrors;
+    private int maxErrors;
+    private GameState.Status status;
+
+    /**
+     * Commence une partie (voir {@link #reset}).
+     *
+     * @param secretWord le mot à deviner (mêmes règles que {@link GameState})
+     * @param maxErrors le nombre maximal d'erreurs autorisées
+     * @throws IllegalArgumentException si le mot est invalide ou maxErrors <= 0
+     */
+    public MutableGameState(String secretWord, int maxErrors) {
+        reset(secretWord, maxErrors);
+    }
+
+    /**
+     * Copie un état immuable.
+     *
+     * @param state l'état à copier
+     */
+    public MutableGameState(GameState state) {
+        copyFrom(state);
+    }
+
+    /**
+     * Démarre une nouvelle partie dans cette instance. Si le mot est
+     * invalide, l'instance n'est pas modifiée.
+     *
+     * @param secretWord le mot à deviner
+     * @param maxErrors le nombre maximal d'erreurs autorisées
+     * @throws IllegalArgumentException si le mot est invalide ou maxErrors <= 0
+     */
+    public void reset(String secretWord, int maxErrors) {
+        int mask = GameState.validate(secretWord, maxErrors);
+        this.secretWord = LetterFolding.toUpperCase(secretWord);
+        this.secretMask = mask;
+        this.proposedMask = 0;
+        this.remainingErrors = maxErrors;
+        this.maxErrors = maxErrors;
+        this.status = GameState.Status.IN_PROGRESS;
+    }
+
+    /**
+     * Remplace le contenu de cette instance par celui d'un état immuable.
+     *
+     * @param state l'état à copier
+     */
+    public void copyFrom(GameState state) {
+        this.secretWord = state.getSecretWord();
+        this.secretMask = state.getSecretMask();
+        this.proposedMask = state.getProposedMask();
+        this.remainingErrors = state.getRemainingErrors();
+        this.maxErrors = state.getMaxErrors();
+        this.status = state.getStatus();
+    }
+
+    /**
+     * @return un état immuable identique à cette instance
+     */
+    public GameState toGameState() {
+        return GameState.of(secretWord, secretMask, proposedMask, remainingErrors, maxErrors, status);
+    }
+
+    /**
+     * Propose une lettre (mêmes règles que {@link GameState#proposeLettre}).
+     *
+     * @param letter la lettre proposée (insensible à la casse et aux accents)
+     * @return true si la lettre est dans le mot
+     * @throws IllegalStateException si la partie est terminée
+     * @throws IllegalArgumentException si le caractère n'a pas de lettre de base A-Z
+     */
+    public boolean proposeLettre(char letter) {
+        if (status != GameState.Status.IN_PROGRESS) {
+            throw new IllegalStateException("La partie est terminée");
+        }
+
+        int bit = GameState.letterBit(letter);
+        if (bit == 0) {
+            throw new IllegalArgumentException("Caractère invalide : " + letter);
+        }
+
+        boolean isCorrect = (secretMask & bit) != 0;
+        // Lettre déjà proposée : pas de changement d'état
+        if ((proposedMask & bit) != 0) {
+            return isCorrect;
+        }
+
+        proposedMask |= bit;
+        if (!isCorrect) {
+            remainingErrors--;
+        }
+        status = GameState.statusOf(secretMask, proposedMask, remainingErrors);
+        return isCorrect;
+    }
+
+    /**
+     * Retourne le caractère visible à une position du mot.
+     *
+     * @param position la position dans le mot secret
+     * @return la lettre si elle a été révélée, '_' sinon
+     * @throws IndexOutOfBoundsException si la position est invalide
+     */
+    public char getRevealedChar(int position) {
+        char c = secretWord.charAt(position);
+        int letters = LetterFolding.letterMask(c);
+        return (proposedMask & letters) == letters ? c : '_';
+    }
+
+    /**
+     * Construit le mot masqué (non conservé : à éviter dans une boucle de simulation).
+     *
+     * @return le mot masqué, lettres séparées par des espaces (ex. "J _ _ _")
+     */
+    public String getMaskedWord() {
+        int length = secretWord.length();
+        char[] masked = new char[2 * length - 1];
+        for (int i = 0; i < length; i++) {
+            masked[2 * i] = getRevealedChar(i);
+            if (i > 0) {
+                masked[2 * i - 1] = ' ';
+            }
+        }
+        return new String(masked);
+    }
+
+    /**
+     * @param letter la lettre (insensible à la casse et aux accents)
+     * @return true si la lettre a déjà été proposée
+     */
+    public boolean isLetterProposed(char letter) {
+        return (proposedMask & GameState.letterBit(letter)) != 0;
+    }
+
+    // Getters
+
+    public String getSecretWord() {
+        return secretWord;
+    }
+
+    /**
+     * @return le masque des lettres proposées (bit 0 = 'A')
+     */
+    public int getProposedMask() {
+        return proposedMask;
+    }
+
+    /**
+     * @return le masque des lettres du mot secret (bit 0 = 'A')
+     */
+    public int getSecretMask() {
+        return secretMask;
+    }
+
+    public int getRemainingErrors() {
+        return remainingErrors;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public GameState.Status getStatus() {
+        return status;
+    }
+
+    public int getErrorCount() {
+        return maxErrors - remainingErrors;
+    }
+}
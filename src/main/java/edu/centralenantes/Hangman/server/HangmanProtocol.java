@@ -0,0 +1,148 @@
+package edu.centralenantes.Hangman.server;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.engine.GameSessionManager;
+import edu.centralenantes.Hangman.engine.GuessResult;
+import edu.centralenantes.Hangman.model.GameState;
+import java.util.Locale;
+
+/**
+ * Protocole texte du serveur de pendu : une commande par ligne, une ligne
+ * de réponse par commande.
+ *
+ * Commandes :
+ * - NEW [maxErrors] : nouvelle partie avec un mot du dictionnaire
+ * - GUESS lettre : propose une lettre
+ * - STATE : état de la partie en cours
+ * - QUIT : fin de la connexion
+ *
+ * Réponses : {@code OK|HIT|MISS|REPEAT <état>}, {@code BYE} ou
+ * {@code ERR <message>}, où l'état s'écrit
+ * {@code <mot masqué> <restantes>/<max> <statut> <lettres proposées>}
+ * suivi du mot secret quand la partie est terminée (ex.
+ * {@code HIT _A_A 6/6 IN_PROGRESS A}).
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+final class HangmanProtocol {
+
+    /** Nombre d'erreurs par défaut d'une partie. */
+    static final int DEFAULT_MAX_ERRORS = 6;
+
+    private final Dictionary dictionary;
+    private final GameSessionManager sessions;
+
+    /**
+     * @param dictionary le dictionnaire partagé, en lecture seule
+     * @param sessions les parties en cours, une session par connexion
+     */
+    HangmanProtocol(Dictionary dictionary, GameSessionManager sessions) {
+        this.dictionary = dictionary;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Exécute une commande et ajoute sa réponse (terminée par '\n').
+     *
+     * @param sessionId la session de la connexion
+     * @param line la ligne reçue, sans fin de ligne
+     * @param reply le tampon de réponse
+     * @return false si la connexion doit être fermée
+     */
+    boolean handle(long sessionId, String line, StringBuilder reply) {
+        String command = line.trim();
+        int space = command.indexOf(' ');
+        String verb = (space < 0 ? command : command.substring(0, space)).toUpperCase(Locale.ROOT);
+        String argument = space < 0 ? "" : command.substring(space + 1).trim();
+
+        try {
+            switch (verb) {
+                case "NEW":
+                    newGame(sessionId, argument, reply);
+                    break;
+                case "GUESS":
+                    guess(sessionId, argument, reply);
+                    break;
+                case "STATE":
+                    GameState state = currentState(sessionId);
+                    appendState(reply.append("OK "), state);
+                    break;
+                case "QUIT":
+                    reply.append("BYE\n");
+                    return false;
+                default:
+                    reply.append("ERR Commande inconnue : ").append(verb).append('\n');
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reply.append("ERR ").append(e.getMessage()).append('\n');
+        }
+        return true;
+    }
+
+    /**
+     * Libère la session d'une connexion fermée.
+     *
+     * @param sessionId la session de la connexion
+     */
+    void disconnect(long sessionId) {
+        sessions.endSession(sessionId);
+    }
+
+    private void newGame(long sessionId, String argument, StringBuilder reply) {
+        int maxErrors = DEFAULT_MAX_ERRORS;
+        if (!argument.isEmpty()) {
+            try {
+                maxErrors = Integer.parseInt(argument);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Nombre d'erreurs invalide : " + argument);
+            }
+            if (maxErrors <= 0 || maxErrors > 26) {
+                throw new IllegalArgumentException("Le nombre d'erreurs doit être entre 1 et 26");
+            }
+        }
+
+        // Tout mot chargé est jouable, et le nombre d'erreurs vient d'être vérifié
+        sessions.startNewGame(sessionId, dictionary.getRandomWord(), maxErrors);
+        appendState(reply.append("OK "), sessions.getState(sessionId));
+    }
+
+    private void guess(long sessionId, String argument, StringBuilder reply) {
+        if (argument.length() != 1) {
+            throw new IllegalArgumentException("Entrez une seule lettre");
+        }
+        currentState(sessionId);
+        GuessResult result = sessions.guessLetter(sessionId, argument.charAt(0));
+        String tag = result.isAlreadyProposed() ? "REPEAT " : result.isCorrect() ? "HIT " : "MISS ";
+        appendState(reply.append(tag), result.getState());
+    }
+
+    private GameState currentState(long sessionId) {
+        if (!sessions.hasSession(sessionId)) {
+            throw new IllegalStateException("Aucune partie en cours, envoyez NEW");
+        }
+        return sessions.getState(sessionId);
+    }
+
+    private static void appendState(StringBuilder reply, GameState state) {
+        int length = state.getSecretWord().length();
+        for (int i = 0; i < length; i++) {
+            reply.append(state.getRevealedChar(i));
+        }
+        reply.append(' ').append(state.getRemainingErrors())
+             .append('/').append(state.getMaxErrors())
+             .append(' ').append(state.getStatus()).append(' ');
+
+        int proposed = state.getProposedMask();
+        if (proposed == 0) {
+            reply.append('-');
+        }
+        for (int bits = proposed; bits != 0; bits &= bits - 1) {
+            reply.append((char) ('A' + Integer.numberOfTrailingZeros(bits)));
+        }
+        if (state.getStatus() != GameState.Status.IN_PROGRESS) {
+            reply.append(' ').append(state.getSecretWord());
+        }
+        reply.append('\n');
+    }
+}
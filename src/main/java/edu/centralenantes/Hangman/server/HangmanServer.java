@@ -0,0 +1,303 @@
+package edu.centralenantes.Hangman.server;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.engine.GameSessionManager;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Serveur TCP du pendu, protocole ligne à ligne ({@link HangmanProtocol}).
+ *
+ * Un seul thread fait tourner une boucle {@link Selector} non bloquante :
+ * une connexion ne coûte qu'un tampon de lecture de {@value #MAX_LINE}
+ * octets et une session dans le {@link GameSessionManager}, ce qui permet
+ * de tenir des dizaines de milliers de joueurs simultanés. Les réponses
+ * d'une lecture sont regroupées puis envoyées en une seule écriture ;
+ * tant qu'une réponse n'est pas entièrement partie, la connexion n'est
+ * plus lue. Le dictionnaire est chargé une fois et partagé en lecture.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public class HangmanServer implements Closeable {
+
+    /** Longueur maximale d'une ligne de commande, en octets. */
+    private static final int MAX_LINE = 256;
+
+    /** État d'une connexion, attaché à sa clé de sélection. */
+    private static final class Connection {
+        private final long sessionId;
+        private final ByteBuffer input = ByteBuffer.allocate(MAX_LINE);
+        /** Octets de réponse en attente d'écriture (mode remplissage), ou null. */
+        private ByteBuffer pending;
+        private boolean closing;
+
+        private Connection(long sessionId) {
+            this.sessionId = sessionId;
+        }
+    }
+
+    private final HangmanProtocol protocol;
+    private final GameSessionManager sessions = new GameSessionManager();
+
+    // Tampons partagés, utilisés uniquement par le thread de la boucle
+    private final StringBuilder reply = new StringBuilder(256);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer scratch = ByteBuffer.allocateDirect(4096);
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread loopThread;
+    private long nextSessionId;
+    private volatile boolean running;
+    private volatile int connectionCount;
+
+    /**
+     * @param dictionary le dictionnaire chargé, partagé par toutes les connexions
+     * @throws IllegalArgumentException si le dictionnaire est vide
+     */
+    public HangmanServer(Dictionary dictionary) {
+        if (dictionary.isEmpty()) {
+            throw new IllegalArgumentException("Le dictionnaire est vide");
+        }
+        this.protocol = new HangmanProtocol(dictionary, sessions);
+    }
+
+    /**
+     * Ouvre le port d'écoute et démarre la boucle de service.
+     *
+     * @param port le port TCP (0 pour un port libre quelconque)
+     * @throws IOException si le port ne peut pas être ouvert
+     * @throws IllegalStateException si le serveur est déjà démarré
+     */
+    public synchronized void start(int port) throws IOException {
+        if (running) {
+            throw new IllegalStateException("Le serveur est déjà démarré");
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        loopThread = new Thread(this::loop, "hangman-server");
+        loopThread.start();
+    }
+
+    /**
+     * @return le port d'écoute effectif
+     * @throws IllegalStateException si le serveur n'est pas démarré
+     */
+    public int getPort() {
+        if (serverChannel == null) {
+            throw new IllegalStateException("Le serveur n'est pas démarré");
+        }
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * @return le nombre de connexions ouvertes
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * Arrête la boucle et ferme toutes les connexions.
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            loopThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void loop() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isValid() && key.isAcceptable()) {
+                            accept();
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            read(key);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            write(key);
+                        }
+                    } catch (IOException e) {
+                        disconnect(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Erreur du serveur : " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() != null) {
+                    disconnect(key);
+                }
+            }
+            closeQuietly(serverChannel);
+            closeQuietly(selector);
+            running = false;
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        channel.register(selector, SelectionKey.OP_READ, new Connection(++nextSessionId));
+        connectionCount++;
+    }
+
+    /**
+     * Lit ce qui est disponible, exécute chaque ligne complète et renvoie
+     * toutes les réponses d'un coup.
+     */
+    private void read(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer input = connection.input;
+        if (((SocketChannel) key.channel()).read(input) < 0) {
+            disconnect(key);
+            return;
+        }
+
+        byte[] data = input.array();
+        int end = input.position();
+        int start = 0;
+        for (int i = 0; i < end && !connection.closing; i++) {
+            if (data[i] == '\n') {
+                int lineEnd = i > start && data[i - 1] == '\r' ? i - 1 : i;
+                String line = new String(data, start, lineEnd - start, StandardCharsets.UTF_8);
+                connection.closing = !protocol.handle(connection.sessionId, line, reply);
+                start = i + 1;
+            }
+        }
+
+        if (connection.closing) {
+            input.clear();
+        } else {
+            // Garde la ligne incomplète en tête du tampon
+            input.limit(end).position(start);
+            input.compact();
+            if (!input.hasRemaining()) {
+                reply.append("ERR Ligne trop longue\n");
+                connection.closing = true;
+            }
+        }
+        send(key, connection);
+    }
+
+    private void send(SelectionKey key, Connection connection) throws IOException {
+        if (reply.length() > 0) {
+            ByteBuffer bytes = encodeReply();
+            if (connection.pending == null) {
+                ((SocketChannel) key.channel()).write(bytes);
+            }
+            if (bytes.hasRemaining()) {
+                connection.pending = append(connection.pending, bytes);
+                key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+        }
+        if (connection.closing && connection.pending == null) {
+            disconnect(key);
+        }
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer pending = connection.pending;
+        pending.flip();
+        ((SocketChannel) key.channel()).write(pending);
+        pending.compact();
+        if (pending.position() == 0) {
+            connection.pending = null;
+            if (connection.closing) {
+                disconnect(key);
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+    }
+
+    /**
+     * Encode les réponses accumulées dans le tampon direct partagé.
+     */
+    private ByteBuffer encodeReply() {
+        int needed = reply.length() * 3;
+        if (scratch.capacity() < needed) {
+            scratch = ByteBuffer.allocateDirect(Math.max(needed, scratch.capacity() * 2));
+        }
+        scratch.clear();
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(reply), scratch, true);
+        encoder.flush(scratch);
+        scratch.flip();
+        reply.setLength(0);
+        return scratch;
+    }
+
+    private static ByteBuffer append(ByteBuffer pending, ByteBuffer bytes) {
+        if (pending == null) {
+            pending = ByteBuffer.allocate(Math.max(bytes.remaining(), MAX_LINE));
+        } else if (pending.remaining() < bytes.remaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(
+                    Math.max(pending.capacity() * 2, pending.position() + bytes.remaining()));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+        return pending.put(bytes);
+    }
+
+    private void disconnect(SelectionKey key) {
+        Connection connection = (Connection) key.attachment();
+        key.attach(null);
+        key.cancel();
+        closeQuietly(key.channel());
+        if (connection != null) {
+            protocol.disconnect(connection.sessionId);
+            connectionCount--;
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            if (closeable != null) {
+                closeable.close();
+            }
+        } catch (IOException e) {
+            // Fermeture au mieux
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package edu.centralenantes.Hangman.simulation;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.data.DictionarySnapshot;
+import edu.centralenantes.Hangman.engine.HangmanSolver;
+import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.MutableGameState;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulation non interactive de parties jouées par le {@link HangmanSolver}.
+ *
+ * Les parties sont réparties sur un pool fork-join (vol de tâches) : la
+ * plage [0, N) est coupée en deux jusqu'à des blocs de {@value #BLOCK_SIZE}
+ * parties. Chaque bloc tire ses mots avec son propre générateur, dérivé de
+ * la graine et de la position du bloc : le résultat ne dépend que de la
+ * graine, pas du nombre de threads. Rien n'est écrit pendant la simulation.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public class BatchSimulator {
+
+    /** Nombre de parties jouées séquentiellement par une tâche. */
+    static final int BLOCK_SIZE = 4096;
+
+    private final DictionarySnapshot dictionary;
+    private final HangmanSolver solver;
+    private final int maxErrors;
+
+    /**
+     * @param dictionary le dictionnaire chargé ; les mots sont tirés dans son contenu courant
+     * @param solver le solveur (partagé entre les threads)
+     * @param maxErrors le nombre maximal d'erreurs par partie
+     * @throws IllegalArgumentException si maxErrors &lt;= 0 ou si le dictionnaire est vide
+     */
+    public BatchSimulator(Dictionary dictionary, HangmanSolver solver, int maxErrors) {
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("Le nombre d'erreurs doit être positif");
+        }
+        DictionarySnapshot snapshot = dictionary.snapshot();
+        if (snapshot.isEmpty()) {
+            throw new IllegalArgumentException("Le dictionnaire est vide");
+        }
+        this.dictionary = snapshot;
+        this.solver = solver;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Joue un lot de parties.
+     *
+     * @param games le nombre de parties
+     * @param threads le nombre de threads
+     * @param seed la graine (même graine = mêmes mots = même bilan)
+     * @return le bilan agrégé
+     * @throws IllegalArgumentException si games &lt; 0 ou threads &lt;= 0
+     */
+    public SimulationReport run(long games, int threads, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Le nombre de parties doit être positif");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads doit être positif");
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        try {
+            Tally tally = pool.invoke(new Block(0, games, seed));
+            return new SimulationReport(tally.wins, tally.losses, tally.skipped,
+                                        tally.histogram, System.nanoTime() - start, threads);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Compteurs d'un ensemble de parties. */
+    private final class Tally {
+        private long wins;
+        private long losses;
+        private long skipped;
+        private final long[] histogram = new long[maxErrors + 1];
+
+        private Tally add(Tally other) {
+            wins += other.wins;
+            losses += other.losses;
+            skipped += other.skipped;
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other.histogram[i];
+            }
+            return this;
+        }
+    }
+
+    /** Parties d'indices [from, to). */
+    private final class Block extends RecursiveTask<Tally> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final long seed;
+
+        private Block(long from, long to, long seed) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from > BLOCK_SIZE) {
+                long middle = from + (to - from) / 2;
+                Block left = new Block(from, middle, seed);
+                left.fork();
+                Tally right = new Block(middle, to, seed).compute();
+                return right.add(left.join());
+            }
+
+            Tally tally = new Tally();
+            SplittableRandom random = new SplittableRandom(seed ^ (from * 0x9E3779B97F4A7C15L));
+            int words = dictionary.getWordCount();
+            // Un seul état par bloc, réinitialisé à chaque partie
+            MutableGameState state = null;
+            for (long game = from; game < to; game++) {
+                String word = dictionary.getWord(random.nextInt(words));
+                try {
+                    if (state == null) {
+                        state = new MutableGameState(word, maxErrors);
+                    } else {
+                        state.reset(word, maxErrors);
+                    }
+                } catch (IllegalArgumentException e) {
+                    tally.skipped++;
+                    continue;
+                }
+                solver.solve(state);
+                if (state.getStatus() == GameState.Status.WON) {
+                    tally.wins++;
+                } else {
+                    tally.losses++;
+                }
+                tally.histogram[state.getErrorCount()]++;
+            }
+            return tally;
+        }
+    }
+}
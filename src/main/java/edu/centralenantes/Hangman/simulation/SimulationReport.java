@@ -0,0 +1,117 @@
+package edu.centralenantes.Hangman.simulation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Bilan agrégé d'une simulation de parties.
+ *
+ * @author MEDEV 2026
+ * @version 1.0
+ */
+public final class SimulationReport {
+
+    private final long wins;
+    private final long losses;
+    private final long skipped;
+    private final long[] errorHistogram;
+    private final long elapsedNanos;
+    private final int threads;
+
+    /**
+     * @param wins parties gagnées
+     * @param losses parties perdues
+     * @param skipped tirages ignorés (mot non jouable)
+     * @param errorHistogram nombre de parties par nombre d'erreurs commises
+     * @param elapsedNanos durée de la simulation
+     * @param threads nombre de threads utilisés
+     */
+    SimulationReport(long wins, long losses, long skipped, long[] errorHistogram,
+                     long elapsedNanos, int threads) {
+        this.wins = wins;
+        this.losses = losses;
+        this.skipped = skipped;
+        this.errorHistogram = errorHistogram.clone();
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    /**
+     * @return le nombre de parties jouées
+     */
+    public long getGames() {
+        return wins + losses;
+    }
+
+    /**
+     * @return le nombre de parties gagnées
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * @return le nombre de parties perdues
+     */
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * @return le nombre de tirages ignorés (mot non jouable)
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * @return le taux de victoire, entre 0 et 1
+     */
+    public double getWinRate() {
+        return getGames() == 0 ? 0 : (double) wins / getGames();
+    }
+
+    /**
+     * @return une copie de l'histogramme : indice = nombre d'erreurs commises
+     */
+    public long[] getErrorHistogram() {
+        return errorHistogram.clone();
+    }
+
+    /**
+     * @return le nombre de parties jouées par seconde
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Formate le bilan pour la console.
+     * @return le bilan
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT,
+                "Parties jouées    : %d (%d threads, %.2f s)%n",
+                getGames(), threads, elapsedNanos / 1e9));
+        text.append(String.format(Locale.ROOT,
+                "Taux de victoire  : %.2f %% (%d gagnées, %d perdues)%n",
+                100 * getWinRate(), wins, losses));
+        if (skipped > 0) {
+            text.append("Mots ignorés      : ").append(skipped).append(" (non jouables)\n");
+        }
+        text.append(String.format(Locale.ROOT,
+                "Débit             : %.0f parties/s%n", getGamesPerSecond()));
+        text.append("Erreurs par partie :\n");
+        long max = Arrays.stream(errorHistogram).max().orElse(0);
+        for (int errors = 0; errors < errorHistogram.length; errors++) {
+            long count = errorHistogram[errors];
+            int bar = max == 0 ? 0 : (int) (40 * count / max);
+            text.append(String.format(Locale.ROOT, "  %2d : %10d  %6.2f %%  %s%n",
+                    errors, count, getGames() == 0 ? 0.0 : 100.0 * count / getGames(),
+                    "#".repeat(bar)));
+        }
+        return text.toString();
+    }
+}
@@ -9,57 +9,103 @@ package edu.centralenantes.Hangman.ui;
  * @author dodi
  */
 import edu.centralenantes.Hangman.engine.GameEngine;
+import edu.centralenantes.Hangman.metrics.HangmanMetrics;
 import edu.centralenantes.Hangman.model.GameState;
+import edu.centralenantes.Hangman.model.LetterFolding;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.util.Scanner;
-import java.util.Set;
 
 /**
  * Interface console pour le jeu du pendu.
  * Gère uniquement les entrées/sorties, pas la logique métier.
  * 
+ * Les affichages sont composés dans un tampon réutilisé, qui n'est envoyé
+ * à la sortie (une écriture, un flush) qu'avant d'attendre une saisie : un
+ * tour de jeu (résultat du coup précédent, état, invite) coûte ainsi une
+ * seule écriture.
+ * 
  * @author MEDEV 2026
  * @version 1.0
  */
 public class ConsoleUI {
     
+    /** « Effacement » de l'écran en mode 2 joueurs. */
+    private static final String CLEAR_SCREEN = "\n".repeat(50);
+    
     private final Scanner scanner;
     private final GameEngine engine;
+    private final OutputStream out;
+    private final CharsetEncoder encoder;
+    private final StringBuilder screen = new StringBuilder(512);
+    private ByteBuffer bytes = ByteBuffer.allocate(2048);
     private HangmanDrawer drawer;
+    /** Début de composition de l'écran de jeu en attente, -1 s'il n'y en a pas. */
+    private long renderStart = -1;
     
     /**
      *
      * @param engine
      */
     public ConsoleUI(GameEngine engine) {
-        this.scanner = new Scanner(System.in);
+        this(engine, System.in, System.out, Charset.defaultCharset());
+    }
+    
+    /**
+     * Constructeur avec entrée et sortie paramétrables.
+     * 
+     * @param engine le moteur de jeu
+     * @param in l'entrée lue ligne par ligne
+     * @param out la sortie recevant un bloc d'octets par écran
+     * @param charset l'encodage de l'entrée et de la sortie
+     */
+    public ConsoleUI(GameEngine engine, InputStream in, OutputStream out, Charset charset) {
+        this.scanner = new Scanner(in, charset);
         this.engine = engine;
+        this.out = out;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
     }
     
     /**
      * Affiche le titre du jeu.
      */
     public void displayTitle() {
-        System.out.println("\n╔═══════════════════════════════╗");
-        System.out.println("║     JEU DU PENDU - MEDEV      ║");
-        System.out.println("╚═══════════════════════════════╝\n");
+        screen.append("\n╔═══════════════════════════════╗\n")
+              .append("║     JEU DU PENDU - MEDEV      ║\n")
+              .append("╚═══════════════════════════════╝\n\n");
+        // Le menu qui suit lit l'entrée sans passer par cette console
+        writeScreen();
     }
     
     /**
      * Affiche l'état actuel du jeu.
      */
     public void displayGameState() {
+        startRender();
         GameState state = engine.getCurrentState();
         
-        System.out.println("\n" + drawer.draw(state.getErrorCount()));
-        System.out.println("\nMot à deviner : " + state.getMaskedWord());
-        System.out.println("Erreurs restantes : " + state.getRemainingErrors() + 
-                          "/" + state.getMaxErrors());
+        screen.append('\n').append(drawer.draw(state.getErrorCount())).append('\n')
+              .append("\nMot à deviner : ").append(state.getMaskedWord()).append('\n')
+              .append("Erreurs restantes : ").append(state.getRemainingErrors())
+              .append('/').append(state.getMaxErrors()).append('\n');
         
-        Set<Character> proposed = state.getProposedLetters();
-        if (!proposed.isEmpty()) {
-            System.out.print("Lettres proposées : ");
-            proposed.stream().sorted().forEach(c -> System.out.print(c + " "));
-            System.out.println();
+        int proposed = state.getProposedMask();
+        if (proposed != 0) {
+            screen.append("Lettres proposées : ");
+            // Parcours du masque : les lettres sortent déjà triées
+            for (int bits = proposed; bits != 0; bits &= bits - 1) {
+                screen.append((char) ('A' + Integer.numberOfTrailingZeros(bits))).append(' ');
+            }
+            screen.append('\n');
         }
     }
     
@@ -70,23 +116,22 @@ public class ConsoleUI {
      */
     public char askForLetter() {
         while (true) {
-            System.out.print("\nProposez une lettre : ");
-            String input = scanner.nextLine().trim();
+            String input = prompt("\nProposez une lettre : ").trim();
             
             if (input.isEmpty()) {
-                System.out.println("⚠ Vous devez entrer une lettre.");
+                println("⚠ Vous devez entrer une lettre.");
                 continue;
             }
             
             if (input.length() > 1) {
-                System.out.println("⚠ Entrez une seule lettre.");
+                println("⚠ Entrez une seule lettre.");
                 continue;
             }
             
             char letter = input.charAt(0);
             
-            if (!Character.isLetter(letter)) {
-                System.out.println("⚠ Caractère invalide. Entrez une lettre.");
+            if (GameState.letterBit(letter) == 0) {
+                println("⚠ Caractère invalide. Entrez une lettre (A-Z, accents acceptés).");
                 continue;
             }
             
@@ -95,19 +140,19 @@ public class ConsoleUI {
     }
     
     /**
-     * Affiche le résultat d'une proposition.
+     * Affiche le résultat d'une proposition, en tête de l'écran suivant.
      * @param letter
      * @param isCorrect
      * @param wasAlreadyProposed
      */
     public void displayGuessResult(char letter, boolean isCorrect, boolean wasAlreadyProposed) {
         if (wasAlreadyProposed) {
-            System.out.println("ℹ Vous avez déjà proposé la lettre '" + 
-                             Character.toUpperCase(letter) + "'");
+            println("ℹ Vous avez déjà proposé la lettre '" + 
+                    Character.toUpperCase(letter) + "'");
         } else if (isCorrect) {
-            System.out.println("✓ Bonne lettre !");
+            println("✓ Bonne lettre !");
         } else {
-            System.out.println("✗ Mauvaise lettre...");
+            println("✗ Mauvaise lettre...");
         }
     }
     
@@ -115,21 +160,22 @@ public class ConsoleUI {
      * Affiche le message de fin de partie.
      */
     public void displayEndGame() {
+        startRender();
         GameState state = engine.getCurrentState();
         
-        System.out.println("\n" + drawer.draw(state.getErrorCount()));
+        screen.append('\n').append(drawer.draw(state.getErrorCount())).append('\n');
         
         if (engine.hasWon()) {
-            System.out.println("\n╔═══════════════════════════════╗");
-            System.out.println("║       🎉 VICTOIRE ! 🎉        ║");
-            System.out.println("╚═══════════════════════════════╝");
-            System.out.println("\nFélicitations ! Vous avez trouvé le mot : " + 
-                             state.getSecretWord());
+            screen.append("\n╔═══════════════════════════════╗\n")
+                  .append("║       🎉 VICTOIRE ! 🎉        ║\n")
+                  .append("╚═══════════════════════════════╝\n")
+                  .append("\nFélicitations ! Vous avez trouvé le mot : ")
+                  .append(state.getSecretWord()).append('\n');
         } else {
-            System.out.println("\n╔═══════════════════════════════╗");
-            System.out.println("║         💀 DÉFAITE 💀         ║");
-            System.out.println("╚═══════════════════════════════╝");
-            System.out.println("\nLe mot était : " + state.getSecretWord());
+            screen.append("\n╔═══════════════════════════════╗\n")
+                  .append("║         💀 DÉFAITE 💀         ║\n")
+                  .append("╚═══════════════════════════════╝\n")
+                  .append("\nLe mot était : ").append(state.getSecretWord()).append('\n');
         }
     }
     
@@ -138,8 +184,7 @@ public class ConsoleUI {
      * @return
      */
     public boolean askPlayAgain() {
-        System.out.print("\nVoulez-vous rejouer ? (o/n) : ");
-        String input = scanner.nextLine().trim().toLowerCase();
+        String input = prompt("\nVoulez-vous rejouer ? (o/n) : ").trim().toLowerCase();
         return input.equals("o") || input.equals("oui") || input.equals("y") || input.equals("yes");
     }
     
@@ -149,25 +194,20 @@ public class ConsoleUI {
      */
     public String askForSecretWord() {
         while (true) {
-            System.out.print("\nJoueur 1, entrez le mot secret : ");
-            String word = scanner.nextLine().trim();
+            String word = prompt("\nJoueur 1, entrez le mot secret : ").trim();
             
             if (word.isEmpty()) {
-                System.out.println("⚠ Le mot ne peut pas être vide.");
+                println("⚠ Le mot ne peut pas être vide.");
                 continue;
             }
             
-            if (!word.matches("[a-zA-Z]+")) {
-                System.out.println("⚠ Le mot doit contenir uniquement des lettres.");
+            if (!LetterFolding.isWord(word)) {
+                println("⚠ Le mot doit contenir uniquement des lettres.");
                 continue;
             }
             
             // Effacer l'écran (simulation)
-            for (int i = 0; i < 50; i++) {
-                System.out.println();
-            }
-            
-            System.out.println("✓ Mot secret enregistré !");
+            screen.append(CLEAR_SCREEN).append("✓ Mot secret enregistré !\n");
             return word;
         }
     }
@@ -178,22 +218,21 @@ public class ConsoleUI {
      */
     public int askForMaxErrors() {
         while (true) {
-            System.out.print("Nombre d'erreurs autorisées (6 ou 7 recommandé) : ");
-            String input = scanner.nextLine().trim();
+            String input = prompt("Nombre d'erreurs autorisées (6 ou 7 recommandé) : ").trim();
             
             try {
                 int maxErrors = Integer.parseInt(input);
                 if (maxErrors <= 0) {
-                    System.out.println("⚠ Le nombre doit être positif.");
+                    println("⚠ Le nombre doit être positif.");
                     continue;
                 }
                 if (maxErrors > 10) {
-                    System.out.println("⚠ Maximum recommandé : 10");
+                    println("⚠ Maximum recommandé : 10");
                     continue;
                 }
                 return maxErrors;
             } catch (NumberFormatException e) {
-                System.out.println("⚠ Entrez un nombre valide.");
+                println("⚠ Entrez un nombre valide.");
             }
         }
     }
@@ -207,10 +246,61 @@ public class ConsoleUI {
     }
     
     /**
-     * Ferme le scanner.
+     * Envoie l'affichage en attente puis ferme le scanner.
      */
     public void close() {
+        if (screen.length() > 0) {
+            writeScreen();
+        }
         scanner.close();
     }
+    
+    /**
+     * Ajoute l'invite à l'affichage en attente, l'envoie, puis lit une ligne.
+     */
+    private String prompt(String text) {
+        screen.append(text);
+        writeScreen();
+        return scanner.nextLine();
+    }
+    
+    // Ligne envoyée avec la prochaine invite
+    private void println(String text) {
+        screen.append(text).append('\n');
+    }
+    
+    private void startRender() {
+        if (renderStart < 0) {
+            renderStart = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Encode l'affichage en attente dans le tampon d'octets réutilisé puis
+     * l'envoie en une écriture et un flush. Un écran de jeu (état ou fin de
+     * partie) compte pour un affichage dans les métriques, de sa
+     * composition à son envoi.
+     */
+    private void writeScreen() {
+        int needed = (int) Math.ceil(screen.length() * (double) encoder.maxBytesPerChar());
+        if (bytes.capacity() < needed) {
+            bytes = ByteBuffer.allocate(Math.max(needed, bytes.capacity() * 2));
+        }
+        bytes.clear();
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(screen), bytes, true);
+        encoder.flush(bytes);
+        screen.setLength(0);
+        try {
+            out.write(bytes.array(), 0, bytes.position());
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture impossible sur la console", e);
+        }
+        if (renderStart >= 0) {
+            HangmanMetrics.global().screenRendered(System.nanoTime() - renderStart);
+            renderStart = -1;
+        }
+    }
 }
 
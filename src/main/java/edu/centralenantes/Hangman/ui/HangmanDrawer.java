@@ -4,23 +4,96 @@
  */
 package edu.centralenantes.Hangman.ui;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 /**
  * Gère l'affichage ASCII du pendu.
  * 
+ * Le dessin est composé de parties (potence puis bonhomme) ajoutées une à
+ * une au fil des erreurs, de sorte que chaque nombre d'erreurs de 1 à 10
+ * ait sa propre suite d'images : au-delà de 7, la potence elle-même se
+ * construit ; en deçà de 6, chaque erreur ajoute plusieurs parties.
+ * Les images de 1 à {@value #MAX_CACHED_ERRORS} erreurs sont calculées une
+ * seule fois pour tout le processus, avec leur forme encodée en UTF-8.
+ * 
  * @author Safae Bouzidi
  * @version 1.0
  */
 public class HangmanDrawer {
     
-    private final String[] stages;
+    /** Nombre maximal d'erreurs dont les images sont mises en cache. */
+    public static final int MAX_CACHED_ERRORS = 10;
+    
+    private static final int ROWS = 7;
+    private static final int COLUMNS = 9;
+    
+    /** Partie du dessin : caractères à poser sur la grille {row, column, char}. */
+    private static final int[][] BASE = {{6, 0, '='}, {6, 1, '='}, {6, 2, '='}, {6, 3, '='},
+        {6, 4, '='}, {6, 5, '='}, {6, 6, '='}, {6, 7, '='}, {6, 8, '='}};
+    private static final int[][] POLE = {{0, 6, '|'}, {1, 6, '|'}, {2, 6, '|'}, {3, 6, '|'},
+        {4, 6, '|'}, {5, 6, '|'}};
+    private static final int[][] BEAM = {{0, 2, '+'}, {0, 3, '-'}, {0, 4, '-'}, {0, 5, '-'},
+        {0, 6, '+'}};
+    private static final int[][] ROPE = {{1, 2, '|'}};
+    private static final int[][] HEAD = {{2, 2, 'O'}};
+    private static final int[][] BODY = {{3, 2, '|'}};
+    private static final int[][] LEFT_ARM = {{3, 1, '/'}};
+    private static final int[][] RIGHT_ARM = {{3, 3, '\\'}};
+    private static final int[][] TORSO = {{4, 2, '|'}};
+    
+    /** Potence construite progressivement, dans l'ordre (la base est toujours là). */
+    private static final int[][][] GALLOWS = {POLE, BEAM, ROPE};
+    
+    /** Bonhomme en 6 parties (jambes sous les bras). */
+    private static final int[][][] SHORT_FIGURE = {HEAD, BODY, LEFT_ARM, RIGHT_ARM,
+        {{4, 1, '/'}}, {{4, 3, '\\'}}};
+    
+    /** Bonhomme en 7 parties (torse allongé, jambes une ligne plus bas). */
+    private static final int[][][] LONG_FIGURE = {HEAD, BODY, LEFT_ARM, RIGHT_ARM, TORSO,
+        {{5, 1, '/'}}, {{5, 3, '\\'}}};
+    
+    /** Images d'un nombre d'erreurs donné, en texte et en UTF-8. */
+    private static final class Frames {
+        private final String[] text;
+        private final byte[][] utf8;
+        
+        private Frames(String[] text) {
+            this.text = text;
+            this.utf8 = new byte[text.length][];
+            for (int i = 0; i < text.length; i++) {
+                utf8[i] = text[i].getBytes(StandardCharsets.UTF_8);
+            }
+        }
+    }
+    
+    /** Cache partagé par tout le processus, indexé par nombre maximal d'erreurs. */
+    private static final Frames[] CACHE = new Frames[MAX_CACHED_ERRORS + 1];
+    
+    static {
+        for (int maxErrors = 1; maxErrors <= MAX_CACHED_ERRORS; maxErrors++) {
+            CACHE[maxErrors] = new Frames(generateStages(maxErrors));
+        }
+    }
+    
+    private final Frames frames;
     
     /**
      * Constructeur avec un nombre d'étapes paramétrable.
      * @author MEDEV
      * @param maxErrors nombre maximal d'erreurs (généralement 6 ou 7)
+     * @throws IllegalArgumentException si maxErrors &lt;= 0
      */
     public HangmanDrawer(int maxErrors) {
-        this.stages = generateStages(maxErrors);
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("Le nombre d'erreurs doit être positif");
+        }
+        this.frames = maxErrors <= MAX_CACHED_ERRORS
+                ? CACHE[maxErrors]
+                : new Frames(generateStages(maxErrors));
     }
     
     /**
@@ -28,160 +101,57 @@ public class HangmanDrawer {
      * @param maxErrors
      * @return 
      */
-    private String[] generateStages(int maxErrors) {
-        if (maxErrors == 6) {
-            return new String[] {
-                // 0 erreurs
-                "  +---+\n" +
-                "  |   |\n" +
-                "      |\n" +
-                "      |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 1 erreur - tête
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                "      |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 2 erreurs - corps
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                "  |   |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 3 erreurs - bras gauche
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|   |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 4 erreurs - bras droit
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|\\  |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 5 erreurs - jambe gauche
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|\\  |\n" +
-                " /    |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 6 erreurs - jambe droite (pendu complet)
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|\\  |\n" +
-                " / \\  |\n" +
-                "      |\n" +
-                "========="
-            };
-        } else if (maxErrors == 7) {
-            return new String[] {
-                // 0 erreurs
-                "  +---+\n" +
-                "  |   |\n" +
-                "      |\n" +
-                "      |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 1 erreur - tête
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                "      |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 2 erreurs - corps
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                "  |   |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 3 erreurs - bras gauche
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|   |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 4 erreurs - bras droit
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|\\  |\n" +
-                "      |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 5 erreurs - torse
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|\\  |\n" +
-                "  |   |\n" +
-                "      |\n" +
-                "=========",
-                
-                // 6 erreurs - jambe gauche
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|\\  |\n" +
-                "  |   |\n" +
-                " /    |\n" +
-                "=========",
-                
-                // 7 erreurs - jambe droite (pendu complet)
-                "  +---+\n" +
-                "  |   |\n" +
-                "  O   |\n" +
-                " /|\\  |\n" +
-                "  |   |\n" +
-                " / \\  |\n" +
-                "========="
-            };
-        } else {
-            // Mode simplifié pour d'autres valeurs
-            String[] simple = new String[maxErrors + 1];
-            for (int i = 0; i <= maxErrors; i++) {
-                simple[i] = "  +---+\n" +
-                           "  |   |\n" +
-                           "      |\n" +
-                           "      |\n" +
-                           "      |\n" +
-                           "      |\n" +
-                           "=========\n" +
-                           "Erreurs: " + i + "/" + maxErrors;
+    private static String[] generateStages(int maxErrors) {
+        int[][][] figure = maxErrors >= LONG_FIGURE.length ? LONG_FIGURE : SHORT_FIGURE;
+        int steps = Math.min(maxErrors, MAX_CACHED_ERRORS);
+        // Parties de potence à construire au fil des erreurs (0 à 3)
+        int gallowsSteps = Math.min(Math.max(steps - figure.length, 0), GALLOWS.length);
+        
+        int[][][] parts = new int[GALLOWS.length + figure.length][][];
+        System.arraycopy(GALLOWS, 0, parts, 0, GALLOWS.length);
+        System.arraycopy(figure, 0, parts, GALLOWS.length, figure.length);
+        int predrawn = GALLOWS.length - gallowsSteps;
+        int progressive = parts.length - predrawn;
+        
+        String[] stages = new String[maxErrors + 1];
+        for (int errors = 0; errors <= maxErrors; errors++) {
+            // Répartition proportionnelle (arrondie au supérieur) des parties sur les erreurs
+            int shown = predrawn + (int) (((long) errors * progressive + maxErrors - 1) / maxErrors);
+            stages[errors] = render(parts, shown);
+        }
+        return stages;
+    }
+    
+    /**
+     * Dessine la base et les premières parties.
+     */
+    private static String render(int[][][] parts, int count) {
+        char[][] grid = new char[ROWS][COLUMNS];
+        for (char[] row : grid) {
+            Arrays.fill(row, ' ');
+        }
+        place(grid, BASE);
+        for (int i = 0; i < count; i++) {
+            place(grid, parts[i]);
+        }
+        
+        StringBuilder frame = new StringBuilder();
+        for (int row = 0; row < ROWS; row++) {
+            int end = COLUMNS;
+            while (end > 0 && grid[row][end - 1] == ' ') {
+                end--;
+            }
+            if (row > 0) {
+                frame.append('\n');
             }
-            return simple;
+            frame.append(grid[row], 0, end);
+        }
+        return frame.toString();
+    }
+    
+    private static void place(char[][] grid, int[][] part) {
+        for (int[] cell : part) {
+            grid[cell[0]][cell[1]] = (char) cell[2];
         }
     }
     
@@ -192,9 +162,43 @@ public class HangmanDrawer {
      * @return le dessin ASCII
      */
     public String draw(int errorCount) {
-        if (errorCount < 0 || errorCount >= stages.length) {
-            return stages[stages.length - 1];
-        }
-        return stages[errorCount];
+        return frames.text[stage(errorCount)];
+    }
+    
+    /**
+     * Retourne le dessin encodé en UTF-8, sans nouvel encodage.
+     * 
+     * @param errorCount nombre d'erreurs commises
+     * @return une vue en lecture seule sur les octets du dessin
+     */
+    public ByteBuffer drawUtf8(int errorCount) {
+        return ByteBuffer.wrap(frames.utf8[stage(errorCount)]).asReadOnlyBuffer();
+    }
+    
+    /**
+     * Écrit le dessin encodé en UTF-8 dans un flux.
+     * 
+     * @param errorCount nombre d'erreurs commises
+     * @param out le flux de destination
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void writeTo(int errorCount, OutputStream out) throws IOException {
+        out.write(frames.utf8[stage(errorCount)]);
+    }
+    
+    /**
+     * Copie le dessin encodé en UTF-8 dans un tampon.
+     * 
+     * @param errorCount nombre d'erreurs commises
+     * @param target le tampon de destination
+     * @throws java.nio.BufferOverflowException si le tampon est trop petit
+     */
+    public void writeTo(int errorCount, ByteBuffer target) {
+        target.put(frames.utf8[stage(errorCount)]);
+    }
+    
+    private int stage(int errorCount) {
+        int last = frames.text.length - 1;
+        return errorCount < 0 || errorCount > last ? last : errorCount;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,158 @@
+package edu.centralenantes.Hangman.codec;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.model.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe GameStateCodec.
+ *
+ * Couvre :
+ * - aller-retour exact, formats INLINE et INDEXED, toutes les étapes d'une partie,
+ *   mots accentués compris, ß et ŉ (sans majuscule) inclus
+ * - codage par lot et ordre des octets du tampon
+ * - enregistrements incohérents et limites des formats
+ * @author MEDEV 2026
+ */
+public class GameStateCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Dictionary dictionary;
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("dico.txt");
+        Files.write(file, "JAVA\nPENDU\nANTICONSTITUTIONNELLEMENT\nCODE\nÉLÈVE\nstraße\nkŉop\n".getBytes(StandardCharsets.UTF_8));
+        dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+    }
+
+    /** Tous les états d'une partie gagnée et d'une partie perdue. */
+    private static List<GameState> playedStates(String word) {
+        List<GameState> states = new ArrayList<>();
+        for (String guesses : new String[] {"EAIOUNTSLRCDPMVQ", "ZXWYKHBGFQ"}) {
+            GameState state = new GameState(word, 6);
+            states.add(state);
+            for (int i = 0; i < guesses.length() && state.getStatus() == GameState.Status.IN_PROGRESS; i++) {
+                state = state.proposeLettre(guesses.charAt(i));
+                states.add(state);
+            }
+        }
+        return states;
+    }
+
+    private static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.getSecretWord(), actual.getSecretWord());
+        assertEquals(expected.getProposedMask(), actual.getProposedMask());
+        assertEquals(expected.getRemainingErrors(), actual.getRemainingErrors());
+        assertEquals(expected.getMaxErrors(), actual.getMaxErrors());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getMaskedWord(), actual.getMaskedWord());
+    }
+
+    /* ==================== Aller-retour ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testRoundTripBothLayouts() {
+        for (GameStateCodec codec : new GameStateCodec[] {GameStateCodec.inline(), GameStateCodec.indexed(dictionary)}) {
+            for (String word : new String[] {"JAVA", "PENDU", "ANTICONSTITUTIONNELLEMENT", "ÉLÈVE", "straße", "KŉOP"}) {
+                for (GameState state : playedStates(word)) {
+                    ByteBuffer buffer = ByteBuffer.allocate(codec.getRecordSize());
+                    codec.encode(state, buffer);
+                    assertFalse(buffer.hasRemaining());
+                    assertSameState(state, codec.decode(buffer.flip()));
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testBatchIsIndependentOfByteOrder() {
+        GameStateCodec codec = GameStateCodec.inline();
+        List<GameState> states = playedStates("PENDU");
+        ByteBuffer little = ByteBuffer.allocate(states.size() * 24).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer big = ByteBuffer.allocateDirect(states.size() * 24);
+
+        codec.encodeAll(states, little);
+        codec.encodeAll(states, big);
+        assertEquals(little.flip(), big.flip());
+
+        List<GameState> decoded = codec.decodeAll(big);
+        assertEquals(states.size(), decoded.size());
+        for (int i = 0; i < states.size(); i++) {
+            assertSameState(states.get(i), decoded.get(i));
+        }
+        assertFalse(big.hasRemaining());
+    }
+
+    /* ==================== Limites ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testLayoutLimits() {
+        GameStateCodec inline = GameStateCodec.inline();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        assertThrows(IllegalArgumentException.class,
+                () -> inline.encode(new GameState("A".repeat(26), 6), buffer));
+        // Dix lettres accentuées : 130 bits, plus que les 16 octets du mot
+        inline.encode(new GameState("É".repeat(9), 6), buffer);
+        assertThrows(IllegalArgumentException.class,
+                () -> inline.encode(new GameState("É".repeat(10), 6), buffer));
+        assertThrows(IllegalArgumentException.class,
+                () -> inline.encode(new GameState("JAVA", 300), buffer));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameStateCodec.indexed(dictionary).encode(new GameState("MODE", 6), buffer));
+        assertThrows(BufferOverflowException.class,
+                () -> inline.encodeAll(playedStates("JAVA"), ByteBuffer.allocate(48)));
+        assertThrows(IllegalArgumentException.class, () -> inline.decodeAll(ByteBuffer.allocate(30)));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRejectsInconsistentRecords() {
+        GameStateCodec codec = GameStateCodec.indexed(dictionary);
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        codec.encode(new GameState("CODE", 6).proposeLettre('Z'), buffer);
+
+        ByteBuffer wrongRemaining = ByteBuffer.wrap(buffer.array().clone());
+        wrongRemaining.put(9, (byte) 6);
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(wrongRemaining));
+
+        ByteBuffer wrongStatus = ByteBuffer.wrap(buffer.array().clone());
+        wrongStatus.put(10, (byte) GameState.Status.WON.ordinal());
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(wrongStatus));
+
+        ByteBuffer wrongIndex = ByteBuffer.wrap(buffer.array().clone());
+        wrongIndex.put(0, (byte) 42);
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(wrongIndex));
+    }
+}
@@ -0,0 +1,69 @@
+package edu.centralenantes.Hangman.codec;
+
+import org.junit.jupiter.api.Test;
+
+import edu.centralenantes.Hangman.model.LetterFolding;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe PackedLetters.
+ *
+ * Couvre :
+ * - aller-retour pour toutes les longueurs jusqu'à 32 lettres
+ * - taille codée et caractères invalides
+ * - lettres accentuées, codées par échappement
+ * @author MEDEV 2026
+ */
+public class PackedLettersTest {
+
+    /**
+     *
+     */
+    @Test
+    void testRoundTrip() {
+        StringBuilder word = new StringBuilder();
+        for (int length = 1; length <= 32; length++) {
+            word.append((char) ('A' + (length * 7) % 26));
+            ByteBuffer buffer = ByteBuffer.allocate(24);
+            int written = PackedLetters.pack(word.toString().toLowerCase(), buffer, 3);
+            assertEquals(PackedLetters.packedSize(length), written);
+            assertEquals(word.toString(), PackedLetters.unpack(buffer, 3, length));
+            assertEquals(0, buffer.position());
+        }
+        assertEquals(20, PackedLetters.packedSize(32));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testInvalidCharacters() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        assertThrows(IllegalArgumentException.class, () -> PackedLetters.pack("R2D2", buffer, 0));
+        assertThrows(IllegalArgumentException.class, () -> PackedLetters.pack("Ǆ", buffer, 0));
+        buffer.put(0, (byte) 26);
+        assertThrows(IllegalArgumentException.class, () -> PackedLetters.unpack(buffer, 0, 1));
+        // Échappement suivi de U+00D7 (×), qui n'est pas une lettre
+        int escaped = 31 | (0xD7 - 0xC0) << 5;
+        buffer.put(0, (byte) escaped).put(1, (byte) (escaped >>> 8));
+        assertThrows(IllegalArgumentException.class, () -> PackedLetters.unpack(buffer, 0, 1));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testAccentedRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(24);
+        for (String word : new String[] {"élève", "ÉLÈVE", "cœur", "ÇA", "Ÿ", "straße", "AÉAÉAÉA"}) {
+            int written = PackedLetters.pack(word, buffer, 1);
+            assertEquals(PackedLetters.packedSize(word), written);
+            assertEquals(LetterFolding.toUpperCase(word), PackedLetters.unpack(buffer, 1, word.length()));
+        }
+        // 5 bits par lettre A-Z, 13 par lettre accentuée
+        assertEquals(PackedLetters.packedSize(5), PackedLetters.packedSize("ELEVE"));
+        assertEquals((3 * 5 + 2 * 13 + 7) / 8, PackedLetters.packedSize("ÉLÈVE"));
+    }
+}
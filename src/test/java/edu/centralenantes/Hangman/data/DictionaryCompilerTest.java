@@ -0,0 +1,250 @@
+package edu.centralenantes.Hangman.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe DictionaryCompiler et du format DictionaryFile.
+ *
+ * Couvre :
+ * - tri, dédoublonnage et validation des mots
+ * - ouverture par Dictionary : mêmes tirages, recherche et fréquences qu'en texte
+ * - sections optionnelles absentes
+ * - fichiers corrompus ou d'une autre version
+ * @author MEDEV 2026
+ */
+public class DictionaryCompilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String SOURCE = "pendu\nJava\n123\nélève\nCODE\njava\nAAAAAA\n  banana \nanticonstitutionnellement\n";
+
+    private Path source() throws IOException {
+        Path file = tempDir.resolve("dico.txt");
+        Files.write(file, SOURCE.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static Dictionary load(Path file) throws IOException {
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        return dictionary;
+    }
+
+    private static List<String> words(Dictionary dictionary) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < dictionary.getWordCount(); i++) {
+            words.add(dictionary.getWord(i));
+        }
+        return words;
+    }
+
+    /* =======================
+     * Compilation
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testCompile_SortsAndDeduplicates() throws IOException {
+        Path target = tempDir.resolve("dico.bin");
+
+        DictionaryCompiler.Report report = DictionaryCompiler.compile(source(), target, true, true);
+
+        assertEquals(7, report.getWordCount());
+        assertEquals(1, report.getDuplicateCount());
+        assertEquals(1, report.getRejectedCount());
+        assertEquals(Files.size(target), report.getFileSize());
+        assertTrue(DictionaryFile.isCompiled(target));
+        assertFalse(DictionaryFile.isCompiled(source()));
+
+        Dictionary compiled = load(target);
+        assertEquals(List.of("AAAAAA", "ANTICONSTITUTIONNELLEMENT", "BANANA", "CODE", "JAVA", "PENDU", "ÉLÈVE"),
+                     words(compiled));
+        assertEquals(1, compiled.getRejectedLineCount());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testCompile_NoValidWord() throws IOException {
+        Path file = tempDir.resolve("vide.txt");
+        Files.write(file, "123\n\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalStateException.class,
+                     () -> DictionaryCompiler.compile(file, tempDir.resolve("vide.bin"), true, true));
+        assertFalse(Files.exists(tempDir.resolve("vide.bin")));
+    }
+
+    /* =======================
+     * Ouverture
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testOpen_SameLookupsAsText() throws IOException {
+        Path target = tempDir.resolve("dico.bin");
+        DictionaryCompiler.compile(source(), target, true, true);
+        Dictionary text = load(source());
+        Dictionary compiled = load(target);
+
+        for (String word : words(text)) {
+            assertEquals(word, compiled.getWord(compiled.indexOf(word.toLowerCase())));
+        }
+        assertEquals(-1, compiled.indexOf("JAV"));
+        assertEquals(-1, compiled.indexOf("ZZZ"));
+        assertEquals(-1, compiled.indexOf("A"));
+        // CODE et JAVA, le doublon JAVA n'est compté qu'une fois
+        int[] four = compiled.snapshot().getLetterFrequencies(4);
+        assertEquals(1, four['A' - 'A']);
+        assertEquals(1, four['C' - 'A']);
+        assertEquals(0, four['P' - 'A']);
+        // PENDU et ÉLÈVE : É et È comptent pour E, une fois par mot
+        int[] five = compiled.snapshot().getLetterFrequencies(5);
+        assertEquals(2, five['E' - 'A']);
+        assertEquals(1, five['V' - 'A']);
+        assertEquals(1, five['L' - 'A']);
+        assertEquals(1, five['P' - 'A']);
+        assertEquals(0, five['A' - 'A']);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testOpen_SameDrawsAsText() throws IOException {
+        Path target = tempDir.resolve("dico.bin");
+        DictionaryCompiler.compile(source(), target, true, true);
+        Dictionary compiled = load(target);
+
+        Set<String> hard = new HashSet<>();
+        Set<String> medium = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            hard.add(compiled.getRandomWord(Dictionary.Difficulty.HARD));
+            medium.add(compiled.getRandomWord(5, 6));
+        }
+
+        // ÉLÈVE n'a que trois lettres distinctes une fois les accents repliés
+        assertEquals(Set.of("AAAAAA", "BANANA", "CODE", "JAVA", "ÉLÈVE"), hard);
+        assertEquals(Set.of("AAAAAA", "BANANA", "PENDU", "ÉLÈVE"), medium);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testOpen_WithoutOptionalSections() throws IOException {
+        Path full = tempDir.resolve("complet.bin");
+        Path bare = tempDir.resolve("nu.bin");
+        DictionaryCompiler.compile(source(), full, true, true);
+        DictionaryCompiler.compile(source(), bare, false, false);
+        Dictionary compiled = load(bare);
+
+        assertTrue(Files.size(bare) < Files.size(full));
+        assertEquals(words(load(full)), words(compiled));
+        assertEquals("ANTICONSTITUTIONNELLEMENT", compiled.getRandomWord(20, 30));
+        assertArrayEquals(load(full).snapshot().getLetterFrequencies(6),
+                          compiled.snapshot().getLetterFrequencies(6));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testOpen_LargeDictionaryMatchesText() throws IOException {
+        Random random = new Random(3);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            int length = 2 + random.nextInt(10);
+            for (int c = 0; c < length; c++) {
+                content.append((char) ('a' + random.nextInt(26)));
+            }
+            content.append('\n');
+        }
+        Path file = tempDir.resolve("grand.txt");
+        Path target = tempDir.resolve("grand.bin");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        DictionaryCompiler.compile(file, target, true, true);
+
+        Dictionary text = load(file);
+        Dictionary compiled = load(target);
+
+        Set<String> expected = new HashSet<>(words(text));
+        List<String> sorted = words(compiled);
+        assertEquals(expected, new HashSet<>(sorted));
+        assertEquals(expected.size(), sorted.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            assertTrue(sorted.get(i - 1).compareTo(sorted.get(i)) < 0);
+        }
+        for (int i = 0; i < sorted.size(); i += 97) {
+            assertEquals(i, compiled.indexOf(sorted.get(i)));
+        }
+    }
+
+    /* =======================
+     * Fichiers invalides
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testOpen_Truncated() throws IOException {
+        Path target = tempDir.resolve("dico.bin");
+        DictionaryCompiler.compile(source(), target, true, true);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 4);
+        }
+        Dictionary dictionary = new Dictionary();
+
+        assertThrows(IOException.class, () -> dictionary.loadFromFile(target.toString()));
+        assertTrue(dictionary.isEmpty());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testOpen_OtherVersion() throws IOException {
+        Path target = tempDir.resolve("dico.bin");
+        DictionaryCompiler.compile(source(), target, true, true);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, DictionaryFile.VERSION + 1), 4);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> load(target));
+        assertTrue(e.getMessage().contains("Version"));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testTextStartingLikeHeader() throws IOException {
+        Path file = tempDir.resolve("texte.txt");
+        Files.write(file, "HANGAR\nPENDU\n".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(DictionaryFile.isCompiled(file));
+        assertEquals(List.of("HANGAR", "PENDU"), words(load(file)));
+    }
+}
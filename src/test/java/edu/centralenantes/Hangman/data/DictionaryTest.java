@@ -0,0 +1,363 @@
+package edu.centralenantes.Hangman.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe Dictionary.
+ *
+ * Couvre :
+ * - chargement (nettoyage, mise en majuscules, lignes invalides)
+ * - fins de ligne Unix / Windows / Mac
+ * - fichiers vides ou introuvables
+ * - tirage aléatoire
+ * - recherche d'un mot (indexOf)
+ * - rechargement par remplacement atomique de l'instantané
+ * @author MEDEV 2026
+ */
+public class DictionaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Dictionary dictionary;
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() {
+        dictionary = new Dictionary();
+    }
+
+    private String write(String content) throws IOException {
+        Path file = tempDir.resolve("dico.txt");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    /* =======================
+     * Chargement
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_TrimsAndUpperCases() throws IOException {
+        dictionary.loadFromFile(write("java\n  Pendu  \n\n\tcode\t\n"));
+
+        assertEquals(3, dictionary.getWordCount());
+        assertEquals("JAVA", dictionary.getWord(0));
+        assertEquals("PENDU", dictionary.getWord(1));
+        assertEquals("CODE", dictionary.getWord(2));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_SkipsInvalidLines() throws IOException {
+        dictionary.loadFromFile(write("JAVA\nJA123\nDEUX MOTS\nC++\nPENDU"));
+
+        assertEquals(2, dictionary.getWordCount());
+        assertEquals("JAVA", dictionary.getWord(0));
+        assertEquals("PENDU", dictionary.getWord(1));
+        assertEquals(3, dictionary.getRejectedLineCount());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_LargeFileKeepsFileOrder() throws IOException {
+        // Assez grand pour être découpé en tranches analysées en parallèle
+        StringBuilder content = new StringBuilder();
+        int expected = 0;
+        for (int i = 0; i < 300_000; i++) {
+            if (i % 1000 == 7) {
+                content.append("MOT").append(i).append("\r\n");
+            } else {
+                content.append(letters(i)).append(i % 3 == 0 ? "\r\n" : "\n");
+                expected++;
+            }
+        }
+        dictionary.loadFromFile(write(content.toString()));
+
+        assertEquals(expected, dictionary.getWordCount());
+        assertEquals(300, dictionary.getRejectedLineCount());
+        int index = 0;
+        for (int i = 0; i < 300_000; i++) {
+            if (i % 1000 != 7) {
+                assertEquals(letters(i), dictionary.getWord(index++));
+            }
+        }
+    }
+
+    private static String letters(int n) {
+        StringBuilder word = new StringBuilder("W");
+        do {
+            word.append((char) ('A' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return word.toString();
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_AccentedLetters() throws IOException {
+        dictionary.loadFromFile(write("élève\nGARÇON\n"));
+
+        assertEquals(2, dictionary.getWordCount());
+        assertEquals("ÉLÈVE", dictionary.getWord(0));
+        assertEquals("GARÇON", dictionary.getWord(1));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_LatinExtendedLetters() throws IOException {
+        // Œ, Ł, ı (Latin étendu A) acceptés ; ×, ² et € ne sont pas des lettres
+        dictionary.loadFromFile(write("cœur\nŁódź\nkapı\nfoi×loi\nx²\nprix€\n"));
+
+        assertEquals(3, dictionary.getWordCount());
+        assertEquals(3, dictionary.getRejectedLineCount());
+        assertEquals("CŒUR", dictionary.getWord(0));
+        assertEquals("ŁÓDŹ", dictionary.getWord(1));
+        // La majuscule de ı est I : le mot est stocké en ASCII
+        assertEquals("KAPI", dictionary.getWord(2));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_DistinctLettersFoldAccents() throws IOException {
+        // ÉLÈVE : E, L, V ; CŒUR : C, O, E, U, R
+        dictionary.loadFromFile(write("ÉLÈVE\nCŒUR\n"));
+
+        assertEquals("ÉLÈVE", dictionary.getRandomWordByDistinctLetters(3, 3));
+        assertEquals("CŒUR", dictionary.getRandomWordByDistinctLetters(5, 5));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_LineEndings() throws IOException {
+        dictionary.loadFromFile(write("UN\r\nDEUX\rTROIS\nQUATRE"));
+
+        assertEquals(4, dictionary.getWordCount());
+        assertEquals("DEUX", dictionary.getWord(1));
+        assertEquals("QUATRE", dictionary.getWord(3));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_NoValidWord() throws IOException {
+        String file = write("123\n\n   \n");
+
+        assertThrows(IllegalStateException.class, () -> dictionary.loadFromFile(file));
+        assertTrue(dictionary.isEmpty());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLoadFromFile_MissingFile() {
+        String missing = tempDir.resolve("absent.txt").toString();
+
+        assertThrows(IOException.class, () -> dictionary.loadFromFile(missing));
+    }
+
+    /* =======================
+     * Tirage
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testGetRandomWord_EmptyDictionary() {
+        assertThrows(IllegalStateException.class, () -> dictionary.getRandomWord());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGetRandomWord_ReturnsLoadedWords() throws IOException {
+        dictionary.loadFromFile(write("JAVA\nPENDU\nCODE\n"));
+        Set<String> drawn = new HashSet<>();
+
+        for (int i = 0; i < 200; i++) {
+            drawn.add(dictionary.getRandomWord());
+        }
+
+        assertEquals(Set.of("JAVA", "PENDU", "CODE"), drawn);
+    }
+
+    /* =======================
+     * Tirage par longueur / difficulté
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testGetRandomWord_LengthRange() throws IOException {
+        dictionary.loadFromFile(write("OK\nJAVA\nPENDU\nPYTHON\nALGORITHME\nÉLÈVE\n"));
+        Set<String> drawn = new HashSet<>();
+
+        for (int i = 0; i < 200; i++) {
+            drawn.add(dictionary.getRandomWord(4, 5));
+        }
+
+        assertEquals(Set.of("JAVA", "PENDU", "ÉLÈVE"), drawn);
+        assertEquals("ALGORITHME", dictionary.getRandomWord(8, Integer.MAX_VALUE));
+        assertThrows(IllegalStateException.class, () -> dictionary.getRandomWord(11, 20));
+        assertThrows(IllegalArgumentException.class, () -> dictionary.getRandomWord(6, 4));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGetRandomWord_DistinctLetters() throws IOException {
+        // AAAAAA : 1, BANANA : 3, PENDU : 5, ALGORITHME : 10
+        dictionary.loadFromFile(write("AAAAAA\nBANANA\nPENDU\nALGORITHME\n"));
+
+        assertEquals("AAAAAA", dictionary.getRandomWordByDistinctLetters(1, 1));
+        assertEquals("PENDU", dictionary.getRandomWordByDistinctLetters(4, 6));
+        assertEquals("ALGORITHME", dictionary.getRandomWord(Dictionary.Difficulty.EASY));
+        assertEquals("PENDU", dictionary.getRandomWord(Dictionary.Difficulty.MEDIUM));
+
+        Set<String> hard = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            hard.add(dictionary.getRandomWord(Dictionary.Difficulty.HARD));
+        }
+        assertEquals(Set.of("AAAAAA", "BANANA"), hard);
+    }
+
+    /* =======================
+     * Recherche d'un mot
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testIndexOf() throws IOException {
+        dictionary.loadFromFile(write("java\nPENDU\nJAVA\nÉlève\nAB\nBA\nstraße\nkŉop\n"));
+
+        assertEquals(0, dictionary.indexOf("JAVA"));
+        assertEquals(1, dictionary.indexOf("pendu"));
+        assertEquals(3, dictionary.indexOf("ÉLÈVE"));
+        assertEquals(5, dictionary.indexOf("BA"));
+        assertEquals(-1, dictionary.indexOf("JAV"));
+        assertEquals(-1, dictionary.indexOf("CODE"));
+        // ß et ŉ n'ont pas de majuscule d'un seul caractère : gardés tels quels
+        assertEquals(6, dictionary.indexOf("straße"));
+        assertEquals(6, dictionary.indexOf("STRAßE"));
+        assertEquals(7, dictionary.indexOf("KŉOP"));
+        for (int i = 0; i < dictionary.getWordCount(); i++) {
+            assertEquals(dictionary.getWord(dictionary.indexOf(dictionary.getWord(i))), dictionary.getWord(i));
+        }
+    }
+
+    /* =======================
+     * Instantanés
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testReload_SwapsSnapshot() throws IOException {
+        dictionary.loadFromFile(write("java\npendu\n"));
+        DictionarySnapshot first = dictionary.snapshot();
+
+        dictionary.loadFromFile(write("code\nclavier\nsouris\n"));
+        DictionarySnapshot second = dictionary.snapshot();
+
+        // L'ancien instantané reste intact pour qui le détient
+        assertEquals(2, first.getWordCount());
+        assertEquals("PENDU", first.getWord(1));
+        assertEquals(3, second.getWordCount());
+        assertEquals(3, dictionary.getWordCount());
+        assertEquals(-1, dictionary.indexOf("JAVA"));
+        assertEquals(first.getVersion() + 1, second.getVersion());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testReload_FailureKeepsSnapshot() throws IOException {
+        dictionary.loadFromFile(write("java\npendu\n"));
+        DictionarySnapshot loaded = dictionary.snapshot();
+
+        assertThrows(IllegalStateException.class, () -> dictionary.loadFromFile(write("123\n")));
+        assertThrows(IOException.class,
+                     () -> dictionary.loadFromFile(tempDir.resolve("absent.txt").toString()));
+
+        assertSame(loaded, dictionary.snapshot());
+        assertEquals("JAVA", dictionary.getWord(0));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testReload_ReadersSeeWholeSnapshots() throws Exception {
+        Path small = tempDir.resolve("petit.txt");
+        Path large = tempDir.resolve("grand.txt");
+        Files.write(small, "java\npendu\n".getBytes(StandardCharsets.UTF_8));
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            content.append("MOT").append((char) ('A' + i % 26)).append((char) ('A' + i / 26 % 26)).append('\n');
+        }
+        Files.write(large, content.toString().getBytes(StandardCharsets.UTF_8));
+        dictionary.loadFromFile(small.toString());
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!stop.get()) {
+                DictionarySnapshot snapshot = dictionary.snapshot();
+                int count = snapshot.getWordCount();
+                String last = snapshot.getWord(count - 1);
+                boolean whole = count == 2 ? last.equals("PENDU") : count == 5_000 && last.startsWith("MOT");
+                if (!whole) {
+                    failure.set(count + " mots, dernier : " + last);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 20; i++) {
+            dictionary.loadFromFile((i % 2 == 0 ? large : small).toString());
+        }
+        stop.set(true);
+        reader.join();
+
+        assertNull(failure.get());
+    }
+}
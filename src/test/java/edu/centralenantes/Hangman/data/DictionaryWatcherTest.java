@@ -0,0 +1,129 @@
+package edu.centralenantes.Hangman.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe DictionaryWatcher.
+ *
+ * Couvre :
+ * - rechargement après modification ou remplacement du fichier
+ * - conservation de l'ancien contenu si le nouveau est invalide
+ * - fichiers voisins ignorés
+ * @author MEDEV 2026
+ */
+public class DictionaryWatcherTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    Path tempDir;
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Délai dépassé");
+            Thread.sleep(20);
+        }
+    }
+
+    /* =======================
+     * Rechargement
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testReloadOnModify() throws Exception {
+        Path file = tempDir.resolve("dico.txt");
+        write(file, "java\npendu\n");
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+
+        try (DictionaryWatcher watcher = new DictionaryWatcher(dictionary, file)) {
+            write(file, "code\nclavier\nsouris\n");
+            await(() -> watcher.getReloadCount() > 0 && dictionary.getWordCount() == 3);
+
+            assertEquals("CODE", dictionary.getWord(0));
+            assertEquals(0, watcher.getFailureCount());
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testReloadOnAtomicReplace() throws Exception {
+        Path file = tempDir.resolve("dico.txt");
+        write(file, "java\n");
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+
+        try (DictionaryWatcher watcher = new DictionaryWatcher(dictionary, file)) {
+            Path temporary = tempDir.resolve("dico.tmp");
+            write(temporary, "code\nclavier\n");
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            await(() -> dictionary.getWordCount() == 2);
+
+            assertEquals("CLAVIER", dictionary.getWord(1));
+            assertEquals(0, watcher.getFailureCount());
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testInvalidFileKeepsSnapshot() throws Exception {
+        Path file = tempDir.resolve("dico.txt");
+        write(file, "java\npendu\n");
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        DictionarySnapshot loaded = dictionary.snapshot();
+
+        try (DictionaryWatcher watcher = new DictionaryWatcher(dictionary, file)) {
+            write(file, "123\n\n");
+            await(() -> watcher.getFailureCount() > 0);
+
+            assertSame(loaded, dictionary.snapshot());
+            assertEquals(0, watcher.getReloadCount());
+
+            // Le fichier corrigé est repris
+            write(file, "code\n");
+            await(() -> dictionary.getWordCount() == 1);
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testIgnoresOtherFiles() throws Exception {
+        Path file = tempDir.resolve("dico.txt");
+        write(file, "java\n");
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+
+        try (DictionaryWatcher watcher = new DictionaryWatcher(dictionary, file)) {
+            write(tempDir.resolve("autre.txt"), "code\n");
+            Thread.sleep(5 * DictionaryWatcher.DEBOUNCE_MILLIS);
+
+            assertEquals(0, watcher.getReloadCount());
+            assertEquals("JAVA", dictionary.getWord(0));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package edu.centralenantes.Hangman.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe WordSampler.
+ *
+ * Couvre :
+ * - mêmes règles de validité que le chargement complet
+ * - uniformité du réservoir et du tirage par octet
+ * - fichiers sans mot valide
+ * @author MEDEV 2026
+ */
+public class WordSamplerTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Longueurs de ligne très différentes, lignes invalides et fins de ligne mêlées
+    private static final String MIXED = "  un \r\nDEUX\r123\n\ntrois\r\n"
+                                        + "anticonstitutionnellement\nC++\nélève\n  \n";
+    private static final Set<String> MIXED_WORDS =
+            Set.of("UN", "DEUX", "TROIS", "ANTICONSTITUTIONNELLEMENT", "ÉLÈVE");
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("dico.txt");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /* =======================
+     * Réservoir
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testSample_SameWordsAsDictionary() throws IOException {
+        Path file = write(MIXED);
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        Set<String> loaded = new HashSet<>();
+        for (int i = 0; i < dictionary.getWordCount(); i++) {
+            loaded.add(dictionary.getWord(i));
+        }
+
+        List<String> sampled = WordSampler.sample(file, 10, new Random(1));
+
+        assertEquals(MIXED_WORDS, loaded);
+        assertEquals(loaded, new HashSet<>(sampled));
+        assertEquals(5, sampled.size());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testSample_Uniform() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            content.append("MOT").append((char) ('A' + i)).append("\n#\n");
+        }
+        Path file = write(content.toString());
+        Random random = new Random(42);
+        Map<String, Integer> counts = new HashMap<>();
+        int trials = 4_000;
+
+        for (int t = 0; t < trials; t++) {
+            List<String> sampled = WordSampler.sample(file, 5, random);
+            assertEquals(5, new HashSet<>(sampled).size());
+            for (String word : sampled) {
+                counts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        // Chaque mot est retenu avec une probabilité 5/20
+        assertEquals(20, counts.size());
+        for (int count : counts.values()) {
+            assertEquals(1_000, count, 120);
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testSample_InvalidArguments() throws IOException {
+        Path file = write(MIXED);
+
+        assertTrue(WordSampler.sample(file, 0, new Random()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> WordSampler.sample(file, -1, new Random()));
+        assertThrows(IOException.class,
+                     () -> WordSampler.sample(tempDir.resolve("absent.txt"), 1, new Random()));
+    }
+
+    /* =======================
+     * Tirage par octet
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testRandomWord_UniformOverLines() throws IOException {
+        WordSampler sampler = WordSampler.open(write(MIXED));
+        Random random = new Random(7);
+        Map<String, Integer> counts = new HashMap<>();
+        int draws = 25_000;
+
+        for (int i = 0; i < draws; i++) {
+            counts.merge(sampler.randomWord(random), 1, Integer::sum);
+        }
+
+        // Le mot long n'est pas favorisé par sa taille
+        assertEquals(MIXED_WORDS, counts.keySet());
+        for (int count : counts.values()) {
+            assertEquals(5_000, count, 400);
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRandomWord_NoValidWord() throws IOException {
+        WordSampler empty = WordSampler.open(write(""));
+        assertEquals(0, empty.getFileSize());
+        assertThrows(IllegalStateException.class, () -> empty.randomWord(new Random()));
+
+        WordSampler invalid = WordSampler.open(write("123\n\n   \n"));
+        assertThrows(IllegalStateException.class, () -> invalid.randomWord(new Random()));
+    }
+}
@@ -0,0 +1,187 @@
+package edu.centralenantes.Hangman.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires des stratégies de tirage WordSelector.
+ *
+ * Couvre :
+ * - reproductibilité à graine égale
+ * - flux indépendants par thread
+ * - sac mélangé : cycles complets sans répétition, tirages concurrents, rechargement
+ * @author MEDEV 2026
+ */
+public class WordSelectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String name, int words) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            content.append("MOT").append((char) ('A' + i % 26)).append((char) ('A' + i / 26 % 26))
+                   .append((char) ('A' + i / 676)).append('\n');
+        }
+        Path file = tempDir.resolve(name);
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private Dictionary load(WordSelector selector, int words) throws IOException {
+        Dictionary dictionary = new Dictionary(selector);
+        dictionary.loadFromFile(write("dico.txt", words).toString());
+        return dictionary;
+    }
+
+    private static List<String> draw(Dictionary dictionary, int count) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            words.add(dictionary.getRandomWord());
+        }
+        return words;
+    }
+
+    /* =======================
+     * Flux par thread
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testRandom_Reproducible() throws IOException {
+        List<String> first = draw(load(WordSelector.random(42), 500), 200);
+        List<String> second = draw(load(WordSelector.random(42), 500), 200);
+        List<String> other = draw(load(WordSelector.random(43), 500), 200);
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRandom_OneStreamPerThread() throws Exception {
+        WordSelector selector = WordSelector.random(7);
+        int[][] draws = new int[2][100];
+        Thread[] threads = new Thread[2];
+        for (int t = 0; t < threads.length; t++) {
+            int[] out = draws[t];
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < out.length; i++) {
+                    out[i] = selector.nextInt(1 << 30);
+                }
+            });
+            threads[t].start();
+            // Ordre de création des flux fixé
+            threads[t].join();
+        }
+
+        // Le premier thread a reçu le premier flux de la graine
+        WordSelector reference = WordSelector.random(7);
+        int[] mainThread = new int[100];
+        for (int i = 0; i < mainThread.length; i++) {
+            mainThread[i] = reference.nextInt(1 << 30);
+        }
+        assertArrayEquals(draws[0], mainThread);
+        assertFalse(Arrays.equals(draws[0], draws[1]));
+    }
+
+    /* =======================
+     * Sac mélangé
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testShuffleBag_FullCyclesWithoutRepeat() throws IOException {
+        int words = 300;
+        Dictionary dictionary = load(WordSelector.shuffleBag(1), words);
+        List<String> drawn = draw(dictionary, words * 5);
+
+        for (int cycle = 0; cycle < 5; cycle++) {
+            Set<String> seen = new HashSet<>(drawn.subList(cycle * words, (cycle + 1) * words));
+            assertEquals(words, seen.size());
+        }
+        for (int i = 1; i < drawn.size(); i++) {
+            assertNotEquals(drawn.get(i - 1), drawn.get(i));
+        }
+        // Deux cycles ne suivent pas le même ordre
+        assertNotEquals(drawn.subList(0, words), drawn.subList(words, 2 * words));
+        assertEquals(drawn, draw(load(WordSelector.shuffleBag(1), words), words * 5));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testShuffleBag_Uniform() throws IOException {
+        int words = 10;
+        int[] firstDraws = new int[words];
+        for (long seed = 0; seed < 5_000; seed++) {
+            Dictionary dictionary = load(WordSelector.shuffleBag(seed), words);
+            firstDraws[dictionary.indexOf(dictionary.getRandomWord())]++;
+        }
+        for (int count : firstDraws) {
+            assertEquals(500, count, 90);
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testShuffleBag_ConcurrentDraws() throws Exception {
+        int words = 1_000;
+        int cycles = 8;
+        Dictionary dictionary = load(WordSelector.shuffleBag(3), words);
+        AtomicIntegerArray counts = new AtomicIntegerArray(words);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < words * cycles / threads.length; i++) {
+                    counts.incrementAndGet(dictionary.indexOf(dictionary.getRandomWord()));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Autant de tirages que de cycles complets : chaque mot exactement une fois par cycle
+        for (int i = 0; i < words; i++) {
+            assertEquals(cycles, counts.get(i));
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testShuffleBag_RestartsOnReload() throws IOException {
+        Dictionary dictionary = load(WordSelector.shuffleBag(5), 50);
+        draw(dictionary, 20);
+
+        dictionary.loadFromFile(write("petit.txt", 3).toString());
+
+        assertEquals(Set.of("MOTAAA", "MOTBAA", "MOTCAA"), new HashSet<>(draw(dictionary, 3)));
+        assertTrue(dictionary.getRandomWord(6, 6).startsWith("MOT"));
+    }
+}
@@ -0,0 +1,220 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.engine.BatchGuessResult.Outcome;
+import edu.centralenantes.Hangman.model.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires des propositions groupées de GameEngine (BatchGuessResult).
+ *
+ * Couvre :
+ * - issue de chaque lettre d'un lot (juste, fausse, répétée, non lue)
+ * - arrêt à la victoire ou à la défaite
+ * - proposition d'un mot entier (anagrammes et mots faux compris)
+ * - lots invalides
+ * @author MEDEV 2026
+ */
+public class GameEngineTest {
+
+    private GameEngine engine;
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine();
+        engine.startNewGame("JAVA", 6);
+    }
+
+    private static Outcome[] outcomes(BatchGuessResult result) {
+        Outcome[] outcomes = new Outcome[result.size()];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = result.getOutcome(i);
+        }
+        return outcomes;
+    }
+
+    /* =======================
+     * Lettres
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetters_Outcomes() {
+        engine.guessLetter('X');
+        BatchGuessResult result = engine.guessLetters("axAjéX");
+
+        assertArrayEquals(new Outcome[] {Outcome.HIT, Outcome.REPEAT, Outcome.REPEAT,
+                                         Outcome.HIT, Outcome.MISS, Outcome.REPEAT},
+                          outcomes(result));
+        assertEquals('E', result.getLetter(4));
+        assertEquals(6, result.getAppliedCount());
+        assertEquals(2, result.getHitCount());
+        assertEquals(1, result.getMissCount());
+        assertEquals(GameState.letterBit('A') | GameState.letterBit('J'), result.getHitMask());
+        assertEquals(GameState.letterBit('E'), result.getMissMask());
+
+        assertSame(engine.getCurrentState(), result.getState());
+        assertEquals("J A _ A", result.getState().getMaskedWord());
+        assertEquals(4, result.getState().getRemainingErrors());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetters_StopsAtVictory() {
+        BatchGuessResult result = engine.guessLetters("JAVAZ");
+
+        assertArrayEquals(new Outcome[] {Outcome.HIT, Outcome.HIT, Outcome.HIT,
+                                         Outcome.SKIPPED, Outcome.SKIPPED},
+                          outcomes(result));
+        assertEquals(3, result.getAppliedCount());
+        assertTrue(engine.hasWon());
+        assertThrows(IllegalStateException.class, () -> engine.guessLetters("B"));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetters_StopsAtDefeat() {
+        engine.startNewGame("JAVA", 2);
+        BatchGuessResult result = engine.guessLetters("XAYJ");
+
+        assertArrayEquals(new Outcome[] {Outcome.MISS, Outcome.HIT, Outcome.MISS, Outcome.SKIPPED},
+                          outcomes(result));
+        assertTrue(engine.hasLost());
+        assertFalse(engine.getCurrentState().isLetterProposed('J'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetters_InvalidBatchChangesNothing() {
+        GameState before = engine.getCurrentState();
+
+        assertThrows(IllegalArgumentException.class, () -> engine.guessLetters("JA-"));
+        assertSame(before, engine.getCurrentState());
+        // Validé en entier, même après la lettre qui terminerait la partie
+        assertThrows(IllegalArgumentException.class, () -> engine.guessLetters("JAVAX1"));
+        assertSame(before, engine.getCurrentState());
+        assertEquals(0, engine.guessLetters("").size());
+        assertSame(before, engine.getCurrentState());
+        assertThrows(IllegalStateException.class, () -> new GameEngine().guessLetters("A"));
+    }
+
+    /* =======================
+     * Mot entier
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testGuessWord_Right() {
+        engine.guessLetter('A');
+        BatchGuessResult result = engine.guessWord("java");
+
+        assertTrue(engine.hasWon());
+        assertEquals(0, result.getMissCount());
+        assertEquals(Outcome.REPEAT, result.getOutcome(1));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessWord_AccentsFolded() {
+        engine.startNewGame("ÉLÈVE", 6);
+
+        assertEquals(GameState.Status.WON, engine.guessWord("eleve").getState().getStatus());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessWord_Ligature() {
+        engine.startNewGame("CŒUR", 6);
+        assertThrows(IllegalArgumentException.class, () -> engine.guessWord("COEUR"));
+
+        // Œ joue E et O : une lettre de plus que le mot
+        BatchGuessResult result = engine.guessWord("cœur");
+        assertTrue(engine.hasWon());
+        assertEquals(5, result.size());
+        assertEquals('E', result.getLetter(1));
+        assertEquals('O', result.getLetter(2));
+        assertEquals(Outcome.HIT, result.getOutcome(2));
+
+        engine.startNewGame("JAVA", 6);
+        BatchGuessResult wrong = engine.guessWord("ŒUFS");
+        assertEquals(5, wrong.getMissCount());
+        assertEquals(1, wrong.getState().getRemainingErrors());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessWord_Wrong() {
+        BatchGuessResult result = engine.guessWord("LAVE");
+
+        // L et E comptés comme erreurs ; A et V, lettres du mot secret, non jouées
+        assertArrayEquals(new Outcome[] {Outcome.MISS, Outcome.SKIPPED, Outcome.SKIPPED, Outcome.MISS},
+                          outcomes(result));
+        assertEquals(2, result.getMissCount());
+        assertEquals(0, result.getHitCount());
+        assertEquals("_ _ _ _", result.getState().getMaskedWord());
+        assertEquals(4, result.getState().getRemainingErrors());
+        assertThrows(IllegalArgumentException.class, () -> engine.guessWord("JAVAS"));
+        assertThrows(IllegalArgumentException.class, () -> engine.guessWord("JAV4"));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessWord_AnagramNeverWins() {
+        GameState before = engine.getCurrentState();
+        for (String anagram : new String[] {"JAAV", "VAJA", "jaav"}) {
+            BatchGuessResult result = engine.guessWord(anagram);
+
+            assertEquals(GameState.Status.IN_PROGRESS, result.getState().getStatus(), anagram);
+            assertEquals(0, result.getHitCount());
+            assertEquals(before.getProposedMask(), result.getState().getProposedMask());
+        }
+
+        engine.startNewGame("CHIEN", 6);
+        engine.guessLetter('C');
+        BatchGuessResult result = engine.guessWord("NICHE");
+        assertEquals(Outcome.REPEAT, result.getOutcome(2));
+        assertEquals(Outcome.SKIPPED, result.getOutcome(0));
+        assertEquals("C _ _ _ _", result.getState().getMaskedWord());
+        assertFalse(engine.isGameOver());
+
+        // Seul le mot exact gagne
+        assertEquals(GameState.Status.WON, engine.guessWord("chien").getState().getStatus());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessWord_WrongWordCanLose() {
+        engine.startNewGame("JAVA", 2);
+        BatchGuessResult result = engine.guessWord("XYZA");
+
+        assertTrue(engine.hasLost());
+        assertArrayEquals(new Outcome[] {Outcome.MISS, Outcome.MISS, Outcome.SKIPPED, Outcome.SKIPPED},
+                          outcomes(result));
+        assertEquals(2, result.getAppliedCount());
+    }
+}
@@ -0,0 +1,178 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.model.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe GameSessionManager.
+ *
+ * Couvre :
+ * - création et fin de sessions
+ * - issue et état retournés ensemble
+ * - propositions concurrentes sur une même session
+ * - sans observateur, aucun appel ne prend le verrou d'une session
+ * @author MEDEV 2026
+ */
+public class GameSessionManagerTest {
+
+    private GameSessionManager manager;
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() {
+        manager = new GameSessionManager();
+    }
+
+    /* =======================
+     * Sessions
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testStartNewGame_DistinctSessions() {
+        long first = manager.startNewGame("JAVA", 6);
+        long second = manager.startNewGame("PENDU", 6);
+
+        assertNotEquals(first, second);
+        assertEquals(2, manager.getSessionCount());
+        assertEquals("JAVA", manager.getState(first).getSecretWord());
+        assertEquals("PENDU", manager.getState(second).getSecretWord());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEndSession() {
+        long id = manager.startNewGame("JAVA", 6);
+
+        assertNotNull(manager.endSession(id));
+        assertEquals(0, manager.getSessionCount());
+        assertThrows(IllegalArgumentException.class, () -> manager.getState(id));
+        assertThrows(IllegalArgumentException.class, () -> manager.guessLetter(id, 'A'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testStartNewGame_RestartExistingSession() {
+        long id = manager.startNewGame("JAVA", 6);
+        manager.guessLetter(id, 'Z');
+
+        manager.startNewGame(id, "PENDU", 7);
+
+        assertEquals("PENDU", manager.getState(id).getSecretWord());
+        assertEquals(7, manager.getState(id).getRemainingErrors());
+    }
+
+    /* =======================
+     * Propositions
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetter_ResultCarriesState() {
+        long id = manager.startNewGame("JAVA", 6);
+
+        GuessResult hit = manager.guessLetter(id, 'a');
+        assertTrue(hit.isCorrect());
+        assertFalse(hit.isAlreadyProposed());
+        assertEquals('A', hit.getLetter());
+        assertEquals("_ A _ A", hit.getState().getMaskedWord());
+
+        GuessResult miss = manager.guessLetter(id, 'Z');
+        assertFalse(miss.isCorrect());
+        assertEquals(5, miss.getState().getRemainingErrors());
+
+        GuessResult repeat = manager.guessLetter(id, 'A');
+        assertTrue(repeat.isCorrect());
+        assertTrue(repeat.isAlreadyProposed());
+        assertSame(miss.getState(), repeat.getState());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetter_ConcurrentGuessesAllApplied() throws Exception {
+        long id = manager.startNewGame("ABCDEFGHIJKLMNOPQRSTUVWXYZ", 6);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    int firstProposals = 0;
+                    try {
+                        for (char c = 'A'; c <= 'Z'; c++) {
+                            if (!manager.guessLetter(id, c).isAlreadyProposed()) {
+                                firstProposals++;
+                            }
+                        }
+                    } catch (IllegalStateException e) {
+                        // Un autre thread a proposé la dernière lettre
+                    }
+                    return firstProposals;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+
+            // Chaque lettre n'est appliquée qu'une seule fois, quel que soit le thread
+            assertEquals(26, total);
+            assertEquals(GameState.Status.WON, manager.getState(id).getStatus());
+            assertEquals(6, manager.getState(id).getRemainingErrors());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testWithoutListener_NeverBlocks() throws Exception {
+        long id = manager.startNewGame("JAVA", 6);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            // Verrou pris par le test : un appel qui l'attendrait ne finirait pas
+            synchronized (manager.session(id)) {
+                Future<GameState> calls = pool.submit(() -> {
+                    manager.guessLetter(id, 'A');
+                    manager.startNewGame(id, "PENDU", 6);
+                    manager.guessLetter(id, 'E');
+                    return manager.endSession(id);
+                });
+                GameState last = calls.get(10, TimeUnit.SECONDS);
+                assertEquals("_ E _ _ _", last.getMaskedWord());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.data.DictionaryCompiler;
+import edu.centralenantes.Hangman.model.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du solveur (HangmanSolver / SolverGame).
+ *
+ * Couvre :
+ * - filtrage des candidats (lettres justes, fausses, positions)
+ * - parties complètes sur les mots du dictionnaire
+ * - mot absent du dictionnaire
+ * - stratégie ENTROPY : gain d'information, calcul parallèle
+ * - index : doublons ignorés, même empreinte en texte et compilé
+ * @author MEDEV 2026
+ */
+public class HangmanSolverTest {
+
+    private static final String[] WORDS = {
+        "JAVA", "LAVA", "CODE", "MODE", "PENDU", "PYTHON", "ORDINATEUR",
+        "ALGORITHME", "CLAVIER", "ECRAN", "SOURIS", "MEMOIRE", "RESEAU"
+    };
+
+    @TempDir
+    Path tempDir;
+
+    private HangmanSolver solver;
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        solver = new HangmanSolver(load(WORDS));
+    }
+
+    private Dictionary load(String... words) throws IOException {
+        Path file = Files.createTempFile(tempDir, "dico", ".txt");
+        Files.write(file, String.join("\n", words).getBytes(StandardCharsets.UTF_8));
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        return dictionary;
+    }
+
+    // Mots tous distincts : l'index ne retient pas les doublons
+    private static String[] randomWords(int count, int length, int alphabet, long seed) {
+        Random random = new Random(seed);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < count) {
+            char[] chars = new char[length];
+            for (int p = 0; p < length; p++) {
+                chars[p] = (char) ('A' + random.nextInt(alphabet));
+            }
+            words.add(new String(chars));
+        }
+        return words.toArray(new String[0]);
+    }
+
+    private static long[] allCandidates(SolverIndex.Bucket bucket) {
+        long[] candidates = new long[bucket.wordsPerSet()];
+        for (int w = 0; w < bucket.size(); w++) {
+            candidates[w >>> 6] |= 1L << w;
+        }
+        return candidates;
+    }
+
+    /* =======================
+     * Filtrage des candidats
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testCandidates_FilteredByRevealedPositions() {
+        SolverGame game = solver.newGame(4);
+        assertEquals(4, game.getCandidateCount());
+
+        GameState state = new GameState("JAVA", 6).proposeLettre('A');
+        game.update('A', state);
+        assertEquals(2, game.getCandidateCount()); // JAVA, LAVA
+
+        state = state.proposeLettre('L');
+        game.update('L', state);
+        assertEquals(1, game.getCandidateCount()); // JAVA
+        assertEquals('J', game.nextLetter());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testCandidates_WrongLetterExcludesWords() {
+        SolverGame game = solver.newGame(4);
+
+        GameState state = new GameState("CODE", 6).proposeLettre('A');
+        game.update('A', state);
+
+        assertEquals(2, game.getCandidateCount()); // CODE, MODE
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testNextLetter_NeverRepeats() {
+        SolverGame game = solver.newGame(4);
+        GameState state = new GameState("CODE", 6);
+
+        for (int i = 0; i < 4; i++) {
+            char letter = game.nextLetter();
+            assertFalse(state.isLetterProposed(letter));
+            state = state.proposeLettre(letter);
+            game.update(letter, state);
+        }
+    }
+
+    /* =======================
+     * Parties complètes
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testSolve_WinsEveryDictionaryWord() {
+        for (String word : WORDS) {
+            GameState result = solver.solve(new GameState(word, 6));
+            assertEquals(GameState.Status.WON, result.getStatus(), word);
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testPlay_DrivesEngineToTheEnd() {
+        GameEngine engine = new GameEngine();
+        engine.startNewGame("pendu", 6);
+        engine.guessLetter('E');
+
+        GameState result = solver.play(engine);
+
+        assertTrue(engine.hasWon());
+        assertSame(engine.getCurrentState(), result);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testSolve_UnknownWordStillFinishes() {
+        GameState result = solver.solve(new GameState("XYLOPHONE", 6));
+
+        assertNotEquals(GameState.Status.IN_PROGRESS, result.getStatus());
+    }
+
+    /* =======================
+     * Stratégie ENTROPY
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testEntropy_PrefersSplittingLetter() throws IOException {
+        Dictionary dictionary = load("BAT", "CAT", "HAT", "MAT");
+
+        // A et T sont dans tous les mots : les plus fréquentes, mais sans information
+        assertEquals('A', new HangmanSolver(dictionary).newGame(3).nextLetter());
+        assertEquals('B', new HangmanSolver(dictionary, HangmanSolver.Strategy.ENTROPY).newGame(3).nextLetter());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEntropy_WinsEveryDictionaryWord() throws IOException {
+        HangmanSolver entropy = new HangmanSolver(load(WORDS), HangmanSolver.Strategy.ENTROPY);
+        assertEquals(HangmanSolver.Strategy.ENTROPY, entropy.getStrategy());
+
+        for (String word : WORDS) {
+            assertEquals(GameState.Status.WON, entropy.solve(new GameState(word, 6)).getStatus(), word);
+        }
+        assertNotEquals(GameState.Status.IN_PROGRESS, entropy.solve(new GameState("XYLOPHONE", 6)).getStatus());
+        assertThrows(IllegalArgumentException.class, () -> new HangmanSolver(load(WORDS), null));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEntropyScores_MatchMaskedWordPartitions() throws IOException {
+        String[] words = randomWords(500, 5, 6, 2026);
+        SolverIndex.Bucket bucket = new SolverIndex(load(words)).bucket(5);
+        double[] scores = EntropyScorer.scores(bucket, allCandidates(bucket), words.length,
+                                               GameState.letterBit('C'), Integer.MAX_VALUE);
+
+        for (char letter = 'A'; letter <= 'Z'; letter++) {
+            if (letter == 'C') {
+                assertEquals(-1, scores[letter - 'A']);
+                continue;
+            }
+            // Partage des mots selon le mot masqué qu'afficherait la proposition
+            Map<String, Integer> classes = new HashMap<>();
+            for (String word : words) {
+                classes.merge(new GameState(word, 26).proposeLettre(letter).getMaskedWord(), 1, Integer::sum);
+            }
+            double expected = 0;
+            for (int size : classes.values()) {
+                double p = (double) size / words.length;
+                expected -= p * Math.log(p) / Math.log(2);
+            }
+            assertEquals(expected, scores[letter - 'A'], 1e-9, String.valueOf(letter));
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEntropyScores_ParallelMatchesSequential() throws IOException {
+        String[] words = randomWords(2 * EntropyScorer.PARALLEL_THRESHOLD, 6, 26, 7);
+        SolverIndex.Bucket bucket = new SolverIndex(load(words)).bucket(6);
+        long[] candidates = allCandidates(bucket);
+        int proposed = GameState.letterBit('E') | GameState.letterBit('Z');
+
+        assertArrayEquals(EntropyScorer.scores(bucket, candidates, words.length, proposed, Integer.MAX_VALUE),
+                          EntropyScorer.scores(bucket, candidates, words.length, proposed, 0));
+    }
+
+    /* =======================
+     * Index
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testIndex_DuplicatesIgnored() throws IOException {
+        SolverIndex distinct = new SolverIndex(load("CODE", "ELEVE", "JAVA"));
+        SolverIndex duplicated = new SolverIndex(load("JAVA", "CODE", "java", "ÉLÈVE", "ELEVE", "CODE"));
+
+        assertEquals(distinct.fingerprint(), duplicated.fingerprint());
+        assertEquals(2, duplicated.bucket(4).size());
+        assertEquals(1, duplicated.bucket(5).size());
+
+        // Le dictionnaire compilé, sans doublons, a la même empreinte
+        Path source = Files.createTempFile(tempDir, "dico", ".txt");
+        Files.write(source, "JAVA\nCODE\nJAVA\nELEVE\n".getBytes(StandardCharsets.UTF_8));
+        Path target = tempDir.resolve("dico.bin");
+        DictionaryCompiler.compile(source, target, true, true);
+        Dictionary compiled = new Dictionary();
+        compiled.loadFromFile(target.toString());
+        assertEquals(distinct.fingerprint(), new SolverIndex(compiled).fingerprint());
+    }
+}
@@ -0,0 +1,220 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.model.GameState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du cache des premiers coups (OpeningBook).
+ *
+ * Couvre :
+ * - mêmes décisions avec et sans cache, pour les deux stratégies
+ * - mémoire LRU bornée
+ * - table précalculée : construction, lecture différée, dictionnaire différent
+ * - table illisible ou corrompue
+ * @author MEDEV 2026
+ */
+public class OpeningBookTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Dictionary load(String... words) throws IOException {
+        Path file = Files.createTempFile(tempDir, "dico", ".txt");
+        Files.write(file, String.join("\n", words).getBytes(StandardCharsets.UTF_8));
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        return dictionary;
+    }
+
+    private static String[] randomWords(int count, long seed) {
+        Random random = new Random(seed);
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            char[] chars = new char[4 + random.nextInt(5)];
+            for (int p = 0; p < chars.length; p++) {
+                chars[p] = (char) ('A' + random.nextInt(12));
+            }
+            words[i] = new String(chars);
+        }
+        return words;
+    }
+
+    /**
+     * Joue chaque mot avec les deux solveurs et compare les lettres proposées.
+     */
+    private static void assertSameGames(HangmanSolver expected, HangmanSolver actual, String... words) {
+        for (String word : words) {
+            GameState reference = expected.solve(new GameState(word, 6));
+            GameState cached = actual.solve(new GameState(word, 6));
+            assertEquals(reference.getProposedMask(), cached.getProposedMask(), word);
+            assertEquals(reference.getStatus(), cached.getStatus(), word);
+        }
+    }
+
+    /* =======================
+     * Mémoire
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testMemory_SameDecisions() throws IOException {
+        String[] words = randomWords(600, 11);
+        Dictionary dictionary = load(words);
+        for (HangmanSolver.Strategy strategy : HangmanSolver.Strategy.values()) {
+            OpeningBook book = new OpeningBook(OpeningBook.DEFAULT_CAPACITY, 4);
+            HangmanSolver cached = new HangmanSolver(dictionary, strategy, book);
+            assertSame(book, cached.getOpeningBook());
+
+            assertSameGames(new HangmanSolver(dictionary, strategy), cached, words);
+            assertSameGames(new HangmanSolver(dictionary, strategy), cached, "XYLOPHONE", "JAVA");
+
+            assertTrue(book.getCacheHits() > 0, strategy.name());
+            assertTrue(book.getMisses() > 0, strategy.name());
+            assertEquals(0, book.getTableHits());
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testMemory_BoundedLru() throws IOException {
+        String[] words = randomWords(200, 12);
+        Dictionary dictionary = load(words);
+        OpeningBook book = new OpeningBook(5, 3);
+        HangmanSolver cached = new HangmanSolver(dictionary, HangmanSolver.Strategy.FREQUENCY, book);
+
+        assertSameGames(new HangmanSolver(dictionary), cached, words);
+        assertEquals(5, book.getCachedCount());
+
+        // Premier coup pour chaque longueur : toujours le plus récent, donc jamais évincé
+        long hits = book.getCacheHits();
+        cached.newGame(words[words.length - 1].length()).nextLetter();
+        assertEquals(hits + 1, book.getCacheHits());
+
+        assertThrows(IllegalArgumentException.class, () -> new OpeningBook(-1, 3));
+        assertThrows(IllegalArgumentException.class, () -> new OpeningBook(10, -1));
+    }
+
+    /* =======================
+     * Table précalculée
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testTable_ColdSolverStartsWarm() throws IOException {
+        String[] words = randomWords(600, 13);
+        Dictionary dictionary = load(words);
+        Path table = tempDir.resolve("ouvertures.bin");
+        HangmanSolver.Strategy strategy = HangmanSolver.Strategy.ENTROPY;
+
+        int count = OpeningBook.build(new HangmanSolver(dictionary, strategy), 2, table);
+        assertTrue(count > 5);
+
+        OpeningBook book = new OpeningBook(OpeningBook.DEFAULT_CAPACITY, 2, table);
+        HangmanSolver cached = new HangmanSolver(dictionary, strategy, book);
+        assertSameGames(new HangmanSolver(dictionary, strategy), cached, words);
+
+        // Les deux premiers coups de chaque partie viennent de la table
+        assertEquals(2L * words.length, book.getTableHits() + book.getCacheHits() + book.getMisses());
+        assertEquals(2L * words.length, book.getTableHits());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testTable_DeeperThanBookDepth() throws IOException {
+        String[] words = randomWords(300, 14);
+        Dictionary dictionary = load(words);
+        Path table = tempDir.resolve("ouvertures.bin");
+        OpeningBook.build(new HangmanSolver(dictionary), 3, table);
+
+        OpeningBook book = new OpeningBook(OpeningBook.DEFAULT_CAPACITY, 1, table);
+        HangmanSolver cached = new HangmanSolver(dictionary, HangmanSolver.Strategy.FREQUENCY, book);
+        assertSameGames(new HangmanSolver(dictionary), cached, words);
+
+        assertEquals(0, book.getMisses());
+        assertTrue(book.getTableHits() > 2L * words.length);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testTable_OtherDictionaryIgnored() throws IOException {
+        Path table = tempDir.resolve("ouvertures.bin");
+        OpeningBook.build(new HangmanSolver(load(randomWords(300, 15))), 3, table);
+
+        String[] words = randomWords(300, 16);
+        Dictionary other = load(words);
+        OpeningBook book = new OpeningBook(OpeningBook.DEFAULT_CAPACITY, 3, table);
+        assertSameGames(new HangmanSolver(other), new HangmanSolver(other, HangmanSolver.Strategy.FREQUENCY, book),
+                        words);
+
+        assertEquals(0, book.getTableHits());
+        assertTrue(book.getMisses() > 0);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testTable_SameWordsOtherOrderShareFingerprint() throws IOException {
+        Path table = tempDir.resolve("ouvertures.bin");
+        OpeningBook.build(new HangmanSolver(load("JAVA", "LAVA", "CODE", "MODE")), 2, table);
+
+        OpeningBook book = new OpeningBook(OpeningBook.DEFAULT_CAPACITY, 2, table);
+        HangmanSolver solver = new HangmanSolver(load("MODE", "LAVA", "JAVA", "CODE"),
+                                                 HangmanSolver.Strategy.FREQUENCY, book);
+        assertEquals(GameState.Status.WON, solver.solve(new GameState("CODE", 6)).getStatus());
+
+        assertEquals(0, book.getMisses());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testTable_ReadLazilyAndChecked() throws IOException {
+        Dictionary dictionary = load("JAVA", "LAVA");
+        Path missing = tempDir.resolve("absente.bin");
+        // Aucune lecture avant la première décision
+        HangmanSolver solver = new HangmanSolver(dictionary, HangmanSolver.Strategy.FREQUENCY,
+                                                 new OpeningBook(16, 2, missing));
+        assertThrows(UncheckedIOException.class, () -> solver.newGame(4).nextLetter());
+
+        Path table = tempDir.resolve("ouvertures.bin");
+        OpeningBook.build(new HangmanSolver(dictionary), 2, table);
+        byte[] bytes = Files.readAllBytes(table);
+
+        Files.write(table, Arrays.copyOf(bytes, bytes.length - 1));
+        HangmanSolver truncated = new HangmanSolver(dictionary, HangmanSolver.Strategy.FREQUENCY,
+                                                    new OpeningBook(16, 2, table));
+        UncheckedIOException error = assertThrows(UncheckedIOException.class,
+                                                  () -> truncated.newGame(4).nextLetter());
+        assertTrue(error.getCause().getMessage().contains("corrompue"));
+
+        bytes[0] = 0;
+        Files.write(table, bytes);
+        HangmanSolver unsigned = new HangmanSolver(dictionary, HangmanSolver.Strategy.FREQUENCY,
+                                                   new OpeningBook(16, 2, table));
+        assertThrows(UncheckedIOException.class, () -> unsigned.newGame(4).nextLetter());
+    }
+}
@@ -0,0 +1,285 @@
+package edu.centralenantes.Hangman.engine;
+
+import edu.centralenantes.Hangman.codec.GameStateCodec;
+import edu.centralenantes.Hangman.model.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe SlabSessionStore.
+ *
+ * Couvre :
+ * - rangement, lecture et libération de sessions
+ * - réutilisation des emplacements libérés et ajout de blocs
+ * - identifiants périmés refusés après réutilisation d'un emplacement
+ * - propositions concurrentes sur une même session
+ * @author MEDEV 2026
+ */
+public class SlabSessionStoreTest {
+
+    private SlabSessionStore store;
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() {
+        store = new SlabSessionStore(GameStateCodec.inline(), 64);
+    }
+
+    /* =======================
+     * Sessions
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testStartNewGame_DistinctSessions() {
+        int first = store.startNewGame("JAVA", 6);
+        int second = store.startNewGame("PENDU", 7);
+
+        assertNotEquals(first, second);
+        assertEquals(2, store.size());
+        assertEquals("JAVA", store.getState(first).getSecretWord());
+        assertEquals(7, store.getState(second).getMaxErrors());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testStore_KeepsProgress() {
+        GameState state = new GameState("PENDU", 6).proposeLettre('E').proposeLettre('Z');
+
+        GameState stored = store.getState(store.store(state));
+
+        assertEquals(state.getProposedMask(), stored.getProposedMask());
+        assertEquals(5, stored.getRemainingErrors());
+        assertEquals("_ E _ _ _", stored.getMaskedWord());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testStore_RejectedStateFreesSlot() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> store.startNewGame("ANTICONSTITUTIONNELLEMENTS", 6));
+        assertEquals(0, store.size());
+        assertEquals(0, store.startNewGame("JAVA", 6));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRelease() {
+        int id = store.startNewGame("JAVA", 6);
+
+        store.release(id);
+
+        assertEquals(0, store.size());
+        assertThrows(IllegalArgumentException.class, () -> store.getState(id));
+        assertThrows(IllegalArgumentException.class, () -> store.guessLetter(id, 'A'));
+        assertThrows(IllegalArgumentException.class, () -> store.release(id));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testUnknownHandle() {
+        store.startNewGame("JAVA", 6);
+
+        assertThrows(IllegalArgumentException.class, () -> store.getState(-1));
+        assertThrows(IllegalArgumentException.class, () -> store.getState(1));
+        assertThrows(IllegalArgumentException.class, () -> store.getState(1_000));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRestartGame() {
+        int id = store.startNewGame("JAVA", 6);
+        store.guessLetter(id, 'Z');
+
+        store.restartGame(id, "PENDU", 7);
+
+        assertEquals("PENDU", store.getState(id).getSecretWord());
+        assertEquals(7, store.getState(id).getRemainingErrors());
+    }
+
+    /* =======================
+     * Emplacements
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testRelease_SlotReused() {
+        int first = store.startNewGame("JAVA", 6);
+        int second = store.startNewGame("PENDU", 6);
+        store.release(first);
+        store.release(second);
+
+        // Le dernier emplacement libéré est réutilisé en premier
+        int code = store.startNewGame("CODE", 6);
+        int mot = store.startNewGame("MOT", 6);
+        assertEquals(second, code & (SlabSessionStore.MAX_SLOTS - 1));
+        assertEquals(first, mot & (SlabSessionStore.MAX_SLOTS - 1));
+        assertEquals(2, store.startNewGame("ARBRE", 6));
+        assertEquals("CODE", store.getState(code).getSecretWord());
+        assertEquals("MOT", store.getState(mot).getSecretWord());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRelease_StaleHandleRejected() {
+        int stale = store.startNewGame("JAVA", 6);
+        store.release(stale);
+        int reused = store.startNewGame("PENDU", 6);
+
+        assertNotEquals(stale, reused);
+        assertThrows(IllegalArgumentException.class, () -> store.getState(stale));
+        assertThrows(IllegalArgumentException.class, () -> store.guessLetter(stale, 'E'));
+        assertThrows(IllegalArgumentException.class, () -> store.restartGame(stale, "CODE", 6));
+        assertThrows(IllegalArgumentException.class, () -> store.release(stale));
+        assertEquals("PENDU", store.getState(reused).getSecretWord());
+        assertEquals(1, store.size());
+
+        // Chaque libération change l'identifiant de l'emplacement
+        int previous = reused;
+        for (int i = 0; i < 10; i++) {
+            store.release(previous);
+            int next = store.startNewGame("CODE", 6);
+            assertNotEquals(previous, next);
+            previous = next;
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testStore_GrowsSlabs() {
+        int count = 1_000;
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, store.startNewGame(i % 2 == 0 ? "JAVA" : "PENDU", 1 + i % 10));
+        }
+
+        assertEquals(count, store.size());
+        assertEquals(16L * 64 * GameStateCodec.inline().getRecordSize(), store.getOffHeapBytes());
+        for (int i = 0; i < count; i++) {
+            assertEquals(1 + i % 10, store.getState(i).getMaxErrors());
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testConstructor_InvalidSlabSize() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new SlabSessionStore(GameStateCodec.inline(), 100));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new SlabSessionStore(GameStateCodec.inline(), 1 << 30));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new SlabSessionStore(GameStateCodec.inline(), 32));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new SlabSessionStore(GameStateCodec.inline(), SlabSessionStore.MAX_SLOTS * 2));
+    }
+
+    /* =======================
+     * Propositions
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetter_ResultCarriesState() {
+        int id = store.startNewGame("JAVA", 6);
+
+        GuessResult hit = store.guessLetter(id, 'a');
+        assertTrue(hit.isCorrect());
+        assertEquals('A', hit.getLetter());
+        assertEquals("_ A _ A", hit.getState().getMaskedWord());
+
+        GuessResult miss = store.guessLetter(id, 'Z');
+        assertFalse(miss.isCorrect());
+        assertEquals(5, miss.getState().getRemainingErrors());
+
+        GuessResult repeat = store.guessLetter(id, 'A');
+        assertTrue(repeat.isAlreadyProposed());
+        assertEquals(5, store.getState(id).getRemainingErrors());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetter_FinishedGame() {
+        int id = store.startNewGame("A", 6);
+        store.guessLetter(id, 'A');
+
+        assertEquals(GameState.Status.WON, store.getState(id).getStatus());
+        assertThrows(IllegalStateException.class, () -> store.guessLetter(id, 'B'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testGuessLetter_ConcurrentGuessesAllApplied() throws Exception {
+        int id = store.startNewGame("ABCDEFGHIJKLMNOPQRSTUVWXY", 6);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    int firstProposals = 0;
+                    try {
+                        for (char c = 'A'; c <= 'Y'; c++) {
+                            if (!store.guessLetter(id, c).isAlreadyProposed()) {
+                                firstProposals++;
+                            }
+                        }
+                    } catch (IllegalStateException e) {
+                        // Un autre thread a proposé la dernière lettre
+                    }
+                    return firstProposals;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(25, total);
+            assertEquals(GameState.Status.WON, store.getState(id).getStatus());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package edu.centralenantes.Hangman.journal;
+
+import edu.centralenantes.Hangman.engine.GameSessionManager;
+import edu.centralenantes.Hangman.model.GameState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe GameJournal.
+ *
+ * Couvre :
+ * - relecture après réouverture, mots accentués compris
+ * - changement de segment et compactage
+ * - enregistrement tronqué en fin de segment
+ * - sync concurrents (group commit)
+ * - même ordre au journal qu'en mémoire sous propositions concurrentes
+ * @author MEDEV 2026
+ */
+public class GameJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.getSecretWord(), actual.getSecretWord());
+        assertEquals(expected.getProposedMask(), actual.getProposedMask());
+        assertEquals(expected.getRemainingErrors(), actual.getRemainingErrors());
+        assertEquals(expected.getMaxErrors(), actual.getMaxErrors());
+        assertEquals(expected.getStatus(), actual.getStatus());
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(f -> f.toString().endsWith(".seg")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /* ==================== Relecture ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testReplayAfterReopen() throws IOException {
+        GameSessionManager sessions;
+        long java;
+        long pendu;
+        long ended;
+        try (GameJournal journal = GameJournal.open(tempDir)) {
+            sessions = new GameSessionManager(journal);
+            java = sessions.startNewGame("java", 6);
+            pendu = sessions.startNewGame("ANTICONSTITUTIONNELLEMENTXYZABCD", 3);
+            ended = sessions.startNewGame("CODE", 6);
+            sessions.guessLetter(java, 'a');
+            sessions.guessLetter(java, 'A');
+            sessions.guessLetter(java, 'Z');
+            sessions.guessLetter(pendu, 'N');
+            sessions.guessLetter(ended, 'C');
+            sessions.endSession(ended);
+            journal.sync();
+            assertEquals(8, journal.getAppendedCount());
+        }
+
+        try (GameJournal journal = GameJournal.open(tempDir)) {
+            GameSessionManager restored = new GameSessionManager();
+            assertEquals(2, journal.replayInto(restored));
+            assertSameState(sessions.getState(java), restored.getState(java));
+            assertSameState(sessions.getState(pendu), restored.getState(pendu));
+            assertFalse(restored.hasSession(ended));
+            assertTrue(restored.startNewGame("MODE", 6) > pendu);
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testReplayAccentedWord() throws IOException {
+        GameSessionManager sessions;
+        long id;
+        try (GameJournal journal = GameJournal.open(tempDir)) {
+            sessions = new GameSessionManager(journal);
+            id = sessions.startNewGame("élève", 6);
+            // Journalisée comme E
+            sessions.guessLetter(id, 'é');
+            sessions.guessLetter(id, 'X');
+            journal.sync();
+        }
+
+        try (GameJournal journal = GameJournal.open(tempDir)) {
+            GameSessionManager restored = new GameSessionManager();
+            assertEquals(1, journal.replayInto(restored));
+            assertSameState(sessions.getState(id), restored.getState(id));
+            assertEquals("É _ È _ E", restored.getState(id).getMaskedWord());
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRejectsWordTooLong() throws IOException {
+        try (GameJournal journal = GameJournal.open(tempDir)) {
+            GameSessionManager sessions = new GameSessionManager(journal);
+            assertThrows(IllegalArgumentException.class,
+                    () -> sessions.startNewGame("A".repeat(GameJournal.MAX_WORD_LENGTH + 1), 6));
+            assertEquals(0, sessions.getSessionCount());
+        }
+    }
+
+    /* ==================== Segments ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testRollOverAndCompaction() throws IOException {
+        try (GameJournal journal = GameJournal.open(tempDir, 16, 5)) {
+            GameSessionManager sessions = new GameSessionManager(journal);
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                long id = sessions.startNewGame("JAVA", 6);
+                ids.add(id);
+                sessions.guessLetter(id, 'J');
+                if (i % 4 != 0) {
+                    // Partie gagnée : ses événements peuvent disparaître au compactage
+                    sessions.guessLetter(id, 'A');
+                    sessions.guessLetter(id, 'V');
+                }
+            }
+            // Le compactage en tâche de fond a pu fusionner des segments : on
+            // vérifie la bascule au numéro du segment actif
+            List<Path> files = segmentFiles();
+            assertTrue(files.get(files.size() - 1).getFileName().toString()
+                            .compareTo("journal-00000002.seg") > 0, files.toString());
+
+            journal.compact();
+            assertEquals(2, journal.getSegmentCount());
+            assertEquals(2, segmentFiles().size());
+
+            Map<Long, GameState> replayed = journal.replay();
+            for (long id : ids) {
+                GameState state = sessions.getState(id);
+                if (state.getStatus() == GameState.Status.IN_PROGRESS) {
+                    assertSameState(state, replayed.get(id));
+                } else if (replayed.containsKey(id)) {
+                    assertSameState(state, replayed.get(id));
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testCorruptedTailIsIgnored() throws IOException {
+        long id;
+        try (GameJournal journal = GameJournal.open(tempDir)) {
+            GameSessionManager sessions = new GameSessionManager(journal);
+            id = sessions.startNewGame("JAVA", 6);
+            sessions.guessLetter(id, 'A');
+            sessions.guessLetter(id, 'V');
+        }
+
+        // Dernier enregistrement abîmé (écriture interrompue)
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0x5A}), 2L * GameJournal.RECORD_SIZE + 20);
+        }
+
+        try (GameJournal journal = GameJournal.open(tempDir)) {
+            GameState state = journal.replay().get(id);
+            assertEquals("_ A _ A", state.getMaskedWord());
+        }
+    }
+
+    /* ==================== Durabilité ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testConcurrentSync() throws Exception {
+        try (GameJournal journal = GameJournal.open(tempDir, 1024, 50)) {
+            GameSessionManager sessions = new GameSessionManager(journal);
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    futures.add(pool.submit(() -> {
+                        for (int i = 0; i < 50; i++) {
+                            long id = sessions.startNewGame("PENDU", 6);
+                            sessions.guessLetter(id, 'E');
+                            journal.sync();
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+            assertEquals(400, journal.getAppendedCount());
+            assertEquals(200, journal.replay().size());
+        }
+    }
+
+    /* ==================== Ordre des événements ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testConcurrentGuessesReplaySameState() throws Exception {
+        String[] words = {"PENDU", "JAVA", "ORDINATEUR", "ÉLÈVE"};
+        int sessionCount = 4;
+        try (GameJournal journal = GameJournal.open(tempDir)) {
+            GameSessionManager sessions = new GameSessionManager(journal);
+            for (long id = 1; id <= sessionCount; id++) {
+                sessions.startNewGame(id, words[(int) id - 1], 6);
+            }
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    long seed = t;
+                    futures.add(pool.submit(() -> {
+                        Random random = new Random(seed);
+                        for (int i = 0; i < 2000; i++) {
+                            long id = 1 + random.nextInt(sessionCount);
+                            if (random.nextInt(40) == 0) {
+                                sessions.startNewGame(id, words[random.nextInt(words.length)], 6);
+                            } else if (sessions.getState(id).getStatus() == GameState.Status.IN_PROGRESS) {
+                                try {
+                                    sessions.guessLetter(id, (char) ('A' + random.nextInt(26)));
+                                } catch (IllegalStateException finished) {
+                                    // Partie terminée par un autre thread entre-temps
+                                }
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+            journal.sync();
+
+            Map<Long, GameState> replayed = journal.replay();
+            assertEquals(sessionCount, replayed.size());
+            for (long id = 1; id <= sessionCount; id++) {
+                assertSameState(sessions.getState(id), replayed.get(id));
+            }
+        }
+    }
+}
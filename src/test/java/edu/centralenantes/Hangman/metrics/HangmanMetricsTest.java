@@ -0,0 +1,253 @@
+package edu.centralenantes.Hangman.metrics;
+
+import edu.centralenantes.Hangman.engine.GameEngine;
+import edu.centralenantes.Hangman.engine.GameEventListener;
+import edu.centralenantes.Hangman.engine.GameSessionManager;
+import edu.centralenantes.Hangman.model.GameState;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe HangmanMetrics.
+ *
+ * Couvre :
+ * - comptage des parties et des propositions par le moteur et par les sessions
+ * - désactivation
+ * - threads terminés : compteurs conservés, enregistreurs oubliés
+ * - instantané texte et publication JMX
+ * @author MEDEV 2026
+ */
+public class HangmanMetricsTest {
+
+    /* =======================
+     * Moteur
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testEngine_CountsGames() {
+        HangmanMetrics metrics = new HangmanMetrics(true);
+        GameEngine engine = new GameEngine(metrics);
+
+        engine.startNewGame("JAVA", 6);
+        engine.guessLetter('J');
+        engine.guessLetter('J');
+        engine.guessLetter('Z');
+        engine.guessLetter('A');
+        engine.guessLetter('V');
+
+        engine.startNewGame("A", 1);
+        engine.guessLetter('B');
+
+        assertEquals(2, metrics.getGamesStarted());
+        assertEquals(1, metrics.getGamesWon());
+        assertEquals(1, metrics.getGamesLost());
+        // Les lettres déjà proposées ne comptent pas
+        assertEquals(5, metrics.getGuesses());
+        assertEquals(2.5, metrics.getMeanGuessesPerGame(), 1e-9);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEngine_AbandonedGameGuessesCounted() {
+        HangmanMetrics metrics = new HangmanMetrics(true);
+        GameEngine engine = new GameEngine(metrics);
+
+        engine.startNewGame("JAVA", 6);
+        engine.guessLetter('J');
+        engine.startNewGame("PENDU", 6);
+
+        assertEquals(2, metrics.getGamesStarted());
+        assertEquals(0, metrics.getGamesWon() + metrics.getGamesLost());
+        assertEquals(1, metrics.getGuesses());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEngine_HandedOverBetweenThreads() throws InterruptedException {
+        HangmanMetrics metrics = new HangmanMetrics(true);
+        GameEngine engine = new GameEngine(metrics);
+
+        engine.startNewGame("JAVA", 6);
+        Thread other = new Thread(() -> {
+            engine.guessLetter('J');
+            engine.guessLetter('A');
+            engine.guessLetter('V');
+            engine.startNewGame("A", 6);
+        });
+        other.start();
+        other.join();
+        engine.guessLetter('A');
+
+        // L'enregistreur suit le moteur, pas le thread qui a fini
+        assertEquals(2, metrics.getGamesStarted());
+        assertEquals(2, metrics.getGamesWon());
+        assertEquals(4, metrics.getGuesses());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEngine_SampledGuessLatency() {
+        HangmanMetrics metrics = new HangmanMetrics(true);
+        GameEngine engine = new GameEngine(metrics);
+        int games = HangmanMetrics.SAMPLE_INTERVAL;
+
+        for (int i = 0; i < games; i++) {
+            engine.startNewGame("ABCDEFGHIJKLMNOPQRSTUVWXYZ", 6);
+            for (char c = 'A'; c <= 'Z'; c++) {
+                engine.guessLetter(c);
+            }
+        }
+
+        assertEquals(26, metrics.getGuessLatency().getCount());
+        assertEquals(games * 26, metrics.getGuesses());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testDisabled_RecordsNothing() {
+        HangmanMetrics metrics = new HangmanMetrics(false);
+        GameEngine engine = new GameEngine(metrics);
+
+        engine.startNewGame("A", 6);
+        engine.guessLetter('A');
+        metrics.screenRendered(1_000);
+        metrics.dictionaryLoaded(10, 1_000);
+
+        assertFalse(metrics.isEnabled());
+        assertEquals(0, metrics.getGamesStarted());
+        assertEquals(0, metrics.getGamesWon());
+        assertEquals(0, metrics.getRenderTime().getCount());
+        assertEquals(0, metrics.getDictionaryWordCount());
+    }
+
+    /* =======================
+     * Sessions
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testSessions_CountGames() {
+        HangmanMetrics metrics = new HangmanMetrics(true);
+        GameSessionManager sessions = new GameSessionManager(GameEventListener.NONE, metrics);
+
+        long won = sessions.startNewGame("JAVA", 6);
+        sessions.guessLetter(won, 'J');
+        sessions.guessLetter(won, 'J');
+        sessions.guessLetter(won, 'A');
+        sessions.guessLetter(won, 'V');
+
+        long lost = sessions.startNewGame("A", 1);
+        sessions.guessLetter(lost, 'B');
+        sessions.endSession(lost);
+
+        assertEquals(2, metrics.getGamesStarted());
+        assertEquals(1, metrics.getGamesWon());
+        assertEquals(1, metrics.getGamesLost());
+        assertEquals(4, metrics.getGuesses());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testSessions_AbandonedGameGuessesCounted() {
+        HangmanMetrics metrics = new HangmanMetrics(true);
+        GameSessionManager sessions = new GameSessionManager(GameEventListener.NONE, metrics);
+
+        long id = sessions.startNewGame("JAVA", 6);
+        sessions.guessLetter(id, 'J');
+        sessions.startNewGame(id, "PENDU", 6);
+        sessions.guessLetter(id, 'E');
+        sessions.guessLetter(id, 'Z');
+        sessions.endSession(id);
+
+        assertEquals(2, metrics.getGamesStarted());
+        assertEquals(0, metrics.getGamesWon() + metrics.getGamesLost());
+        assertEquals(3, metrics.getGuesses());
+    }
+
+    /* =======================
+     * Threads terminés
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testDeadThreads_CountsKeptRecordersDropped() throws InterruptedException {
+        HangmanMetrics metrics = new HangmanMetrics(true);
+        for (int t = 0; t < 200; t++) {
+            Thread thread = new Thread(() -> {
+                metrics.gameStarted();
+                metrics.gameEnded(GameState.Status.WON, 3);
+            });
+            thread.start();
+            thread.join();
+        }
+
+        assertEquals(200, metrics.getGamesStarted());
+        assertEquals(200, metrics.getGamesWon());
+        assertEquals(600, metrics.getGuesses());
+        assertEquals(0, metrics.getRecorderCount());
+
+        metrics.reset();
+        metrics.gameStarted();
+        assertEquals(1, metrics.getGamesStarted());
+        assertEquals(1, metrics.getRecorderCount());
+    }
+
+    /* =======================
+     * Publication
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testSnapshotAndReset() {
+        HangmanMetrics metrics = new HangmanMetrics(true);
+        metrics.gameStarted();
+        metrics.gameEnded(GameState.Status.WON, 4);
+        metrics.dictionaryLoaded(1_234, 5_000_000);
+
+        String snapshot = metrics.getSnapshot();
+        assertTrue(snapshot.contains("1 démarrées, 1 gagnées, 0 perdues"), snapshot);
+        assertTrue(snapshot.contains("1234 mots, chargé en 5 ms"), snapshot);
+
+        metrics.reset();
+        assertEquals(0, metrics.getGamesStarted());
+        assertEquals(0, metrics.getDictionaryLoadMillis());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRegisterMBean() throws Exception {
+        HangmanMetrics metrics = HangmanMetrics.global();
+        ObjectName name = metrics.registerMBean();
+        assertEquals(name, metrics.registerMBean());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertTrue(server.isRegistered(name));
+        assertEquals(metrics.getGamesStarted(), (Long) server.getAttribute(name, "GamesStarted"));
+        assertTrue(server.getAttribute(name, "Snapshot").toString().startsWith("Parties"));
+    }
+}
@@ -0,0 +1,86 @@
+package edu.centralenantes.Hangman.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe Histogram.
+ *
+ * Couvre :
+ * - découpage log-linéaire des classes
+ * - centiles, moyenne et maximum
+ * - remise à zéro
+ * @author MEDEV 2026
+ */
+public class HistogramTest {
+
+    /* =======================
+     * Classes
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testBuckets_ContainTheirValues() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(value <= Histogram.highestValueOf(bucket), "valeur " + value);
+            assertTrue(bucket == 0 || value > Histogram.highestValueOf(bucket - 1), "valeur " + value);
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testBuckets_RelativePrecision() {
+        for (long value = 16; value < 1L << 40; value = value * 3 + 1) {
+            long highest = Histogram.highestValueOf(Histogram.bucketOf(value));
+            assertTrue(highest - value <= value / Histogram.SUB_BUCKETS, "valeur " + value);
+        }
+    }
+
+    /* =======================
+     * Statistiques
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testPercentiles() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        assertEquals(1_000, histogram.getCount());
+        assertEquals(500_500.0, histogram.getMean(), 1e-9);
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 / Histogram.SUB_BUCKETS);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 / Histogram.SUB_BUCKETS);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEmptyAndReset() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0.0, histogram.getMean());
+
+        histogram.record(-5);
+        histogram.record(42);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+}
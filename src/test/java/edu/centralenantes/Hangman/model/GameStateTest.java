@@ -3,6 +3,10 @@ package edu.centralenantes.Hangman.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -14,7 +18,10 @@ import static org.junit.jupiter.api.Assertions.*;
  * - transitions d'état
  * - lettres répétées
  * - lettres invalides
+ * - propositions groupées
+ * - lettres accentuées et ligatures
  * - victoire / défaite
+ * - restauration et sérialisation
  * - non-régression des règles principales
  * @author Mohamadou dia and Safae Bouzidi
  * Conforme au TP MEDEV Janvier 2026.
@@ -252,6 +259,209 @@ public class GameStateTest {
         assertEquals("J A V A", state.getMaskedWord());
     }
 
+    /**
+     *
+     */
+    @Test
+    void testMaskedWord_ReusedAfterWrongLetter() {
+        GameState state = initialState.proposeLettre('J');
+        String masked = state.getMaskedWord();
+
+        GameState afterMiss = state.proposeLettre('Z');
+        assertSame(masked, afterMiss.getMaskedWord());
+        assertSame(masked, state.getMaskedWord());
+
+        GameState afterHit = afterMiss.proposeLettre('A');
+        assertEquals("J A _ A", afterHit.getMaskedWord());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRevealedChar() {
+        GameState state = initialState.proposeLettre('A');
+
+        assertEquals('_', state.getRevealedChar(0));
+        assertEquals('A', state.getRevealedChar(1));
+        assertEquals('A', state.getRevealedChar(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> state.getRevealedChar(4));
+    }
+
+    /* =======================
+     * Propositions groupées
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testProposeLetters_SameAsSequentialProposals() {
+        String[] batches = {"", "A", "aJv", "XYZ", "AAXA", "ZXWYKHBGF", "EAIOUNTSLRCDPMVQ"};
+        for (String word : new String[] {"JAVA", "ÉLÈVE", "ANTICONSTITUTIONNELLEMENT"}) {
+            for (String batch : batches) {
+                GameState sequential = new GameState(word, 6);
+                for (int i = 0; i < batch.length() && sequential.getStatus() == GameState.Status.IN_PROGRESS; i++) {
+                    sequential = sequential.proposeLettre(batch.charAt(i));
+                }
+                GameState batched = new GameState(word, 6).proposeLetters(batch);
+
+                assertEquals(sequential.getProposedMask(), batched.getProposedMask(), word + " " + batch);
+                assertEquals(sequential.getRemainingErrors(), batched.getRemainingErrors());
+                assertEquals(sequential.getStatus(), batched.getStatus());
+                assertEquals(sequential.getMaskedWord(), batched.getMaskedWord());
+            }
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testProposeLetters_StopsAtEndOfGame() {
+        // Victoire à V : Z n'est pas lu
+        GameState won = initialState.proposeLetters("JAVZ");
+        assertEquals(GameState.Status.WON, won.getStatus());
+        assertFalse(won.isLetterProposed('Z'));
+
+        GameState lost = new GameState("JAVA", 2).proposeLetters("XYJ");
+        assertEquals(GameState.Status.LOST, lost.getStatus());
+        assertFalse(lost.isLetterProposed('J'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testProposeLetters_InvalidOrFinished() {
+        assertSame(initialState, initialState.proposeLetters(""));
+        GameState state = initialState.proposeLetters("A");
+        assertSame(state, state.proposeLetters("aA"));
+
+        // Un caractère invalide fait refuser tout le lot, même après la fin de partie
+        assertThrows(IllegalArgumentException.class, () -> initialState.proposeLetters("J1"));
+        assertThrows(IllegalArgumentException.class, () -> initialState.proposeLetters("JAV1"));
+        assertThrows(IllegalStateException.class,
+                () -> initialState.proposeLetters("JAV").proposeLetters("X"));
+    }
+
+    /* =======================
+     * Lettres accentuées
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testAccents_BaseLetterRevealsAccentedForms() {
+        GameState state = new GameState("élève", 6);
+        assertEquals("ÉLÈVE", state.getSecretWord());
+
+        state = state.proposeLettre('E');
+        assertEquals("É _ È _ E", state.getMaskedWord());
+        assertEquals(6, state.getRemainingErrors());
+
+        state = state.proposeLettre('l').proposeLettre('V');
+        assertEquals(GameState.Status.WON, state.getStatus());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testAccents_AccentedGuessCountsAsBaseLetter() {
+        GameState state = new GameState("GARÇON", 6).proposeLettre('ç');
+
+        assertTrue(state.isLetterProposed('C'));
+        assertEquals("_ _ _ Ç _ _", state.getMaskedWord());
+        assertSame(state, state.proposeLettre('C'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testAccents_LigatureNeedsBothLetters() {
+        GameState state = new GameState("CŒUR", 6).proposeLettre('O');
+        assertEquals("_ _ _ _", state.getMaskedWord());
+
+        state = state.proposeLettre('E');
+        assertEquals("_ Œ _ _", state.getMaskedWord());
+
+        // Une ligature n'est pas une proposition valide
+        GameState current = state;
+        assertThrows(IllegalArgumentException.class, () -> current.proposeLettre('Œ'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testAccents_RestoreAndInvalidCharacters() {
+        GameState played = new GameState("ÉTÉ", 3).proposeLettre('X').proposeLettre('E');
+        GameState restored = GameState.restore("été", 3, played.getProposedMask(), 2);
+
+        assertEquals(played.getMaskedWord(), restored.getMaskedWord());
+        assertThrows(IllegalArgumentException.class, () -> new GameState("PRIX×2", 6));
+        assertThrows(IllegalArgumentException.class, () -> new GameState("ΑΒΓ", 6));
+    }
+
+    /* =======================
+     * Restauration / sérialisation
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testRestore_MatchesPlayedState() {
+        GameState played = initialState.proposeLettre('A').proposeLettre('Z').proposeLettre('J');
+        GameState restored = GameState.restore("java", 6, played.getProposedMask(), 5);
+
+        assertEquals("JAVA", restored.getSecretWord());
+        assertEquals(played.getMaskedWord(), restored.getMaskedWord());
+        assertEquals(GameState.Status.IN_PROGRESS, restored.getStatus());
+        assertEquals(GameState.Status.WON,
+                     GameState.restore("JAVA", 6, played.getProposedMask() | GameState.letterBit('V'), 5).getStatus());
+        assertEquals(GameState.Status.LOST,
+                     GameState.restore("JAVA", 1, GameState.letterBit('Z'), 0).getStatus());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRestore_RejectsInconsistentState() {
+        int ajv = GameState.letterBit('A') | GameState.letterBit('J') | GameState.letterBit('V');
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore("JAVA", 6, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore("JAVA", 6, 1 << 26, 6));
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore("J4VA", 6, 0, 6));
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore("JAVA", 0, 0, 0));
+        // Mot trouvé après la dernière erreur : état inatteignable
+        assertThrows(IllegalArgumentException.class,
+                     () -> GameState.restore("JAVA", 1, ajv | GameState.letterBit('Z'), 0));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testSerialization_RoundTrip() throws Exception {
+        GameState state = initialState.proposeLettre('A').proposeLettre('E');
+        state.getMaskedWord();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            GameState copy = (GameState) in.readObject();
+            assertEquals(state.getProposedMask(), copy.getProposedMask());
+            assertEquals(state.getRemainingErrors(), copy.getRemainingErrors());
+            assertEquals("_ A _ A", copy.getMaskedWord());
+        }
+    }
+
     /* =======================
      * Immutabilité / getters
      * ======================= */
@@ -0,0 +1,120 @@
+package edu.centralenantes.Hangman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la table de repli LetterFolding.
+ *
+ * Couvre :
+ * - lettres A-Z et lettres accentuées courantes
+ * - ligatures et lettres sans décomposition
+ * - couverture de Latin-1 et Latin étendu A
+ * - mise en majuscules sans changement de longueur
+ * @author MEDEV 2026
+ */
+public class LetterFoldingTest {
+
+    private static int bit(char letter) {
+        return 1 << (letter - 'A');
+    }
+
+    /* =======================
+     * Repli
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testAsciiLetters() {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            assertEquals(bit(c), LetterFolding.letterMask(c));
+            assertEquals(bit(c), LetterFolding.letterMask(Character.toLowerCase(c)));
+            assertEquals(c, LetterFolding.baseLetter(Character.toLowerCase(c)));
+        }
+        assertEquals(0, LetterFolding.letterMask('1'));
+        assertEquals(0, LetterFolding.letterMask('@'));
+        assertEquals(0, LetterFolding.letterMask('['));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testFrenchAccents() {
+        for (char c : "ÉÈÊËéèêë".toCharArray()) {
+            assertEquals('E', LetterFolding.baseLetter(c));
+        }
+        for (char c : "ÀÂÄàâä".toCharArray()) {
+            assertEquals('A', LetterFolding.baseLetter(c));
+        }
+        assertEquals('C', LetterFolding.baseLetter('ç'));
+        assertEquals('I', LetterFolding.baseLetter('ï'));
+        assertEquals('U', LetterFolding.baseLetter('ù'));
+        assertEquals('Y', LetterFolding.baseLetter('ÿ'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLigaturesAndSpecialLetters() {
+        assertEquals(bit('O') | bit('E'), LetterFolding.letterMask('Œ'));
+        assertEquals(bit('A') | bit('E'), LetterFolding.letterMask('æ'));
+        assertEquals(0, LetterFolding.letterBit('Œ'));
+        assertEquals(0, LetterFolding.baseLetter('æ'));
+
+        assertEquals('S', LetterFolding.baseLetter('ß'));
+        assertEquals('O', LetterFolding.baseLetter('Ø'));
+        assertEquals('L', LetterFolding.baseLetter('ł'));
+        assertEquals('D', LetterFolding.baseLetter('Đ'));
+        assertEquals('I', LetterFolding.baseLetter('ı'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testCoverage() {
+        // Toute lettre de U+00C0..U+017F se replie ; rien au-delà de la table
+        for (char c = 0xC0; c < 0x180; c++) {
+            assertEquals(Character.isLetter(c), LetterFolding.letterMask(c) != 0, "U+" + Integer.toHexString(c));
+        }
+        assertEquals(0, LetterFolding.letterMask('×'));
+        assertEquals(0, LetterFolding.letterMask('÷'));
+        assertEquals(0, LetterFolding.letterMask('µ'));
+        assertEquals(0, LetterFolding.letterMask('Ǆ'));
+        assertEquals(0, LetterFolding.letterMask('Ω'));
+    }
+
+    /* =======================
+     * Majuscules
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testToUpperCase() {
+        assertEquals("ÉLÈVE", LetterFolding.toUpperCase("élève"));
+        assertEquals("CŒUR", LetterFolding.toUpperCase("cœur"));
+        assertEquals("STRAßE", LetterFolding.toUpperCase("straße"));
+        assertEquals("KAPI", LetterFolding.toUpperCase("kapı"));
+        assertEquals('Ÿ', LetterFolding.toUpperCase('ÿ'));
+        assertEquals('Ω', LetterFolding.toUpperCase('Ω'));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testIsWord() {
+        assertTrue(LetterFolding.isWord("Garçon"));
+        assertTrue(LetterFolding.isWord("cœur"));
+        assertFalse(LetterFolding.isWord(""));
+        assertFalse(LetterFolding.isWord("JA VA"));
+        assertFalse(LetterFolding.isWord("R2D2"));
+    }
+}
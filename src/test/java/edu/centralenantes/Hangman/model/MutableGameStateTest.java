@@ -0,0 +1,147 @@
+package edu.centralenantes.Hangman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe MutableGameState.
+ *
+ * Couvre :
+ * - test différentiel : mêmes issues que GameState sur des parties aléatoires
+ * - réinitialisation et réutilisation d'une instance
+ * - conversions vers et depuis GameState
+ * @author MEDEV 2026
+ */
+public class MutableGameStateTest {
+
+    private static final String[] WORDS = {
+        "JAVA", "PENDU", "ÉLÈVE", "CŒUR", "GARÇON", "ANTICONSTITUTIONNELLEMENT", "Z", "AAAAAA"
+    };
+
+    /** Lettres proposées, accents et répétitions compris. */
+    private static final String GUESSES = "ABCDEFGHIJKLMNOPQRSTUVWXYZéçàAE";
+
+    private static void assertSameGame(GameState expected, MutableGameState actual) {
+        assertEquals(expected.getSecretWord(), actual.getSecretWord());
+        assertEquals(expected.getSecretMask(), actual.getSecretMask());
+        assertEquals(expected.getProposedMask(), actual.getProposedMask());
+        assertEquals(expected.getRemainingErrors(), actual.getRemainingErrors());
+        assertEquals(expected.getMaxErrors(), actual.getMaxErrors());
+        assertEquals(expected.getErrorCount(), actual.getErrorCount());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getMaskedWord(), actual.getMaskedWord());
+    }
+
+    /* =======================
+     * Test différentiel
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testDifferential_RandomGames() {
+        SplittableRandom random = new SplittableRandom(2026);
+        MutableGameState mutable = new MutableGameState("INIT", 1);
+        for (int game = 0; game < 5_000; game++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            int maxErrors = 1 + random.nextInt(8);
+            GameState immutable = new GameState(word, maxErrors);
+            mutable.reset(word, maxErrors);
+            assertSameGame(immutable, mutable);
+
+            while (immutable.getStatus() == GameState.Status.IN_PROGRESS) {
+                char letter = GUESSES.charAt(random.nextInt(GUESSES.length()));
+                boolean correct = (immutable.getSecretMask() & GameState.letterBit(letter)) != 0;
+                immutable = immutable.proposeLettre(letter);
+
+                assertEquals(correct, mutable.proposeLettre(letter));
+                assertEquals(immutable.isLetterProposed(letter), mutable.isLetterProposed(letter));
+                assertSameGame(immutable, mutable);
+            }
+
+            // Partie terminée : les deux formes refusent toute proposition
+            GameState ended = immutable;
+            assertThrows(IllegalStateException.class, () -> ended.proposeLettre('A'));
+            assertThrows(IllegalStateException.class, () -> mutable.proposeLettre('A'));
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testDifferential_InvalidInputs() {
+        MutableGameState mutable = new MutableGameState("JAVA", 6);
+        GameState immutable = new GameState("JAVA", 6);
+
+        for (char invalid : new char[] {'1', ' ', 'Œ', '×'}) {
+            assertThrows(IllegalArgumentException.class, () -> immutable.proposeLettre(invalid));
+            assertThrows(IllegalArgumentException.class, () -> mutable.proposeLettre(invalid));
+        }
+        for (String word : new String[] {"", "JA VA", "R2D2"}) {
+            assertThrows(IllegalArgumentException.class, () -> new GameState(word, 6));
+            assertThrows(IllegalArgumentException.class, () -> mutable.reset(word, 6));
+        }
+        assertThrows(IllegalArgumentException.class, () -> mutable.reset("JAVA", 0));
+        assertThrows(IllegalArgumentException.class, () -> mutable.reset(null, 6));
+        // Un échec de réinitialisation laisse la partie en cours intacte
+        assertSameGame(immutable, mutable);
+    }
+
+    /* =======================
+     * Réutilisation
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testReset_StartsFreshGame() {
+        MutableGameState state = new MutableGameState("JAVA", 2);
+        state.proposeLettre('X');
+        state.proposeLettre('Y');
+        assertEquals(GameState.Status.LOST, state.getStatus());
+
+        state.reset("pendu", 6);
+
+        assertEquals("PENDU", state.getSecretWord());
+        assertEquals(0, state.getProposedMask());
+        assertEquals(6, state.getRemainingErrors());
+        assertEquals(GameState.Status.IN_PROGRESS, state.getStatus());
+        assertEquals("_ _ _ _ _", state.getMaskedWord());
+    }
+
+    /* =======================
+     * Conversions
+     * ======================= */
+
+    /**
+     *
+     */
+    @Test
+    void testConversions() {
+        GameState played = new GameState("ÉLÈVE", 6).proposeLettre('E').proposeLettre('X');
+
+        MutableGameState mutable = new MutableGameState(played);
+        assertSameGame(played, mutable);
+
+        mutable.proposeLettre('L');
+        GameState converted = mutable.toGameState();
+        assertSameGame(converted, mutable);
+        assertEquals(played.proposeLettre('L').getMaskedWord(), converted.getMaskedWord());
+        // L'état immuable d'origine n'est pas touché
+        assertFalse(played.isLetterProposed('L'));
+
+        // Un état converti reste valide pour la restauration
+        GameState restored = GameState.restore(converted.getSecretWord(), converted.getMaxErrors(),
+                                               converted.getProposedMask(), converted.getRemainingErrors());
+        assertEquals(converted.getStatus(), restored.getStatus());
+
+        mutable.copyFrom(new GameState("JAVA", 3));
+        assertSameGame(new GameState("JAVA", 3), mutable);
+    }
+}
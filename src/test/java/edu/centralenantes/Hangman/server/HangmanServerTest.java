@@ -0,0 +1,206 @@
+package edu.centralenantes.Hangman.server;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du serveur TCP HangmanServer, avec un client sur localhost.
+ *
+ * Couvre :
+ * - déroulé d'une partie (NEW, GUESS, STATE, QUIT)
+ * - erreurs du protocole
+ * - commandes enchaînées dans une seule écriture
+ * - nombreuses connexions simultanées
+ * @author MEDEV 2026
+ */
+public class HangmanServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HangmanServer server;
+
+    /** Client ligne à ligne sur localhost. */
+    private final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final OutputStream out;
+
+        Client() throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+            socket.setSoTimeout(10_000);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = socket.getOutputStream();
+        }
+
+        void send(String lines) throws IOException {
+            out.write(lines.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        String call(String command) throws IOException {
+            send(command + "\r\n");
+            return in.readLine();
+        }
+
+        String readLine() throws IOException {
+            return in.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("dico.txt");
+        Files.write(file, "JAVA\n".getBytes(StandardCharsets.UTF_8));
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        server = new HangmanServer(dictionary);
+        server.start(0);
+    }
+
+    /**
+     *
+     */
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /* ==================== Partie ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testFullGame() throws IOException {
+        try (Client client = new Client()) {
+            assertEquals("OK ____ 6/6 IN_PROGRESS -", client.call("NEW"));
+            assertEquals("HIT _A_A 6/6 IN_PROGRESS A", client.call("GUESS a"));
+            assertEquals("MISS _A_A 5/6 IN_PROGRESS AE", client.call("guess E"));
+            assertEquals("REPEAT _A_A 5/6 IN_PROGRESS AE", client.call("GUESS A"));
+            assertEquals("OK _A_A 5/6 IN_PROGRESS AE", client.call("STATE"));
+            assertEquals("HIT JA_A 5/6 IN_PROGRESS AEJ", client.call("GUESS J"));
+            assertEquals("HIT JAVA 5/6 WON AEJV JAVA", client.call("GUESS V"));
+            assertEquals("ERR La partie est terminée", client.call("GUESS X"));
+            assertEquals("OK ____ 3/3 IN_PROGRESS -", client.call("NEW 3"));
+            assertEquals("BYE", client.call("QUIT"));
+            assertNull(client.readLine());
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLostGameRevealsWord() throws IOException {
+        try (Client client = new Client()) {
+            client.call("NEW 1");
+            assertEquals("MISS ____ 0/1 LOST Z JAVA", client.call("GUESS Z"));
+        }
+    }
+
+    /* ==================== Erreurs ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testProtocolErrors() throws IOException {
+        try (Client client = new Client()) {
+            assertTrue(client.call("STATE").startsWith("ERR Aucune partie en cours"));
+            assertTrue(client.call("GUESS A").startsWith("ERR Aucune partie en cours"));
+            assertEquals("ERR Commande inconnue : HELLO", client.call("hello"));
+            assertTrue(client.call("NEW 0").startsWith("ERR"));
+            assertTrue(client.call("NEW abc").startsWith("ERR"));
+            client.call("NEW");
+            assertEquals("ERR Entrez une seule lettre", client.call("GUESS AB"));
+            assertEquals("ERR Caractère invalide : 7", client.call("GUESS 7"));
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLineTooLongClosesConnection() throws IOException {
+        try (Client client = new Client()) {
+            client.send("X".repeat(1000));
+            assertEquals("ERR Ligne trop longue", client.readLine());
+            assertNull(client.readLine());
+        }
+    }
+
+    /* ==================== Débit ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testPipelinedCommands() throws IOException {
+        try (Client client = new Client()) {
+            StringBuilder batch = new StringBuilder("NEW\n");
+            for (int i = 0; i < 500; i++) {
+                batch.append("STATE\n");
+            }
+            client.send(batch.append("GUESS A\n").toString());
+            assertEquals("OK ____ 6/6 IN_PROGRESS -", client.readLine());
+            for (int i = 0; i < 500; i++) {
+                assertEquals("OK ____ 6/6 IN_PROGRESS -", client.readLine());
+            }
+            assertEquals("HIT _A_A 6/6 IN_PROGRESS A", client.readLine());
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testManyConcurrentConnections() throws Exception {
+        List<Client> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++) {
+                Client client = new Client();
+                clients.add(client);
+                client.send("NEW\nGUESS J\n");
+            }
+            for (Client client : clients) {
+                assertEquals("OK ____ 6/6 IN_PROGRESS -", client.readLine());
+                assertEquals("HIT J___ 6/6 IN_PROGRESS J", client.readLine());
+            }
+            assertEquals(200, server.getConnectionCount());
+        } finally {
+            for (Client client : clients) {
+                client.close();
+            }
+        }
+        for (int i = 0; i < 100 && server.getConnectionCount() > 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, server.getConnectionCount());
+    }
+}
@@ -0,0 +1,78 @@
+package edu.centralenantes.Hangman.simulation;
+
+import edu.centralenantes.Hangman.data.Dictionary;
+import edu.centralenantes.Hangman.engine.HangmanSolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe BatchSimulator.
+ *
+ * Couvre :
+ * - comptage des parties et histogramme
+ * - reproductibilité (même graine, nombre de threads différent)
+ * @author MEDEV 2026
+ */
+public class BatchSimulatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BatchSimulator simulator;
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("dico.txt");
+        Files.write(file, "JAVA\nPENDU\nCODE\nMODE\nNODE\nLAVA\nÉLÈVE\n".getBytes(StandardCharsets.UTF_8));
+        Dictionary dictionary = new Dictionary();
+        dictionary.loadFromFile(file.toString());
+        simulator = new BatchSimulator(dictionary, new HangmanSolver(dictionary), 6);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRun_CountsEveryDraw() {
+        SimulationReport report = simulator.run(10_000, 2, 42L);
+
+        assertEquals(10_000, report.getGames() + report.getSkipped());
+        assertEquals(report.getGames(), Arrays.stream(report.getErrorHistogram()).sum());
+        assertEquals(report.getWins() + report.getLosses(), report.getGames());
+        assertEquals(7, report.getErrorHistogram().length);
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRun_SameSeedSameResultWhateverTheThreads() {
+        SimulationReport single = simulator.run(20_000, 1, 7L);
+        SimulationReport parallel = simulator.run(20_000, 4, 7L);
+
+        assertEquals(single.getWins(), parallel.getWins());
+        assertEquals(single.getSkipped(), parallel.getSkipped());
+        assertArrayEquals(single.getErrorHistogram(), parallel.getErrorHistogram());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testRun_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(-1, 1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(10, 0, 0L));
+    }
+}
@@ -0,0 +1,164 @@
+package edu.centralenantes.Hangman.ui;
+
+import edu.centralenantes.Hangman.engine.GameEngine;
+import edu.centralenantes.Hangman.metrics.HangmanMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe ConsoleUI.
+ *
+ * Couvre :
+ * - une écriture et un flush par tour, avant chaque saisie
+ * - contenu de l'état affiché (lettres triées)
+ * - lecture depuis une entrée paramétrable
+ * @author MEDEV 2026
+ */
+public class ConsoleUITest {
+
+    /** Sortie qui compte les écritures et les flush. */
+    private static final class CountingOutput extends ByteArrayOutputStream {
+        int writes;
+        int flushes;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+
+    private GameEngine engine;
+    private CountingOutput out;
+
+    /**
+     *
+     */
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine();
+        engine.startNewGame("JAVA", 6);
+        engine.guessLetter('V');
+        engine.guessLetter('E');
+        engine.guessLetter('A');
+        out = new CountingOutput();
+    }
+
+    private ConsoleUI ui(String input) {
+        ConsoleUI ui = new ConsoleUI(engine,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                out, StandardCharsets.UTF_8);
+        ui.initDrawer(6);
+        return ui;
+    }
+
+    /* ==================== Affichage ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testGameStateSentWithPrompt() {
+        ConsoleUI ui = ui("j\n");
+        ui.displayGameState();
+        assertEquals(0, out.writes);
+
+        assertEquals('j', ui.askForLetter());
+        assertEquals(1, out.writes);
+        assertEquals(1, out.flushes);
+
+        String screen = out.toString(StandardCharsets.UTF_8);
+        assertTrue(screen.contains("Mot à deviner : _ A V A\n"));
+        assertTrue(screen.contains("Erreurs restantes : 5/6\n"));
+        assertTrue(screen.contains("Lettres proposées : A E V \n"));
+        assertTrue(screen.startsWith("\n" + new HangmanDrawer(6).draw(1) + "\n"));
+        assertTrue(screen.endsWith("\nProposez une lettre : "));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testTurnIsOneWrite() {
+        ConsoleUI ui = ui("z\nj\n");
+        long renders = HangmanMetrics.global().getRenderTime().getCount();
+
+        ui.displayGameState();
+        engine.guessLetter(ui.askForLetter());
+        ui.displayGuessResult('z', false, false);
+        assertEquals(1, out.writes);
+
+        // Le résultat du coup précédent part avec l'écran suivant
+        out.reset();
+        ui.displayGameState();
+        ui.askForLetter();
+        assertEquals(2, out.writes);
+        assertEquals(2, out.flushes);
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("✗ Mauvaise lettre...\n\n"));
+
+        if (HangmanMetrics.global().isEnabled()) {
+            assertEquals(renders + 2, HangmanMetrics.global().getRenderTime().getCount());
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testEndGameSentWithPrompt() {
+        engine.guessLetter('J');
+        ConsoleUI ui = ui("n\n");
+        ui.displayEndGame();
+        assertEquals(0, out.writes);
+
+        assertFalse(ui.askPlayAgain());
+        assertEquals(1, out.writes);
+        assertEquals(1, out.flushes);
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("🎉 VICTOIRE ! 🎉"));
+    }
+
+    /* ==================== Saisie ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testAskForLetterRetriesOnInvalidInput() {
+        long renders = HangmanMetrics.global().getRenderTime().getCount();
+        assertEquals('k', ui("\nab\n7\nk\n").askForLetter());
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("⚠ Vous devez entrer une lettre.\n\nProposez une lettre : "));
+        assertTrue(output.contains("⚠ Entrez une seule lettre."));
+        assertTrue(output.contains("⚠ Caractère invalide."));
+        // Une écriture par saisie, aucune ne compte comme un écran de jeu
+        assertEquals(4, out.writes);
+        assertEquals(out.writes, out.flushes);
+        assertEquals(renders, HangmanMetrics.global().getRenderTime().getCount());
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testSecretWordClearSentWithNextScreen() {
+        ConsoleUI ui = ui("pendu\n");
+        assertEquals("pendu", ui.askForSecretWord());
+        assertEquals(1, out.writes);
+
+        // L'écran effacé part avant la saisie suivante, ou à la fermeture
+        ui.close();
+        assertEquals(2, out.writes);
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n".repeat(50) + "✓ Mot secret enregistré !\n"));
+    }
+}
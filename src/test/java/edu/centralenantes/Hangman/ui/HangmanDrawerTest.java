@@ -0,0 +1,117 @@
+package edu.centralenantes.Hangman.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la classe HangmanDrawer.
+ *
+ * Couvre :
+ * - une image distincte par erreur de 1 à 10
+ * - partage du cache et forme UTF-8
+ * - valeurs hors limites
+ * @author MEDEV 2026
+ */
+public class HangmanDrawerTest {
+
+    private static final String HANGED =
+            "  +---+\n"
+          + "  |   |\n"
+          + "  O   |\n"
+          + " /|\\  |\n"
+          + " / \\  |\n"
+          + "      |\n"
+          + "=========";
+
+    /* ==================== Étapes ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testEveryErrorChangesTheDrawing() {
+        for (int maxErrors = 1; maxErrors <= HangmanDrawer.MAX_CACHED_ERRORS; maxErrors++) {
+            HangmanDrawer drawer = new HangmanDrawer(maxErrors);
+            Set<String> frames = new HashSet<>();
+            for (int errors = 0; errors <= maxErrors; errors++) {
+                frames.add(drawer.draw(errors));
+            }
+            assertEquals(maxErrors + 1, frames.size(), "maxErrors = " + maxErrors);
+        }
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLastFrameShowsFullFigure() {
+        assertEquals(HANGED, new HangmanDrawer(6).draw(6));
+        assertEquals(HANGED, new HangmanDrawer(3).draw(3));
+        assertTrue(new HangmanDrawer(10).draw(10).contains(" / \\  |\n========="));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testLargeMaxErrorsIsScaled() {
+        HangmanDrawer drawer = new HangmanDrawer(20);
+        assertEquals(new HangmanDrawer(10).draw(10), drawer.draw(20));
+        assertEquals(new HangmanDrawer(10).draw(5), drawer.draw(10));
+    }
+
+    /* ==================== Cache et UTF-8 ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testFramesAreShared() {
+        assertSame(new HangmanDrawer(7).draw(3), new HangmanDrawer(7).draw(3));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testUtf8Forms() throws IOException {
+        HangmanDrawer drawer = new HangmanDrawer(6);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        drawer.writeTo(4, out);
+        assertEquals(drawer.draw(4), out.toString(StandardCharsets.UTF_8));
+
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        drawer.writeTo(4, buffer);
+        buffer.flip();
+        assertEquals(drawer.drawUtf8(4), buffer);
+        assertTrue(drawer.drawUtf8(4).isReadOnly());
+    }
+
+    /* ==================== Limites ==================== */
+
+    /**
+     *
+     */
+    @Test
+    void testOutOfRangeErrorCountShowsLastFrame() {
+        HangmanDrawer drawer = new HangmanDrawer(6);
+        assertEquals(HANGED, drawer.draw(42));
+        assertEquals(HANGED, drawer.draw(-1));
+    }
+
+    /**
+     *
+     */
+    @Test
+    void testInvalidMaxErrors() {
+        assertThrows(IllegalArgumentException.class, () -> new HangmanDrawer(0));
+    }
+}